@@ -1,5 +1,6 @@
 package com.devonoff.config;
 
+import com.devonoff.domain.notification.util.NotificationRetentionTasklet;
 import com.devonoff.domain.studyPost.entity.StudyPost;
 import com.devonoff.domain.studyPost.repository.StudyPostRepository;
 import com.devonoff.domain.studyPost.service.StudyPostService;
@@ -26,6 +27,7 @@ public class BatchConfig {
   private final StudyPostRepository studyPostRepository;
   private final StudyPostService studyPostService;
   private final TimeProvider timeProvider;
+  private final NotificationRetentionTasklet notificationRetentionTasklet;
 
   @Bean
   public Job deleteOldStudyPostsJob(JobRepository jobRepository,
@@ -59,4 +61,21 @@ public class BatchConfig {
       return RepeatStatus.FINISHED;
     };
   }
+
+  @Bean
+  public Job deleteOldNotificationsJob(JobRepository jobRepository,
+      PlatformTransactionManager transactionManager) {
+    return new JobBuilder("deleteOldNotificationsJob", jobRepository)
+        .start(deleteOldNotificationsStep(jobRepository, transactionManager))
+        .build();
+  }
+
+  // 보관 기한이 지난 알림을 PK 범위 단위로 나눠 삭제 (범위마다 커밋)
+  @Bean
+  public Step deleteOldNotificationsStep(JobRepository jobRepository,
+      PlatformTransactionManager transactionManager) {
+    return new StepBuilder("deleteOldNotificationsStep", jobRepository)
+        .tasklet(notificationRetentionTasklet, transactionManager)
+        .build();
+  }
 }
\ No newline at end of file
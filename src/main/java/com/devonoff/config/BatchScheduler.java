@@ -1,7 +1,11 @@
 package com.devonoff.config;
 
 import com.devonoff.domain.study.service.StudyService;
+import jakarta.annotation.PreDestroy;
 import java.time.LocalDateTime;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
@@ -27,6 +31,16 @@ public class BatchScheduler {
   private final StudyService studyService;
   private final JobLauncher jobLauncher;
   private final Job deleteOldStudyPostsJob;
+  private final Job deleteOldNotificationsJob;
+
+  // 알림 정리는 허용 시간대가 끝날 때까지 실행될 수 있으므로 스케줄러 스레드를 점유하지 않도록 별도 스레드에서 실행
+  private final ExecutorService notificationJobExecutor = Executors.newSingleThreadExecutor(
+      runnable -> {
+        Thread thread = new Thread(runnable, "notification-retention-job");
+        thread.setDaemon(true);
+        return thread;
+      });
+  private final AtomicBoolean notificationJobRunning = new AtomicBoolean(false);
 
   @Scheduled(cron = "0 0 1 * * *") // 매일 01시에 실행
   public void runDeleteOldStudyPostsJob() {
@@ -42,6 +56,34 @@ public class BatchScheduler {
     }
   }
 
+  @Scheduled(cron = "0 0 3 * * *") // 매일 03시에 실행 (허용 시간대를 벗어나면 작업이 스스로 멈춤)
+  public void runDeleteOldNotificationsJob() {
+    if (!notificationJobRunning.compareAndSet(false, true)) {
+      log.warn("배치 작업 건너뜀: 이전 알림 삭제 작업이 아직 실행 중입니다. (실행 시간: {})", LocalDateTime.now());
+      return;
+    }
+    notificationJobExecutor.execute(() -> {
+      try {
+        JobParameters jobParameters = new JobParametersBuilder()
+            .addLong("timestamp", System.currentTimeMillis()) // 고유한 파라미터 추가
+            .toJobParameters();
+        jobLauncher.run(deleteOldNotificationsJob, jobParameters);
+        log.info("배치 작업 성공: 오래된 알림 삭제 작업이 완료되었습니다. (실행 시간: {})", LocalDateTime.now());
+      } catch (JobExecutionAlreadyRunningException | JobRestartException
+               | JobInstanceAlreadyCompleteException | JobParametersInvalidException e) {
+        log.error("배치 작업 실패: 오래된 알림 삭제 작업 중 오류 발생 (실행 시간: {}, 에러: {})", LocalDateTime.now(), e.getMessage(), e);
+      } finally {
+        notificationJobRunning.set(false);
+      }
+    });
+  }
+
+  // 남은 범위는 다음 실행에서 이어서 삭제
+  @PreDestroy
+  public void shutdown() {
+    notificationJobExecutor.shutdownNow();
+  }
+
   @Scheduled(cron = "0 0 0 * * *") // 매일 00시에 실행
   public void updateStudyStatuses() {
     try {
@@ -1,13 +1,9 @@
 package com.devonoff.config;
 
-import com.devonoff.util.RedisKeyExpirationListener;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.listener.PatternTopic;
-import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -36,18 +32,4 @@ public class RedisConfig {
     return template;
 
   }
-
-  @Bean
-  public RedisMessageListenerContainer redisContainer(RedisConnectionFactory connectionFactory,
-      MessageListenerAdapter listenerAdapter) {
-    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
-    container.setConnectionFactory(connectionFactory);
-    container.addMessageListener(listenerAdapter, new PatternTopic("__keyevent@0__:expired"));
-    return container;
-  }
-
-  @Bean
-  public MessageListenerAdapter listenerAdapter(RedisKeyExpirationListener listener) {
-    return new MessageListenerAdapter(listener);
-  }
 }
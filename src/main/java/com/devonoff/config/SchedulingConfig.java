@@ -0,0 +1,37 @@
+package com.devonoff.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * @Scheduled 전용 스케줄러
+ * <p>
+ * 웹소켓 브로커가 messageBrokerTaskScheduler 를 등록하면 Spring Boot 의 기본 taskScheduler 가 생성되지 않아, 주기 작업이
+ * STOMP heartbeat 스케줄러에서 실행된다. 주기 작업이 heartbeat / ICE 후보 전송을 막지 않도록 별도 스케줄러를 사용한다.
+ */
+@Configuration
+public class SchedulingConfig implements SchedulingConfigurer {
+
+  private final int poolSize;
+
+  public SchedulingConfig(@Value("${scheduling.pool-size:4}") int poolSize) {
+    this.poolSize = poolSize;
+  }
+
+  @Bean
+  public ThreadPoolTaskScheduler taskScheduler() {
+    ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+    taskScheduler.setPoolSize(poolSize);
+    taskScheduler.setThreadNamePrefix("scheduling-");
+    return taskScheduler;
+  }
+
+  @Override
+  public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+    taskRegistrar.setTaskScheduler(taskScheduler());
+  }
+}
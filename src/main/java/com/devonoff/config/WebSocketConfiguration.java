@@ -1,21 +1,107 @@
 package com.devonoff.config;
 
+import com.devonoff.domain.faceCall.util.AlarmSubscriptionInterceptor;
+import com.devonoff.domain.faceCall.util.SignalingSubscriptionInterceptor;
+import com.devonoff.util.BrokerFanoutInterceptor;
+import com.devonoff.util.ChannelMetricsInterceptor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 
+@Slf4j
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfiguration implements WebSocketMessageBrokerConfigurer {
 
+  private final BrokerFanoutInterceptor brokerFanoutInterceptor;
+  private final SignalingSubscriptionInterceptor signalingSubscriptionInterceptor;
+  private final AlarmSubscriptionInterceptor alarmSubscriptionInterceptor;
+  private final MeterRegistry meterRegistry;
+
+  @Value("${websocket.broker.mode:local}")
+  private String brokerMode;
+  @Value("${websocket.channel.inbound.mode:pool}")
+  private String inboundMode;
+  @Value("${websocket.channel.inbound.core-pool-size:8}")
+  private int inboundCorePoolSize;
+  @Value("${websocket.channel.inbound.max-pool-size:32}")
+  private int inboundMaxPoolSize;
+  // 지정하지 않으면 Spring 기본값과 같이 무제한 (지정하면 큐가 가득 찰 때 프레임이 MessageDeliveryException 으로 거절됨)
+  @Value("${websocket.channel.inbound.queue-capacity:2147483647}")
+  private int inboundQueueCapacity;
+  @Value("${websocket.channel.inbound.virtual-max-concurrency:1000}")
+  private int inboundVirtualMaxConcurrency;
+  @Value("${websocket.channel.outbound.core-pool-size:8}")
+  private int outboundCorePoolSize;
+  @Value("${websocket.channel.outbound.max-pool-size:16}")
+  private int outboundMaxPoolSize;
+  @Value("${websocket.channel.outbound.queue-capacity:2147483647}")
+  private int outboundQueueCapacity;
+
+  public WebSocketConfiguration(BrokerFanoutInterceptor brokerFanoutInterceptor,
+      SignalingSubscriptionInterceptor signalingSubscriptionInterceptor,
+      AlarmSubscriptionInterceptor alarmSubscriptionInterceptor,
+      MeterRegistry meterRegistry) {
+    this.brokerFanoutInterceptor = brokerFanoutInterceptor;
+    this.signalingSubscriptionInterceptor = signalingSubscriptionInterceptor;
+    this.alarmSubscriptionInterceptor = alarmSubscriptionInterceptor;
+    this.meterRegistry = meterRegistry;
+  }
+
   @Override
   public void configureMessageBroker(MessageBrokerRegistry config) {
+    // 로컬 구독자는 SimpleBroker 가 처리하고, /topic 메시지는 websocket.broker.mode 에 따라 다른 노드로 전파
+    // (local 이면 전파할 노드가 없으므로 전파 인터셉터를 등록하지 않음)
     config.enableSimpleBroker("/topic");
+    if (!"local".equalsIgnoreCase(brokerMode)) {
+      config.configureBrokerChannel().interceptors(brokerFanoutInterceptor);
+    }
     config.setApplicationDestinationPrefixes("/app");
   }
 
+  /**
+   * 클라이언트 인바운드 채널 실행기 설정
+   * <p>
+   * 채팅 저장 등 DB 작업과 시그널링 프레임이 같은 실행기를 사용하므로, 풀 크기를 설정으로 조정하거나 가상 스레드 모드로 블로킹 작업이
+   * 다른 프레임 처리를 막지 않도록 한다. 가상 스레드 모드는 JDK 21 이상에서 실행할 때만 적용되고, 그보다 낮은 JDK(빌드 기준 17) 에서는
+   * 스레드 풀로 실행한다.
+   */
+  @Override
+  public void configureClientInboundChannel(ChannelRegistration registration) {
+    TaskExecutor virtualExecutor = "virtual".equalsIgnoreCase(inboundMode)
+        ? virtualThreadExecutor("ws-inbound-", inboundVirtualMaxConcurrency)
+        : null;
+    if (virtualExecutor != null) {
+      registration.executor(virtualExecutor);
+    } else {
+      ThreadPoolTaskExecutor executor = threadPoolExecutor("ws-inbound-", inboundCorePoolSize,
+          inboundMaxPoolSize, inboundQueueCapacity);
+      registration.executor(executor);
+      registerQueueMetrics("inbound", executor);
+    }
+    registration.interceptors(new ChannelMetricsInterceptor("inbound", meterRegistry),
+        signalingSubscriptionInterceptor, alarmSubscriptionInterceptor);
+  }
+
+  @Override
+  public void configureClientOutboundChannel(ChannelRegistration registration) {
+    ThreadPoolTaskExecutor executor = threadPoolExecutor("ws-outbound-", outboundCorePoolSize,
+        outboundMaxPoolSize, outboundQueueCapacity);
+    registration.executor(executor);
+    registration.interceptors(new ChannelMetricsInterceptor("outbound", meterRegistry));
+    registerQueueMetrics("outbound", executor);
+  }
+
   @Override
   public void registerStompEndpoints(StompEndpointRegistry registry) {
     registry.addEndpoint("/signaling")
@@ -37,4 +123,40 @@ public class WebSocketConfiguration implements WebSocketMessageBrokerConfigurer
         .withSockJS();
   }
 
-}
\ No newline at end of file
+  // ================================= Helper methods ================================= //
+
+  private ThreadPoolTaskExecutor threadPoolExecutor(String threadNamePrefix, int corePoolSize,
+      int maxPoolSize, int queueCapacity) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setThreadNamePrefix(threadNamePrefix);
+    executor.setCorePoolSize(corePoolSize);
+    executor.setMaxPoolSize(maxPoolSize);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setAllowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  // 작업마다 새 가상 스레드를 사용하고, 동시 실행 수를 넘으면 제출한 스레드가 대기 (풀링하지 않음)
+  private TaskExecutor virtualThreadExecutor(String threadNamePrefix, int maxConcurrency) {
+    try {
+      SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+      executor.setVirtualThreads(true);
+      executor.setConcurrencyLimit(maxConcurrency);
+      return executor;
+    } catch (UnsupportedOperationException e) {
+      log.warn("가상 스레드를 지원하지 않는 JDK 라 스레드 풀로 실행합니다: {}", e.getMessage());
+      return null;
+    }
+  }
+
+  private void registerQueueMetrics(String channelName, ThreadPoolTaskExecutor executor) {
+    Gauge.builder("websocket.channel.queue.size", executor, ThreadPoolTaskExecutor::getQueueSize)
+        .tag("channel", channelName)
+        .description("처리 대기 중인 STOMP 프레임 수")
+        .register(meterRegistry);
+    Gauge.builder("websocket.channel.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+        .tag("channel", channelName)
+        .description("처리 중인 STOMP 프레임 수")
+        .register(meterRegistry);
+  }
+}
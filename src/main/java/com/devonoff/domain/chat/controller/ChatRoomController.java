@@ -1,5 +1,6 @@
 package com.devonoff.domain.chat.controller;
 
+import com.devonoff.domain.chat.dto.ChatMessageCursorResponse;
 import com.devonoff.domain.chat.dto.ChatMessageDto;
 import com.devonoff.domain.chat.dto.ChatRoomDto;
 import com.devonoff.domain.chat.service.ChatMessageService;
@@ -52,4 +53,21 @@ public class ChatRoomController {
     return ResponseEntity.ok(chatMessageService.getChatMessages(chatRoomId, page));
   }
 
+  /**
+   * 특정 채팅방의 채팅 메시지 조회 (커서 기반)
+   *
+   * @param chatRoomId
+   * @param before
+   * @param size
+   * @return ResponseEntity<ChatMessageCursorResponse>
+   */
+  @GetMapping("/{chatRoomId}/messages/cursor")
+  public ResponseEntity<ChatMessageCursorResponse> getChatMessagesBefore(
+      @PathVariable Long chatRoomId,
+      @RequestParam(required = false) Long before,
+      @RequestParam(required = false, defaultValue = "20") Integer size
+  ) {
+    return ResponseEntity.ok(chatMessageService.getChatMessagesBefore(chatRoomId, before, size));
+  }
+
 }
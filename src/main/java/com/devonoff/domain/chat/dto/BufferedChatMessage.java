@@ -0,0 +1,30 @@
+package com.devonoff.domain.chat.dto;
+
+import com.devonoff.domain.chat.entity.ChatMessage;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * DB 저장 대기 중인 채팅 메시지 (INSERT 에 필요한 컬럼만 보관)
+ */
+@Getter
+@AllArgsConstructor
+public class BufferedChatMessage {
+
+  private Long id;
+  private Long chatRoomId;
+  private Long senderId;
+  private String content;
+  private LocalDateTime createdAt;
+
+  public static BufferedChatMessage fromEntity(ChatMessage chatMessage) {
+    return new BufferedChatMessage(
+        chatMessage.getId(),
+        chatMessage.getChatRoom().getId(),
+        chatMessage.getSender().getId(),
+        chatMessage.getContent(),
+        chatMessage.getCreatedAt()
+    );
+  }
+}
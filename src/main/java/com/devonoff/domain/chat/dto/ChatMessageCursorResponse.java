@@ -0,0 +1,19 @@
+package com.devonoff.domain.chat.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatMessageCursorResponse {
+
+  private List<ChatMessageDto> content;
+  private int size;
+  private boolean hasNext;
+  private Long nextCursor; // 다음 요청의 before 값 (이번 응답의 가장 오래된 메시지 ID)
+}
@@ -8,7 +8,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
+public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>,
+    ChatMessageRepositoryCustom {
 
   Page<ChatMessage> findAllByChatRoom(ChatRoom chatRoom, Pageable pageable);
 
@@ -0,0 +1,8 @@
+package com.devonoff.domain.chat.repository;
+
+import com.devonoff.domain.chat.dto.ChatMessageCursorResponse;
+
+public interface ChatMessageRepositoryCustom {
+
+  ChatMessageCursorResponse findChatMessagesBefore(Long chatRoomId, Long beforeId, int size);
+}
@@ -0,0 +1,74 @@
+package com.devonoff.domain.chat.repository;
+
+import com.devonoff.domain.chat.dto.ChatMessageCursorResponse;
+import com.devonoff.domain.chat.dto.ChatMessageDto;
+import com.devonoff.domain.chat.entity.QChatMessage;
+import com.devonoff.domain.user.dto.UserDto;
+import com.devonoff.domain.user.entity.QUser;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageRepositoryCustomImpl implements ChatMessageRepositoryCustom {
+
+  private final JPAQueryFactory queryFactory;
+
+  /**
+   * 특정 메시지 이전의 채팅 메시지 조회 (최신순)
+   * <p>
+   * (chat_room_id, id) 인덱스 범위 스캔으로 조회 위치와 관계없이 일정한 비용이 들고, 발신자는 닉네임 / 프로필 이미지만 조인한다.
+   *
+   * @param chatRoomId
+   * @param beforeId   null 이면 가장 최근 메시지부터
+   * @param size
+   * @return ChatMessageCursorResponse
+   */
+  @Override
+  public ChatMessageCursorResponse findChatMessagesBefore(Long chatRoomId, Long beforeId,
+      int size) {
+    QChatMessage chatMessage = QChatMessage.chatMessage;
+    QUser sender = QUser.user;
+
+    BooleanBuilder builder = new BooleanBuilder(chatMessage.chatRoom.id.eq(chatRoomId));
+    if (beforeId != null) {
+      builder.and(chatMessage.id.lt(beforeId));
+    }
+
+    List<Tuple> rows = queryFactory
+        .select(chatMessage.id, chatMessage.content, chatMessage.createdAt,
+            sender.id, sender.nickname, sender.profileImage)
+        .from(chatMessage)
+        .join(chatMessage.sender, sender)
+        .where(builder)
+        .orderBy(chatMessage.id.desc())
+        .limit(size + 1L)
+        .fetch();
+
+    boolean hasNext = rows.size() > size;
+    List<ChatMessageDto> content = rows.stream()
+        .limit(size)
+        .map(row -> ChatMessageDto.builder()
+            .id(row.get(chatMessage.id))
+            .content(row.get(chatMessage.content))
+            .createdAt(row.get(chatMessage.createdAt))
+            .user(UserDto.builder()
+                .id(row.get(sender.id))
+                .nickname(row.get(sender.nickname))
+                .profileImageUrl(row.get(sender.profileImage))
+                .build())
+            .build())
+        .toList();
+
+    return ChatMessageCursorResponse.builder()
+        .content(content)
+        .size(content.size())
+        .hasNext(hasNext)
+        .nextCursor(hasNext ? content.get(content.size() - 1).getId() : null)
+        .build();
+  }
+}
@@ -1,18 +1,25 @@
 package com.devonoff.domain.chat.service;
 
+import com.devonoff.domain.chat.dto.ChatMessageCursorResponse;
 import com.devonoff.domain.chat.dto.ChatMessageDto;
 import com.devonoff.domain.chat.dto.ChatMessageRequest;
 import com.devonoff.domain.chat.entity.ChatMessage;
 import com.devonoff.domain.chat.entity.ChatRoom;
 import com.devonoff.domain.chat.repository.ChatMessageRepository;
 import com.devonoff.domain.chat.repository.ChatRoomRepository;
+import com.devonoff.domain.chat.util.ChatAccessCache;
+import com.devonoff.domain.chat.util.ChatMessageWriteBuffer;
+import com.devonoff.domain.chat.util.ChatSenderCache;
+import com.devonoff.domain.chat.util.RecentChatMessageCache;
 import com.devonoff.domain.student.repository.StudentRepository;
+import com.devonoff.domain.user.dto.UserDto;
 import com.devonoff.domain.user.entity.User;
 import com.devonoff.domain.user.repository.UserRepository;
 import com.devonoff.domain.user.service.AuthService;
 import com.devonoff.exception.CustomException;
 import com.devonoff.type.ErrorCode;
 import java.time.LocalDateTime;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -24,11 +31,19 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class ChatMessageService {
 
+  private static final int MAX_CONTENT_LENGTH = 750;
+  private static final int MAX_CURSOR_PAGE_SIZE = 100;
+  private static final int PAGE_SIZE = 20;
+
   private final ChatRoomRepository chatRoomRepository;
   private final ChatMessageRepository chatMessageRepository;
   private final StudentRepository studentRepository;
   private final UserRepository userRepository;
   private final AuthService authService;
+  private final ChatMessageWriteBuffer chatMessageWriteBuffer;
+  private final ChatAccessCache chatAccessCache;
+  private final RecentChatMessageCache recentChatMessageCache;
+  private final ChatSenderCache chatSenderCache;
 
   /**
    * 채팅 메시지 저장
@@ -38,30 +53,39 @@ public class ChatMessageService {
    * @return ChatMessageDto
    */
   public ChatMessageDto createChatMessage(Long chatRoomId, ChatMessageRequest chatMessageRequest) {
-    ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
-        .orElseThrow(() -> new CustomException(ErrorCode.CHAT_ROOM_NOT_FOUND));
+    Long studyId = getStudyIdOfChatRoom(chatRoomId);
 
     Long senderId = chatMessageRequest.getSenderId();
 
-    Boolean isExistsStudent = studentRepository.existsByUserIdAndStudyId(
-        senderId, chatRoom.getStudy().getId());
-    if (!isExistsStudent) {
-      throw new CustomException(ErrorCode.DOES_NOT_STUDENT_OF_STUDY);
+    validateStudent(senderId, studyId);
+
+    // 비동기 저장 후 실패하지 않도록 컬럼 길이 초과는 미리 거절
+    if (chatMessageRequest.getContent() != null
+        && chatMessageRequest.getContent().length() > MAX_CONTENT_LENGTH) {
+      throw new CustomException(ErrorCode.VALIDATION_FAILED);
     }
 
-    User user = userRepository.findById(senderId)
-        .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
-    return ChatMessageDto.fromEntity(
-        chatMessageRepository.save(
-            ChatMessage.builder()
-                .chatRoom(chatRoom)
-                .sender(user)
-                .content(chatMessageRequest.getContent())
-                .createdAt(LocalDateTime.now())
-                .build()
-        )
-    );
+    UserDto sender = getSender(senderId);
+
+    // ID 를 즉시 발급해 바로 브로드캐스트하고, DB 저장은 write-behind 버퍼에서 배치로 처리
+    ChatMessage chatMessage = ChatMessage.builder()
+        .id(chatMessageWriteBuffer.nextId())
+        .chatRoom(ChatRoom.builder().id(chatRoomId).build())
+        .sender(User.builder().id(senderId).build())
+        .content(chatMessageRequest.getContent())
+        .createdAt(LocalDateTime.now())
+        .build();
+    chatMessageWriteBuffer.enqueue(chatMessage);
+
+    ChatMessageDto chatMessageDto = ChatMessageDto.builder()
+        .id(chatMessage.getId())
+        .user(sender)
+        .content(chatMessage.getContent())
+        .createdAt(chatMessage.getCreatedAt())
+        .build();
+    recentChatMessageCache.append(chatRoomId, chatMessageDto);
+
+    return chatMessageDto;
   }
 
   /**
@@ -71,20 +95,94 @@ public class ChatMessageService {
    * @return List<ChatMessageDto>
    */
   public Page<ChatMessageDto> getChatMessages(Long chatRoomId, Integer page) {
+    Pageable pageable = PageRequest.of(page, PAGE_SIZE, Sort.by("createdAt").descending());
+
+    // 첫 페이지는 최근 메시지 캐시에서 응답
+    if (page == 0) {
+      Optional<Page<ChatMessageDto>> recentMessages =
+          recentChatMessageCache.getFirstPage(chatRoomId, pageable);
+      if (recentMessages.isPresent()) {
+        validateStudent(authService.getLoginUserId(), getStudyIdOfChatRoom(chatRoomId));
+        return recentMessages.get();
+      }
+    }
+
     ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
         .orElseThrow(() -> new CustomException(ErrorCode.CHAT_ROOM_NOT_FOUND));
 
     Long loginUserId = authService.getLoginUserId();
 
-    Boolean isExistsStudent = studentRepository.existsByUserIdAndStudyId(
-        loginUserId, chatRoom.getStudy().getId());
-    if (!isExistsStudent) {
-      throw new CustomException(ErrorCode.DOES_NOT_STUDENT_OF_STUDY);
+    chatAccessCache.putChatRoom(chatRoomId, chatRoom.getStudy().getId());
+    validateStudent(loginUserId, chatRoom.getStudy().getId());
+
+    Page<ChatMessageDto> chatMessages = chatMessageRepository.findAllByChatRoom(chatRoom, pageable)
+        .map(ChatMessageDto::fromEntity);
+
+    if (page == 0) {
+      recentChatMessageCache.load(chatRoomId, chatMessages.getContent(),
+          chatMessages.getTotalElements());
     }
 
-    Pageable pageable = PageRequest.of(page, 20, Sort.by("createdAt").descending());
+    return chatMessages;
+  }
 
-    return chatMessageRepository.findAllByChatRoom(chatRoom, pageable)
-        .map(ChatMessageDto::fromEntity);
+  /**
+   * 특정 채팅방의 채팅 메시지 조회 (커서 기반)
+   *
+   * @param chatRoomId
+   * @param before     이 ID 보다 이전 메시지 조회 (없으면 가장 최근 메시지부터)
+   * @param size
+   * @return ChatMessageCursorResponse
+   */
+  public ChatMessageCursorResponse getChatMessagesBefore(Long chatRoomId, Long before,
+      Integer size) {
+    Long studyId = getStudyIdOfChatRoom(chatRoomId);
+
+    validateStudent(authService.getLoginUserId(), studyId);
+
+    int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+
+    return chatMessageRepository.findChatMessagesBefore(chatRoomId, before, pageSize);
+  }
+
+  // ================================= Helper methods ================================= //
+
+  // 채팅방의 스터디 ID 조회 (캐시 우선)
+  private Long getStudyIdOfChatRoom(Long chatRoomId) {
+    Long studyId = chatAccessCache.getStudyId(chatRoomId);
+    if (studyId != null) {
+      return studyId;
+    }
+    ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
+        .orElseThrow(() -> new CustomException(ErrorCode.CHAT_ROOM_NOT_FOUND));
+    studyId = chatRoom.getStudy().getId();
+    chatAccessCache.putChatRoom(chatRoomId, studyId);
+    return studyId;
+  }
+
+  // 송신자 정보 조회 (캐시 우선)
+  private UserDto getSender(Long senderId) {
+    UserDto sender = chatSenderCache.getSender(senderId);
+    if (sender != null) {
+      return sender;
+    }
+    long version = chatSenderCache.getInvalidationVersion();
+    sender = UserDto.fromEntity(userRepository.findById(senderId)
+        .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND)));
+    chatSenderCache.putSender(senderId, sender, version);
+    return sender;
+  }
+
+  // 스터디 참가자 여부 확인 (캐시 우선)
+  private void validateStudent(Long userId, Long studyId) {
+    if (chatAccessCache.isMember(userId, studyId)) {
+      return;
+    }
+    long version = chatAccessCache.getInvalidationVersion();
+    Boolean isExistsStudent = studentRepository.existsByUserIdAndStudyId(userId, studyId);
+    if (!isExistsStudent) {
+      throw new CustomException(ErrorCode.DOES_NOT_STUDENT_OF_STUDY);
+    }
+    chatAccessCache.putMembership(userId, studyId, version);
   }
 }
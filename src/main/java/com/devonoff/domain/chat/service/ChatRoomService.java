@@ -3,6 +3,7 @@ package com.devonoff.domain.chat.service;
 import com.devonoff.domain.chat.dto.ChatRoomDto;
 import com.devonoff.domain.chat.entity.ChatRoom;
 import com.devonoff.domain.chat.repository.ChatRoomRepository;
+import com.devonoff.domain.chat.util.ChatAccessCache;
 import com.devonoff.domain.student.repository.StudentRepository;
 import com.devonoff.domain.study.entity.Study;
 import com.devonoff.domain.study.repository.StudyRepository;
@@ -21,6 +22,7 @@ public class ChatRoomService {
   private final StudentRepository studentRepository;
 
   private final AuthService authService;
+  private final ChatAccessCache chatAccessCache;
 
   /**
    * 특정 스터디의 채팅방이 있으면 Get 없으면 Create 해서 반환
@@ -38,6 +40,7 @@ public class ChatRoomService {
     Study study = studyRepository.findById(studyId)
         .orElseThrow(() -> new CustomException(ErrorCode.STUDY_NOT_FOUND));
 
+    long version = chatAccessCache.getInvalidationVersion();
     Boolean isExistsStudent = studentRepository.existsByUserIdAndStudyId(userId, studyId);
     if (!isExistsStudent) {
       throw new CustomException(ErrorCode.DOES_NOT_STUDENT_OF_STUDY);
@@ -51,6 +54,10 @@ public class ChatRoomService {
                 .build())
         );
 
+    // 입장 시 채팅 권한 캐시를 채워 메시지 송신 시에는 조회가 없도록 함
+    chatAccessCache.putChatRoom(chatRoom.getId(), studyId);
+    chatAccessCache.putMembership(userId, studyId, version);
+
     return ChatRoomDto.fromEntity(chatRoom, study.getStudyLeader().getId());
   }
 }
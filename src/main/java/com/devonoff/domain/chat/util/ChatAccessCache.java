@@ -0,0 +1,128 @@
+package com.devonoff.domain.chat.util;
+
+import com.devonoff.util.TransactionUtils;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 권한 확인용 캐시 (TTL)
+ * <p>
+ * 채팅방 ID → 스터디 ID, 사용자 ID → 참여 중인 스터디 ID 목록을 TTL 동안 보관해 메시지 송신마다 발생하던 채팅방 / 참가자 조회를 없앤다.
+ * 참가자 캐시는 확인된 참가자만 보관하고, 참가자 삭제(StudentService.removeStudent) / 회원 탈퇴(AuthService.withdrawalUser) 시
+ * 커밋 이후에 이 노드에서 제거한다. 다른 노드에는 제거가 전달되지 않으므로, 그 노드에서는 최대 TTL 동안만 이전 권한이 유지된다.
+ */
+@Component
+public class ChatAccessCache {
+
+  private final long ttlNanos;
+  private final ConcurrentHashMap<Long, Entry> chatRoomStudyIds = new ConcurrentHashMap<>();
+  // 사용자 ID → (스터디 ID → 만료 시각)
+  private final ConcurrentHashMap<Long, Map<Long, Long>> memberships = new ConcurrentHashMap<>();
+  private long invalidationVersion = 0;
+
+  public ChatAccessCache(@Value("${chat.access-cache.ttl-seconds:30}") long ttlSeconds) {
+    this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+  }
+
+  public Long getStudyId(Long chatRoomId) {
+    Entry entry = chatRoomStudyIds.get(chatRoomId);
+    if (entry == null) {
+      return null;
+    }
+    if (isExpired(entry.expiresAt, System.nanoTime())) {
+      chatRoomStudyIds.remove(chatRoomId, entry);
+      return null;
+    }
+    return entry.studyId;
+  }
+
+  public void putChatRoom(Long chatRoomId, Long studyId) {
+    if (chatRoomId != null && studyId != null) {
+      chatRoomStudyIds.put(chatRoomId, new Entry(studyId, System.nanoTime() + ttlNanos));
+    }
+  }
+
+  public boolean isMember(Long userId, Long studyId) {
+    Map<Long, Long> studyIds = memberships.get(userId);
+    if (studyIds == null) {
+      return false;
+    }
+    Long expiresAt = studyIds.get(studyId);
+    if (expiresAt == null) {
+      return false;
+    }
+    if (isExpired(expiresAt, System.nanoTime())) {
+      studyIds.remove(studyId, expiresAt);
+      return false;
+    }
+    return true;
+  }
+
+  // DB 조회 전에 읽어 두고 putMembership 에 전달 (조회 중 무효화된 결과가 캐시되지 않도록)
+  public synchronized long getInvalidationVersion() {
+    return invalidationVersion;
+  }
+
+  public synchronized void putMembership(Long userId, Long studyId, long version) {
+    if (userId == null || studyId == null || version != invalidationVersion) {
+      return;
+    }
+    memberships.computeIfAbsent(userId, key -> new ConcurrentHashMap<>())
+        .put(studyId, System.nanoTime() + ttlNanos);
+  }
+
+  public void evictMembership(Long userId, Long studyId) {
+    TransactionUtils.runAfterCommit(() -> {
+      synchronized (this) {
+        invalidationVersion++;
+        memberships.computeIfPresent(userId, (key, studyIds) -> {
+          studyIds.remove(studyId);
+          return studyIds.isEmpty() ? null : studyIds;
+        });
+      }
+    });
+  }
+
+  public void evictUser(Long userId) {
+    TransactionUtils.runAfterCommit(() -> {
+      synchronized (this) {
+        invalidationVersion++;
+        memberships.remove(userId);
+      }
+    });
+  }
+
+  // 다시 조회되지 않는 만료 항목 정리
+  @Scheduled(fixedDelayString = "${chat.access-cache.purge-interval-ms:60000}",
+      initialDelayString = "${chat.access-cache.purge-interval-ms:60000}")
+  public void purgeExpired() {
+    long now = System.nanoTime();
+    chatRoomStudyIds.values().removeIf(entry -> isExpired(entry.expiresAt, now));
+    memberships.values().forEach(studyIds ->
+        studyIds.values().removeIf(expiresAt -> isExpired(expiresAt, now)));
+    synchronized (this) {
+      memberships.values().removeIf(Map::isEmpty);
+    }
+  }
+
+  // ================================= Helper methods ================================= //
+
+  private boolean isExpired(long expiresAt, long now) {
+    return expiresAt - now <= 0;
+  }
+
+  private static class Entry {
+
+    private final Long studyId;
+    private final long expiresAt;
+
+    private Entry(Long studyId, long expiresAt) {
+      this.studyId = studyId;
+      this.expiresAt = expiresAt;
+    }
+  }
+}
@@ -0,0 +1,299 @@
+package com.devonoff.domain.chat.util;
+
+import com.devonoff.domain.chat.dto.BufferedChatMessage;
+import com.devonoff.domain.chat.entity.ChatMessage;
+import com.devonoff.exception.CustomException;
+import com.devonoff.type.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 채팅 메시지 write-behind 버퍼
+ * <p>
+ * 메시지 ID 는 모든 노드가 공유하는 Redis 시퀀스(ChatMessage:id) 에서 id-block-size 단위로 받아 즉시 발급해 브로드캐스트하고, DB
+ * 저장은 백그라운드 스레드가 JDBC 배치 INSERT 로 모아서 처리한다. 시퀀스가 없으면(최초 실행 / Redis 데이터 유실) chat_message 의
+ * MAX(id) 에 id-seed-gap 을 더한 값에서 시작해, 다른 노드 버퍼에 남아 있는 ID 와 겹치지 않도록 한다. block 이 1 보다 크면 Redis
+ * 왕복은 줄지만 노드 간 ID 순서가 송신 순서와 달라질 수 있다. 버퍼가 가득 차면 offer-timeout 동안 송신 스레드를 대기시키고(backpressure), 그래도 자리가
+ * 없으면 송신을 거절한다. 애플리케이션 종료 시에는 웹소켓 처리가 멈춘 뒤 남은 메시지를 모두 저장하고 종료한다.
+ */
+@Slf4j
+@Component
+public class ChatMessageWriteBuffer implements SmartLifecycle {
+
+  private static final String INSERT_SQL = "INSERT INTO chat_message "
+      + "(id, content, created_at, user_id, chat_room_id) VALUES (?, ?, ?, ?, ?)";
+  private static final String MAX_ID_SQL = "SELECT COALESCE(MAX(id), 0) FROM chat_message";
+  private static final String ID_KEY = "ChatMessage:id";
+  // KEYS: 시퀀스 / ARGV: block 크기 → 할당된 block 의 마지막 ID (시퀀스가 없으면 nil)
+  private static final RedisScript<Long> ALLOCATE_SCRIPT = new DefaultRedisScript<>(
+      "if redis.call('EXISTS', KEYS[1]) == 0 then return nil end "
+          + "return redis.call('INCRBY', KEYS[1], ARGV[1])", Long.class);
+  private static final long MAX_RETRY_BACKOFF_MS = 5000;
+  private static final int SHUTDOWN_MAX_ATTEMPTS = 3;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final StringRedisTemplate redisTemplate;
+  private final BlockingQueue<BufferedChatMessage> queue;
+  private final int batchSize;
+  private final long flushIntervalMs;
+  private final long offerTimeoutMs;
+  private final int idBlockSize;
+  private final long idSeedGap;
+
+  private final Counter flushedCounter;
+  private final Counter rejectedCounter;
+  private final Timer flushTimer;
+
+  private long nextId = 1;
+  private long blockEnd = 0;
+  private volatile boolean running = false;
+  private Thread flusher;
+
+  public ChatMessageWriteBuffer(JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager, StringRedisTemplate redisTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${chat.write-behind.capacity:10000}") int capacity,
+      @Value("${chat.write-behind.batch-size:500}") int batchSize,
+      @Value("${chat.write-behind.flush-interval-ms:50}") long flushIntervalMs,
+      @Value("${chat.write-behind.offer-timeout-ms:500}") long offerTimeoutMs,
+      @Value("${chat.write-behind.id-block-size:1}") int idBlockSize,
+      @Value("${chat.write-behind.id-seed-gap:100000}") long idSeedGap) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.redisTemplate = redisTemplate;
+    this.queue = new ArrayBlockingQueue<>(capacity);
+    this.batchSize = batchSize;
+    this.flushIntervalMs = flushIntervalMs;
+    this.offerTimeoutMs = offerTimeoutMs;
+    this.idBlockSize = Math.max(idBlockSize, 1);
+    this.idSeedGap = idSeedGap;
+
+    Gauge.builder("chat.write_behind.queue.size", queue, BlockingQueue::size)
+        .description("DB 저장 대기 중인 채팅 메시지 수")
+        .register(meterRegistry);
+    this.flushedCounter = Counter.builder("chat.write_behind.flushed")
+        .description("DB 에 저장된 채팅 메시지 수")
+        .register(meterRegistry);
+    this.rejectedCounter = Counter.builder("chat.write_behind.rejected")
+        .description("버퍼가 가득 차 거절된 채팅 메시지 수")
+        .register(meterRegistry);
+    this.flushTimer = Timer.builder("chat.write_behind.flush")
+        .description("채팅 메시지 배치 INSERT 소요 시간")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 채팅 메시지 ID 발급 (모든 노드에서 유일)
+   *
+   * @return 다음 메시지 ID
+   */
+  public synchronized long nextId() {
+    if (nextId > blockEnd) {
+      allocateBlock();
+    }
+    return nextId++;
+  }
+
+  /**
+   * 채팅 메시지 저장 요청 (비동기)
+   *
+   * @param chatMessage ID 가 발급된 채팅 메시지
+   */
+  public void enqueue(ChatMessage chatMessage) {
+    BufferedChatMessage message = BufferedChatMessage.fromEntity(chatMessage);
+    if (!running) {
+      // 시작 전 / 종료 후에는 바로 저장
+      write(List.of(message));
+      return;
+    }
+    try {
+      if (!queue.offer(message, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+        rejectedCounter.increment();
+        throw new CustomException(ErrorCode.CHAT_MESSAGE_BUFFER_FULL);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CustomException(ErrorCode.CHAT_MESSAGE_SEND_FAILED);
+    }
+  }
+
+  public int size() {
+    return queue.size();
+  }
+
+  @Override
+  public synchronized void start() {
+    if (running) {
+      return;
+    }
+    running = true;
+    flusher = new Thread(this::runFlusher, "chat-message-flusher");
+    flusher.start();
+  }
+
+  @Override
+  public void stop() {
+    Thread current;
+    synchronized (this) {
+      if (!running) {
+        return;
+      }
+      running = false;
+      current = flusher;
+    }
+    try {
+      current.join(TimeUnit.SECONDS.toMillis(30));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    // 플러시 스레드 종료 후 남은 메시지 저장
+    List<BufferedChatMessage> remaining = new ArrayList<>();
+    queue.drainTo(remaining);
+    if (!remaining.isEmpty()) {
+      writeWithRetry(remaining);
+    }
+    log.info("채팅 메시지 버퍼 종료 완료");
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  // 웹소켓 처리(DEFAULT_PHASE) 가 먼저 멈춘 뒤 종료되도록 한 단계 낮게 설정
+  @Override
+  public int getPhase() {
+    return SmartLifecycle.DEFAULT_PHASE - 1;
+  }
+
+  // ================================= Helper methods ================================= //
+
+  // 발급할 수 없으면 저장 / 브로드캐스트하지 않도록 송신 실패 처리
+  private void allocateBlock() {
+    try {
+      Long end = redisTemplate.execute(ALLOCATE_SCRIPT, List.of(ID_KEY),
+          String.valueOf(idBlockSize));
+      if (end == null) {
+        Long maxId = jdbcTemplate.queryForObject(MAX_ID_SQL, Long.class);
+        long seed = (maxId == null ? 0 : maxId) + idSeedGap;
+        // 그 사이 다른 노드가 만들었으면 그 값을 사용
+        redisTemplate.opsForValue().setIfAbsent(ID_KEY, String.valueOf(seed));
+        end = redisTemplate.execute(ALLOCATE_SCRIPT, List.of(ID_KEY),
+            String.valueOf(idBlockSize));
+      }
+      if (end == null) {
+        throw new IllegalStateException("채팅 메시지 ID 시퀀스가 없습니다.");
+      }
+      blockEnd = end;
+      nextId = end - idBlockSize + 1;
+    } catch (Exception e) {
+      log.error("채팅 메시지 ID 발급 실패: {}", e.getMessage(), e);
+      throw new CustomException(ErrorCode.CHAT_MESSAGE_SEND_FAILED);
+    }
+  }
+
+  private void runFlusher() {
+    while (running || !queue.isEmpty()) {
+      try {
+        BufferedChatMessage first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+        List<BufferedChatMessage> batch = new ArrayList<>(batchSize);
+        batch.add(first);
+        queue.drainTo(batch, batchSize - 1);
+        writeWithRetry(batch);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+  }
+
+  // 저장에 실패한 배치는 버리지 않고 재시도 (그동안 버퍼가 차면 송신 측에서 backpressure 발생)
+  private void writeWithRetry(List<BufferedChatMessage> batch) {
+    long backoffMs = 100;
+    int attempts = 0;
+    while (true) {
+      try {
+        write(batch);
+        return;
+      } catch (DataIntegrityViolationException e) {
+        // 제약 조건 위반 등 데이터 문제는 재시도해도 실패하므로 건별로 저장하고 실패 건만 제외
+        writeEach(batch);
+        return;
+      } catch (Exception e) {
+        attempts++;
+        if (!running && attempts >= SHUTDOWN_MAX_ATTEMPTS) {
+          log.error("채팅 메시지 저장 실패로 {}건 유실 (ID {} ~ {}): {}", batch.size(),
+              batch.get(0).getId(), batch.get(batch.size() - 1).getId(), e.getMessage(), e);
+          return;
+        }
+        log.warn("채팅 메시지 배치 저장 실패 ({}건, {}회차), {}ms 후 재시도: {}", batch.size(), attempts,
+            backoffMs, e.getMessage());
+        try {
+          Thread.sleep(backoffMs);
+        } catch (InterruptedException ie) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+        backoffMs = Math.min(backoffMs * 2, MAX_RETRY_BACKOFF_MS);
+      }
+    }
+  }
+
+  private void writeEach(List<BufferedChatMessage> batch) {
+    for (BufferedChatMessage message : batch) {
+      if (batch.size() == 1) {
+        log.error("채팅 메시지 저장 불가로 제외 (ID {}, 채팅방 {}, 발신자 {})", message.getId(),
+            message.getChatRoomId(), message.getSenderId());
+        return;
+      }
+      writeWithRetry(List.of(message));
+    }
+  }
+
+  private void write(List<BufferedChatMessage> batch) {
+    flushTimer.record(() -> transactionTemplate.executeWithoutResult(status ->
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+          @Override
+          public void setValues(PreparedStatement ps, int i) throws SQLException {
+            BufferedChatMessage message = batch.get(i);
+            ps.setLong(1, message.getId());
+            ps.setString(2, message.getContent());
+            ps.setTimestamp(3, Timestamp.valueOf(message.getCreatedAt()));
+            ps.setLong(4, message.getSenderId());
+            ps.setLong(5, message.getChatRoomId());
+          }
+
+          @Override
+          public int getBatchSize() {
+            return batch.size();
+          }
+        })));
+    flushedCounter.increment(batch.size());
+  }
+}
@@ -0,0 +1,86 @@
+package com.devonoff.domain.chat.util;
+
+import com.devonoff.domain.user.dto.UserDto;
+import com.devonoff.util.TransactionUtils;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 송신자 정보 캐시 (TTL)
+ * <p>
+ * 사용자 ID → 송신자 정보(UserDto) 를 TTL 동안 보관해 메시지 송신마다 발생하던 사용자 조회를 없앤다. 닉네임 / 프로필 이미지 변경
+ * (UserService) / 회원 탈퇴(AuthService.withdrawalUser) 시 커밋 이후에 이 노드에서 제거한다. 다른 노드에는 제거가 전달되지 않으므로,
+ * 그 노드에서 송신한 메시지에는 최대 TTL 동안 이전 닉네임 / 프로필 이미지가 실릴 수 있다.
+ */
+@Component
+public class ChatSenderCache {
+
+  private final long ttlNanos;
+  private final ConcurrentHashMap<Long, Entry> senders = new ConcurrentHashMap<>();
+  private long invalidationVersion = 0;
+
+  public ChatSenderCache(@Value("${chat.sender-cache.ttl-seconds:30}") long ttlSeconds) {
+    this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+  }
+
+  public UserDto getSender(Long userId) {
+    Entry entry = senders.get(userId);
+    if (entry == null) {
+      return null;
+    }
+    if (isExpired(entry.expiresAt, System.nanoTime())) {
+      senders.remove(userId, entry);
+      return null;
+    }
+    return entry.sender;
+  }
+
+  // DB 조회 전에 읽어 두고 putSender 에 전달 (조회 중 무효화된 결과가 캐시되지 않도록)
+  public synchronized long getInvalidationVersion() {
+    return invalidationVersion;
+  }
+
+  public synchronized void putSender(Long userId, UserDto sender, long version) {
+    if (userId == null || sender == null || version != invalidationVersion) {
+      return;
+    }
+    senders.put(userId, new Entry(sender, System.nanoTime() + ttlNanos));
+  }
+
+  public void evictSender(Long userId) {
+    TransactionUtils.runAfterCommit(() -> {
+      synchronized (this) {
+        invalidationVersion++;
+        senders.remove(userId);
+      }
+    });
+  }
+
+  // 다시 조회되지 않는 만료 항목 정리
+  @Scheduled(fixedDelayString = "${chat.sender-cache.purge-interval-ms:60000}",
+      initialDelayString = "${chat.sender-cache.purge-interval-ms:60000}")
+  public void purgeExpired() {
+    long now = System.nanoTime();
+    senders.values().removeIf(entry -> isExpired(entry.expiresAt, now));
+  }
+
+  // ================================= Helper methods ================================= //
+
+  private boolean isExpired(long expiresAt, long now) {
+    return expiresAt - now <= 0;
+  }
+
+  private static class Entry {
+
+    private final UserDto sender;
+    private final long expiresAt;
+
+    private Entry(UserDto sender, long expiresAt) {
+      this.sender = sender;
+      this.expiresAt = expiresAt;
+    }
+  }
+}
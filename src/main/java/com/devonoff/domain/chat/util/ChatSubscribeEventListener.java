@@ -0,0 +1,40 @@
+package com.devonoff.domain.chat.util;
+
+import com.devonoff.domain.chat.repository.ChatRoomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatSubscribeEventListener {
+
+  private static final String CHAT_TOPIC_PREFIX = "/topic/chat/";
+
+  private final ChatRoomRepository chatRoomRepository;
+  private final ChatAccessCache chatAccessCache;
+
+  // 채팅방 구독 시 채팅방 캐시를 미리 채워 첫 메시지 송신 시에도 채팅방 조회가 없도록 함
+  @EventListener
+  public void handleSubscribe(SessionSubscribeEvent event) {
+    String destination = StompHeaderAccessor.wrap(event.getMessage()).getDestination();
+    if (destination == null || !destination.startsWith(CHAT_TOPIC_PREFIX)) {
+      return;
+    }
+    Long chatRoomId;
+    try {
+      chatRoomId = Long.parseLong(destination.substring(CHAT_TOPIC_PREFIX.length()));
+    } catch (NumberFormatException e) {
+      return;
+    }
+    if (chatAccessCache.getStudyId(chatRoomId) != null) {
+      return;
+    }
+    chatRoomRepository.findById(chatRoomId).ifPresent(chatRoom ->
+        chatAccessCache.putChatRoom(chatRoomId, chatRoom.getStudy().getId()));
+  }
+}
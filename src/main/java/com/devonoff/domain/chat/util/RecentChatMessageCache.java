@@ -0,0 +1,225 @@
+package com.devonoff.domain.chat.util;
+
+import com.devonoff.domain.chat.dto.ChatMessageDto;
+import com.devonoff.domain.user.dto.UserDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방별 최근 메시지 캐시
+ * <p>
+ * 채팅방마다 최근 N 개의 메시지를 링 버퍼로 보관해 채팅방 입장 시의 첫 페이지 조회를 DB 없이 처리한다. 메시지 송신 시 추가되고, 채팅방은
+ * 최근 사용 순(LRU)으로 관리되어 전체 메모리 예산을 넘으면 가장 오래 사용하지 않은 채팅방부터 제거된다. 송신으로만 채워진 채팅방은 이전
+ * 메시지를 알 수 없으므로, 첫 페이지를 DB 에서 한 번 조회해 적재(load)한 뒤부터 캐시에서 응답한다.
+ * <p>
+ * 다른 노드로 송신된 메시지는 이 노드의 버퍼에 추가되지 않으므로, 여러 노드로 동작할 때(websocket.broker.mode 가 local 이 아닐
+ * 때) 는 적재 후 ttl-ms 가 지나면 DB 에서 다시 적재한다.
+ */
+@Component
+public class RecentChatMessageCache {
+
+  private static final long BASE_MESSAGE_BYTES = 200;
+
+  private final int messagesPerRoom;
+  private final long maxBytes;
+  private final long ttlMillis; // 0 이면 만료 없음
+  private final LinkedHashMap<Long, RoomBuffer> rooms = new LinkedHashMap<>(16, 0.75f, true);
+  private long totalBytes = 0;
+
+  private final Counter hitCounter;
+  private final Counter missCounter;
+
+  public RecentChatMessageCache(MeterRegistry meterRegistry,
+      @Value("${chat.recent-cache.messages-per-room:50}") int messagesPerRoom,
+      @Value("${chat.recent-cache.max-bytes:33554432}") long maxBytes,
+      @Value("${chat.recent-cache.ttl-ms:5000}") long ttlMillis,
+      @Value("${websocket.broker.mode:local}") String brokerMode) {
+    this.messagesPerRoom = messagesPerRoom;
+    this.maxBytes = maxBytes;
+    this.ttlMillis = "local".equalsIgnoreCase(brokerMode) ? 0 : Math.max(ttlMillis, 0);
+
+    Gauge.builder("chat.recent_cache.bytes", this, RecentChatMessageCache::getTotalBytes)
+        .description("최근 메시지 캐시 사용량 추정치")
+        .register(meterRegistry);
+    Gauge.builder("chat.recent_cache.rooms", this, RecentChatMessageCache::getRoomCount)
+        .description("최근 메시지 캐시에 보관 중인 채팅방 수")
+        .register(meterRegistry);
+    this.hitCounter = Counter.builder("chat.recent_cache.requests")
+        .tag("result", "hit")
+        .register(meterRegistry);
+    this.missCounter = Counter.builder("chat.recent_cache.requests")
+        .tag("result", "miss")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 송신된 메시지 추가
+   *
+   * @param chatRoomId
+   * @param message
+   */
+  public synchronized void append(Long chatRoomId, ChatMessageDto message) {
+    RoomBuffer room = rooms.computeIfAbsent(chatRoomId, key -> new RoomBuffer(messagesPerRoom));
+    totalBytes += room.add(message);
+    if (room.loaded) {
+      room.totalCount++;
+    }
+    evictIfNeeded();
+  }
+
+  /**
+   * DB 에서 조회한 첫 페이지 적재
+   *
+   * @param chatRoomId
+   * @param latest     최신순으로 정렬된 메시지
+   * @param totalCount 채팅방 전체 메시지 수
+   */
+  public synchronized void load(Long chatRoomId, List<ChatMessageDto> latest, long totalCount) {
+    RoomBuffer previous = rooms.remove(chatRoomId);
+    RoomBuffer room = new RoomBuffer(messagesPerRoom);
+
+    for (int i = Math.min(latest.size(), messagesPerRoom) - 1; i >= 0; i--) {
+      room.add(latest.get(i));
+    }
+    // DB 조회 결과에 아직 저장되지 않은(write-behind) 메시지는 송신 시 추가된 것으로 보충
+    long lastId = latest.isEmpty() ? 0 : latest.get(0).getId();
+    long pending = 0;
+    if (previous != null) {
+      totalBytes -= previous.bytes;
+      for (ChatMessageDto message : previous.oldestFirst()) {
+        if (message.getId() > lastId) {
+          room.add(message);
+          pending++;
+        }
+      }
+    }
+    room.totalCount = totalCount + pending;
+    room.loaded = true;
+    room.loadedAt = System.currentTimeMillis();
+
+    rooms.put(chatRoomId, room);
+    totalBytes += room.bytes;
+    evictIfNeeded();
+  }
+
+  /**
+   * 첫 페이지 조회
+   *
+   * @param chatRoomId
+   * @param pageable   0 페이지
+   * @return 캐시에서 응답할 수 없으면 Optional.empty()
+   */
+  public synchronized Optional<Page<ChatMessageDto>> getFirstPage(Long chatRoomId,
+      Pageable pageable) {
+    RoomBuffer room = rooms.get(chatRoomId);
+    int size = pageable.getPageSize();
+    if (room == null || !room.loaded || isExpired(room)
+        || (room.count < size && room.totalCount > room.count)) {
+      missCounter.increment();
+      return Optional.empty();
+    }
+    hitCounter.increment();
+    return Optional.of(new PageImpl<>(room.newestFirst(size), pageable, room.totalCount));
+  }
+
+  public synchronized void evict(Long chatRoomId) {
+    RoomBuffer room = rooms.remove(chatRoomId);
+    if (room != null) {
+      totalBytes -= room.bytes;
+    }
+  }
+
+  public synchronized long getTotalBytes() {
+    return totalBytes;
+  }
+
+  public synchronized int getRoomCount() {
+    return rooms.size();
+  }
+
+  // ================================= Helper methods ================================= //
+
+  private boolean isExpired(RoomBuffer room) {
+    return ttlMillis > 0 && System.currentTimeMillis() - room.loadedAt > ttlMillis;
+  }
+
+  // 가장 최근에 사용한 채팅방 하나는 남겨 둠
+  private void evictIfNeeded() {
+    Iterator<Map.Entry<Long, RoomBuffer>> iterator = rooms.entrySet().iterator();
+    while (totalBytes > maxBytes && rooms.size() > 1 && iterator.hasNext()) {
+      totalBytes -= iterator.next().getValue().bytes;
+      iterator.remove();
+    }
+  }
+
+  private static long estimateBytes(ChatMessageDto message) {
+    long chars = length(message.getContent());
+    UserDto user = message.getUser();
+    if (user != null) {
+      chars += length(user.getNickname()) + length(user.getEmail())
+          + length(user.getProfileImageUrl());
+    }
+    return BASE_MESSAGE_BYTES + chars * 2;
+  }
+
+  private static int length(String value) {
+    return value == null ? 0 : value.length();
+  }
+
+  private static class RoomBuffer {
+
+    private final ChatMessageDto[] ring;
+    private final long[] sizes;
+    private int head = 0; // 다음에 기록할 위치
+    private int count = 0;
+    private long bytes = 0;
+    private long totalCount = 0;
+    private boolean loaded = false;
+    private long loadedAt = 0;
+
+    private RoomBuffer(int capacity) {
+      this.ring = new ChatMessageDto[capacity];
+      this.sizes = new long[capacity];
+    }
+
+    // 추가로 늘어난 메모리 사용량 반환
+    private long add(ChatMessageDto message) {
+      long size = estimateBytes(message);
+      long delta = size - sizes[head];
+      ring[head] = message;
+      sizes[head] = size;
+      head = (head + 1) % ring.length;
+      count = Math.min(count + 1, ring.length);
+      bytes += delta;
+      return delta;
+    }
+
+    private List<ChatMessageDto> newestFirst(int limit) {
+      int n = Math.min(limit, count);
+      List<ChatMessageDto> result = new ArrayList<>(n);
+      for (int i = 1; i <= n; i++) {
+        result.add(ring[(head - i + ring.length) % ring.length]);
+      }
+      return result;
+    }
+
+    private List<ChatMessageDto> oldestFirst() {
+      List<ChatMessageDto> result = newestFirst(count);
+      Collections.reverse(result);
+      return result;
+    }
+  }
+}
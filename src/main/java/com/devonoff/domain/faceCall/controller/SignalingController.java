@@ -1,12 +1,12 @@
 package com.devonoff.domain.faceCall.controller;
 
-import com.devonoff.domain.faceCall.util.NicknameSessionManager;
+import com.devonoff.domain.faceCall.service.SignalingService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
-import org.springframework.messaging.handler.annotation.SendTo;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.web.bind.annotation.RestController;
 
 @Slf4j
@@ -14,53 +14,57 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class SignalingController {
 
-  private final NicknameSessionManager nicknameSessionManager;
+  private final SignalingService signalingService;
 
   @MessageMapping("/peer/offer/{nickname}/{studyId}")
-  @SendTo("/topic/peer/offer/{nickname}/{studyId}")
-  public String PeerHandleOffer(@Payload String offer,
+  public void PeerHandleOffer(@Payload String offer,
       @DestinationVariable(value = "studyId") String studyId,
-      @DestinationVariable(value = "nickname") String nickname) {
-    return offer;
+      @DestinationVariable(value = "nickname") String nickname,
+      SimpMessageHeaderAccessor headerAccessor) {
+    signalingService.sendToPeer(headerAccessor.getSessionId(),
+        "/topic/peer/offer/" + nickname + "/" + studyId, studyId, offer);
   }
 
   //iceCandidate 정보를 주고 받기 위한 webSocket
   //nickname : 각 요청하는 캠의 key , studyId : 룸 아이디
   @MessageMapping("/peer/iceCandidate/{nickname}/{studyId}")
-  @SendTo("/topic/peer/iceCandidate/{nickname}/{studyId}")
-  public String PeerHandleIceCandidate(@Payload String candidate,
+  public void PeerHandleIceCandidate(@Payload String candidate,
       @DestinationVariable(value = "studyId") String studyId,
-      @DestinationVariable(value = "nickname") String nickname) {
-    return candidate;
+      @DestinationVariable(value = "nickname") String nickname,
+      SimpMessageHeaderAccessor headerAccessor) {
+    signalingService.sendIceCandidate(headerAccessor.getSessionId(), studyId, nickname,
+        candidate);
   }
 
   @MessageMapping("/peer/answer/{nickname}/{studyId}")
-  @SendTo("/topic/peer/answer/{nickname}/{studyId}")
-  public String PeerHandleAnswer(@Payload String answer,
+  public void PeerHandleAnswer(@Payload String answer,
       @DestinationVariable(value = "studyId") String studyId,
-      @DestinationVariable(value = "nickname") String nickname) {
-    return answer;
+      @DestinationVariable(value = "nickname") String nickname,
+      SimpMessageHeaderAccessor headerAccessor) {
+    signalingService.sendToPeer(headerAccessor.getSessionId(),
+        "/topic/peer/answer/" + nickname + "/" + studyId, studyId, answer);
   }
 
-  //camKey 를 받기위해 신호를 보내는 webSocket
+  //camKey 를 받기위해 신호를 보내는 webSocket (같은 스터디룸 세션에만 전달)
   @MessageMapping("/call/key")
-  @SendTo("/topic/call/key")
-  public String callKey(@Payload String message) {
-    return message;
+  public void callKey(@Payload String message, SimpMessageHeaderAccessor headerAccessor) {
+    signalingService.sendToRoom(headerAccessor.getSessionId(), SignalingService.CALL_KEY_TOPIC,
+        message);
   }
 
-  //자신의 camKey 를 모든 연결된 세션에 보내는 webSocket
+  //자신의 camKey 를 같은 스터디룸의 세션에 보내는 webSocket
   @MessageMapping("/send/key")
-  @SendTo("/topic/send/key")
-  public String sendKey(@Payload String message) {
-    return message;
+  public void sendKey(@Payload String message, SimpMessageHeaderAccessor headerAccessor) {
+    signalingService.sendToRoom(headerAccessor.getSessionId(), SignalingService.SEND_KEY_TOPIC,
+        message);
   }
 
   @MessageMapping("/send/end/{studyId}/{nickname}")
-  @SendTo("/topic/send/end/{studyId}/{nickname}")
-  public String endCallSignal(@Payload String message,
+  public void endCallSignal(@Payload String message,
       @DestinationVariable(value = "studyId") String studyId,
-      @DestinationVariable(value = "nickname") String nickname) {
-    return message;
+      @DestinationVariable(value = "nickname") String nickname,
+      SimpMessageHeaderAccessor headerAccessor) {
+    signalingService.sendToPeer(headerAccessor.getSessionId(),
+        "/topic/send/end/" + studyId + "/" + nickname, studyId, message);
   }
 }
@@ -0,0 +1,22 @@
+package com.devonoff.domain.faceCall.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 묶어서 전달하는 iceCandidate 프레임 (version 2)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IceCandidateBatch {
+
+  public static final int VERSION = 2;
+
+  private int version;
+  private List<String> candidates; // 클라이언트가 보낸 candidate 원문 (수신 순서)
+}
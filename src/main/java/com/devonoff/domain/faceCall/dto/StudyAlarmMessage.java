@@ -0,0 +1,27 @@
+package com.devonoff.domain.faceCall.dto;
+
+import com.devonoff.type.StudyAlarmType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 스터디룸 종료 알림
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudyAlarmMessage {
+
+  private StudyAlarmType type;
+  private String message;
+
+  public static StudyAlarmMessage from(StudyAlarmType type) {
+    return StudyAlarmMessage.builder()
+        .type(type)
+        .message(type.getMessage())
+        .build();
+  }
+}
@@ -1,35 +1,36 @@
 package com.devonoff.domain.faceCall.service;
 
-import java.util.concurrent.TimeUnit;
+import com.devonoff.domain.faceCall.util.StudyAlarmScheduler;
+import com.devonoff.type.StudyAlarmType;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 public class AlarmService {
 
-  private final StringRedisTemplate stringRedisTemplate;
+  private final StudyAlarmScheduler studyAlarmScheduler;
 
   public void setAlarm(String studyId, long durationSeconds) {
-    ValueOperations<String, String> valueOperations = stringRedisTemplate.opsForValue();
-    String key = "Alarm:" + studyId;
-
-    valueOperations.set(key, "faceCall ends after " + durationSeconds + " seconds", durationSeconds,
-        TimeUnit.SECONDS);
+    schedule(StudyAlarmType.ALARM, studyId, durationSeconds);
   }
 
   public void setEnd(String studyId, long durationSeconds) {
-    ValueOperations<String, String> valueOperations = stringRedisTemplate.opsForValue();
-    String key = "End:" + studyId;
-
-    valueOperations.set(key, "faceCall ends after " + durationSeconds + " seconds", durationSeconds,
-        TimeUnit.SECONDS);
+    schedule(StudyAlarmType.END, studyId, durationSeconds);
   }
 
   public boolean isAlarmPresent(String studyId) {
-    String key = "End:" + studyId;
-    return Boolean.TRUE.equals(stringRedisTemplate.hasKey(key));
+    return studyAlarmScheduler.isScheduled(StudyAlarmType.END, studyId);
+  }
+
+  // ================================= Helper methods ================================= //
+
+  private void schedule(StudyAlarmType type, String studyId, long durationSeconds) {
+    if (durationSeconds <= 0) {
+      // 이미 종료 시각이 지난 스터디룸은 예약하지 않음
+      return;
+    }
+    studyAlarmScheduler.schedule(type, studyId,
+        System.currentTimeMillis() + durationSeconds * 1000);
   }
 }
@@ -0,0 +1,93 @@
+package com.devonoff.domain.faceCall.service;
+
+import com.devonoff.domain.faceCall.util.IceCandidateCoalescer;
+import com.devonoff.domain.faceCall.util.StudySessionRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * WebRTC 시그널링 메시지 라우팅
+ * <p>
+ * 전체 세션에 브로드캐스트하지 않고, 송신 세션이 접속한 스터디룸의 세션이나 같은 룸의 대상 참가자에게만 전달한다. 스터디룸에 접속하지 않은
+ * 세션의 메시지나 다른 스터디룸을 향한 메시지는 전달하지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SignalingService {
+
+  public static final String CALL_KEY_TOPIC = "/topic/call/key";
+  public static final String SEND_KEY_TOPIC = "/topic/send/key";
+
+  private final SimpMessagingTemplate messagingTemplate;
+  private final StudySessionRegistry studySessionRegistry;
+  private final IceCandidateCoalescer iceCandidateCoalescer;
+
+  /**
+   * 송신 세션의 스터디룸 전체에 전달 (camKey 요청 / 전달)
+   *
+   * @param sessionId 송신 세션
+   * @param topic     룸 단위로 나뉘는 토픽 (/topic/call/key, /topic/send/key)
+   * @param message
+   */
+  public void sendToRoom(String sessionId, String topic, String message) {
+    String studyId = studySessionRegistry.getStudyId(sessionId);
+    if (studyId == null) {
+      log.debug("스터디룸에 참여하지 않은 세션의 시그널링 메시지 무시 (세션 {})", sessionId);
+      return;
+    }
+    messagingTemplate.convertAndSend(getRoomTopic(topic, studyId), message);
+  }
+
+  /**
+   * 같은 스터디룸의 특정 참가자에게 전달 (offer / answer / iceCandidate / 종료 신호)
+   *
+   * @param sessionId   송신 세션
+   * @param destination 대상 참가자의 토픽 (스터디 ID 포함)
+   * @param studyId     토픽의 스터디 ID
+   * @param message
+   */
+  public void sendToPeer(String sessionId, String destination, String studyId, String message) {
+    if (isSameRoom(sessionId, studyId)) {
+      messagingTemplate.convertAndSend(destination, message);
+    }
+  }
+
+  /**
+   * 같은 스터디룸의 특정 참가자에게 iceCandidate 전달 (v2 구독자에게는 묶어서 전달)
+   *
+   * @param sessionId 송신 세션
+   * @param studyId
+   * @param nickname  대상 참가자
+   * @param candidate
+   */
+  public void sendIceCandidate(String sessionId, String studyId, String nickname,
+      String candidate) {
+    if (isSameRoom(sessionId, studyId)) {
+      iceCandidateCoalescer.submit(nickname, studyId, candidate);
+    }
+  }
+
+  /**
+   * 룸 단위 토픽 (클라이언트가 구독한 /topic/call/key 등은 구독 시 이 토픽으로 바뀜)
+   *
+   * @param topic
+   * @param studyId
+   * @return 룸 단위 토픽
+   */
+  public static String getRoomTopic(String topic, String studyId) {
+    return topic + "/" + studyId;
+  }
+
+  // ================================= Helper methods ================================= //
+
+  private boolean isSameRoom(String sessionId, String studyId) {
+    if (studyId.equals(studySessionRegistry.getStudyId(sessionId))) {
+      return true;
+    }
+    log.debug("다른 스터디룸으로 향하는 시그널링 메시지 무시 (세션 {}, 스터디 {})", sessionId, studyId);
+    return false;
+  }
+}
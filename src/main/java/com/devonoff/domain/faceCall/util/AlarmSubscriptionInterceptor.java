@@ -0,0 +1,66 @@
+package com.devonoff.domain.faceCall.util;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 참가자별 알림 토픽 구독을 스터디룸 알림 토픽으로 변경
+ * <p>
+ * 알림은 스터디룸 토픽(/topic/alarm/{studyId}) 으로 한 번만 발행되므로, 기존 클라이언트가 구독하는
+ * /topic/alarm/{studyId}/{nickname} 은 구독 시점에 스터디룸 토픽으로 바꿔 등록한다. study-alarm.destination 이
+ * nickname(참가자별 전송) 이면 변경하지 않는다.
+ */
+@Component
+public class AlarmSubscriptionInterceptor implements ChannelInterceptor {
+
+  private final boolean roomScoped;
+
+  public AlarmSubscriptionInterceptor(
+      @Value("${study-alarm.destination:room}") String destination) {
+    this.roomScoped = !"nickname".equalsIgnoreCase(destination);
+  }
+
+  @Override
+  public Message<?> preSend(Message<?> message, MessageChannel channel) {
+    if (!roomScoped) {
+      return message;
+    }
+    StompHeaderAccessor accessor =
+        MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+    if (accessor == null || accessor.getCommand() != StompCommand.SUBSCRIBE) {
+      return message;
+    }
+    String roomTopic = getRoomTopic(accessor.getDestination());
+    if (roomTopic == null) {
+      return message;
+    }
+    if (accessor.isMutable()) {
+      accessor.setDestination(roomTopic);
+      return message;
+    }
+    StompHeaderAccessor copy = StompHeaderAccessor.wrap(message);
+    copy.setDestination(roomTopic);
+    return MessageBuilder.createMessage(message.getPayload(), copy.getMessageHeaders());
+  }
+
+  // ================================= Helper methods ================================= //
+
+  // /topic/alarm/{studyId}/{nickname} → /topic/alarm/{studyId} (그 외에는 null)
+  private String getRoomTopic(String destination) {
+    if (destination == null || !destination.startsWith(StudyAlarmScheduler.ALARM_TOPIC)) {
+      return null;
+    }
+    String[] parts = destination.substring(StudyAlarmScheduler.ALARM_TOPIC.length()).split("/");
+    if (parts.length != 2 || parts[0].isEmpty()) {
+      return null;
+    }
+    return StudyAlarmScheduler.getRoomDestination(parts[0]);
+  }
+}
@@ -0,0 +1,274 @@
+package com.devonoff.domain.faceCall.util;
+
+import com.devonoff.domain.faceCall.dto.IceCandidateBatch;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+/**
+ * iceCandidate 묶음 전송
+ * <p>
+ * 같은 대상((nickname, studyId))으로 window-ms 동안 들어온 candidate 를 하나의 version 2 프레임
+ * (/topic/peer/iceCandidate/v2/{nickname}/{studyId}) 으로 묶어 보낸다. 클라이언트는 v2 토픽을 구독해 선택적으로 사용하고, 기존
+ * 토픽(/topic/peer/iceCandidate/{nickname}/{studyId}) 구독자에게는 지금처럼 candidate 마다 바로 전달한다. 어떤 토픽에 구독자가
+ * 있는지는 구독 / 구독 해제 / 연결 종료 이벤트로 추적한다.
+ * <p>
+ * 다른 노드로 메시지를 전파하는 브로커 모드(websocket.broker.mode 가 local 이 아닐 때) 에서는 토픽마다 Redis ZSET 에 구독자가 있는
+ * 노드 ID 를 마지막 갱신 시각과 함께 저장해 전체 노드 기준으로 구독자 여부를 판단한다. 조회 결과는 subscriber-cache-ms 동안 이 노드에
+ * 보관하므로, 다른 노드에서 새로 구독한 클라이언트에게는 그 시간만큼 늦게 반영될 수 있다. Redis 조회에 실패하면 구독자가 있다고 본다.
+ */
+@Slf4j
+@Component
+public class IceCandidateCoalescer {
+
+  private static final String TOPIC_PREFIX = "/topic/peer/iceCandidate/";
+  private static final String V2_TOPIC_PREFIX = TOPIC_PREFIX + "v2/";
+  private static final String SUBSCRIBER_KEY_PREFIX = "IceCandidate:subscribers:";
+
+  private final String nodeId = UUID.randomUUID().toString();
+
+  private final SimpMessagingTemplate messagingTemplate;
+  private final StringRedisTemplate redisTemplate;
+  private final TaskScheduler taskScheduler;
+  private final ObjectMapper objectMapper;
+  private final boolean enabled;
+  private final long windowMs;
+  private final boolean localBroker;
+  private final long staleAfterMillis;
+  private final long cacheMillis;
+
+  private final Map<String, List<String>> pending = new ConcurrentHashMap<>();
+  private final Map<String, Integer> subscriberCounts = new ConcurrentHashMap<>();
+  private final Map<String, Map<String, String>> sessionSubscriptions = new ConcurrentHashMap<>();
+  private final Map<String, ClusterLookup> clusterLookups = new ConcurrentHashMap<>();
+
+  private final Counter candidateCounter;
+  private final Counter v1FrameCounter;
+  private final Counter v2FrameCounter;
+  private final Counter savedFrameCounter;
+
+  public IceCandidateCoalescer(SimpMessagingTemplate messagingTemplate,
+      StringRedisTemplate redisTemplate,
+      @Qualifier("messageBrokerTaskScheduler") TaskScheduler taskScheduler,
+      ObjectMapper objectMapper, MeterRegistry meterRegistry,
+      @Value("${signaling.ice-coalescing.enabled:true}") boolean enabled,
+      @Value("${signaling.ice-coalescing.window-ms:30}") long windowMs,
+      @Value("${websocket.broker.mode:local}") String brokerMode,
+      @Value("${signaling.ice-coalescing.subscriber-refresh-interval-ms:30000}")
+      long refreshIntervalMillis,
+      @Value("${signaling.ice-coalescing.subscriber-cache-ms:1000}") long cacheMillis) {
+    this.messagingTemplate = messagingTemplate;
+    this.redisTemplate = redisTemplate;
+    this.taskScheduler = taskScheduler;
+    this.objectMapper = objectMapper;
+    this.enabled = enabled;
+    this.windowMs = windowMs;
+    this.localBroker = "local".equalsIgnoreCase(brokerMode);
+    this.staleAfterMillis = refreshIntervalMillis * 3;
+    this.cacheMillis = cacheMillis;
+
+    this.candidateCounter = Counter.builder("signaling.ice.candidates")
+        .description("수신한 iceCandidate 수")
+        .register(meterRegistry);
+    this.v1FrameCounter = Counter.builder("signaling.ice.frames")
+        .tag("version", "1")
+        .description("전송한 iceCandidate 프레임 수")
+        .register(meterRegistry);
+    this.v2FrameCounter = Counter.builder("signaling.ice.frames")
+        .tag("version", "2")
+        .description("전송한 iceCandidate 프레임 수")
+        .register(meterRegistry);
+    this.savedFrameCounter = Counter.builder("signaling.ice.frames.saved")
+        .description("묶음 전송으로 줄어든 iceCandidate 프레임 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * iceCandidate 전달
+   *
+   * @param nickname  대상 참가자
+   * @param studyId
+   * @param candidate
+   */
+  public void submit(String nickname, String studyId, String candidate) {
+    candidateCounter.increment();
+    String destination = TOPIC_PREFIX + nickname + "/" + studyId;
+    String v2Destination = V2_TOPIC_PREFIX + nickname + "/" + studyId;
+
+    boolean coalesce = enabled && hasSubscriber(v2Destination);
+    if (!coalesce || hasSubscriber(destination)) {
+      messagingTemplate.convertAndSend(destination, candidate);
+      v1FrameCounter.increment();
+    }
+    if (!coalesce) {
+      return;
+    }
+    pending.compute(v2Destination, (key, candidates) -> {
+      if (candidates == null) {
+        candidates = new ArrayList<>();
+        taskScheduler.schedule(() -> flush(key), Instant.now().plusMillis(windowMs));
+      }
+      candidates.add(candidate);
+      return candidates;
+    });
+  }
+
+  @EventListener
+  public void handleSubscribe(SessionSubscribeEvent event) {
+    StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+    String destination = accessor.getDestination();
+    if (destination == null || !destination.startsWith(TOPIC_PREFIX)
+        || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+      return;
+    }
+    sessionSubscriptions.computeIfAbsent(accessor.getSessionId(), key -> new ConcurrentHashMap<>())
+        .put(accessor.getSubscriptionId(), destination);
+    if (subscriberCounts.merge(destination, 1, Integer::sum) == 1) {
+      publish(destination);
+    }
+  }
+
+  @EventListener
+  public void handleUnsubscribe(SessionUnsubscribeEvent event) {
+    StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+    Map<String, String> subscriptions = accessor.getSessionId() == null ? null
+        : sessionSubscriptions.get(accessor.getSessionId());
+    if (subscriptions == null || accessor.getSubscriptionId() == null) {
+      return;
+    }
+    String destination = subscriptions.remove(accessor.getSubscriptionId());
+    if (destination != null) {
+      decrement(destination);
+    }
+  }
+
+  @EventListener
+  public void handleDisconnect(SessionDisconnectEvent event) {
+    Map<String, String> subscriptions = sessionSubscriptions.remove(event.getSessionId());
+    if (subscriptions != null) {
+      subscriptions.values().forEach(this::decrement);
+    }
+  }
+
+  // 이 노드에 구독자가 있는 토픽 기록 갱신, 만료된 조회 결과 정리
+  @Scheduled(fixedDelayString = "${signaling.ice-coalescing.subscriber-refresh-interval-ms:30000}",
+      initialDelayString = "${signaling.ice-coalescing.subscriber-refresh-interval-ms:30000}")
+  public void refresh() {
+    if (localBroker) {
+      return;
+    }
+    subscriberCounts.keySet().forEach(this::publish);
+    long now = System.currentTimeMillis();
+    clusterLookups.values().removeIf(lookup -> lookup.getExpiresAt() <= now);
+  }
+
+  // ================================= Helper methods ================================= //
+
+  private boolean hasSubscriber(String destination) {
+    if (subscriberCounts.containsKey(destination)) {
+      return true;
+    }
+    return !localBroker && hasClusterSubscriber(destination);
+  }
+
+  private boolean hasClusterSubscriber(String destination) {
+    long now = System.currentTimeMillis();
+    ClusterLookup cached = clusterLookups.get(destination);
+    if (cached != null && cached.getExpiresAt() > now) {
+      return cached.isPresent();
+    }
+    try {
+      Long count = redisTemplate.opsForZSet().count(getKey(destination),
+          now - staleAfterMillis, Double.POSITIVE_INFINITY);
+      boolean present = count != null && count > 0;
+      clusterLookups.put(destination, new ClusterLookup(present, now + cacheMillis));
+      return present;
+    } catch (RuntimeException e) {
+      log.warn("iceCandidate 구독자 조회 실패 ({}): {}", destination, e.getMessage());
+      return true;
+    }
+  }
+
+  private void publish(String destination) {
+    if (localBroker) {
+      return;
+    }
+    try {
+      redisTemplate.opsForZSet().add(getKey(destination), nodeId, System.currentTimeMillis());
+      redisTemplate.expire(getKey(destination), Duration.ofMillis(staleAfterMillis));
+    } catch (RuntimeException e) {
+      log.warn("iceCandidate 구독자 기록 실패 ({}): {}", destination, e.getMessage());
+    }
+  }
+
+  private void withdraw(String destination) {
+    if (localBroker) {
+      return;
+    }
+    try {
+      redisTemplate.opsForZSet().remove(getKey(destination), nodeId);
+    } catch (RuntimeException e) {
+      log.warn("iceCandidate 구독자 기록 삭제 실패 ({}): {}", destination, e.getMessage());
+    }
+  }
+
+  private void decrement(String destination) {
+    if (subscriberCounts.computeIfPresent(destination,
+        (key, count) -> count > 1 ? count - 1 : null) == null) {
+      withdraw(destination);
+    }
+  }
+
+  private String getKey(String destination) {
+    return SUBSCRIBER_KEY_PREFIX + destination;
+  }
+
+  private void flush(String v2Destination) {
+    List<String> candidates = pending.remove(v2Destination);
+    if (candidates == null || candidates.isEmpty()) {
+      return;
+    }
+    try {
+      messagingTemplate.convertAndSend(v2Destination, objectMapper.writeValueAsString(
+          IceCandidateBatch.builder()
+              .version(IceCandidateBatch.VERSION)
+              .candidates(candidates)
+              .build()));
+      v2FrameCounter.increment();
+      savedFrameCounter.increment(candidates.size() - 1);
+    } catch (JsonProcessingException e) {
+      log.error("iceCandidate 묶음 직렬화 실패 ({}): {}", v2Destination, e.getMessage());
+    }
+  }
+
+  @Getter
+  @AllArgsConstructor
+  private static class ClusterLookup {
+
+    private final boolean present;
+    private final long expiresAt;
+  }
+}
@@ -0,0 +1,52 @@
+package com.devonoff.domain.faceCall.util;
+
+import com.devonoff.domain.faceCall.service.SignalingService;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * camKey 토픽 구독을 스터디룸 단위 토픽으로 변경
+ * <p>
+ * 클라이언트는 기존처럼 /topic/call/key, /topic/send/key 를 구독하고, 서버는 구독 시점에 세션의 스터디룸 토픽
+ * (/topic/call/key/{studyId}) 으로 바꿔 등록한다. STOMP 클라이언트는 구독 ID 로 메시지를 구분하므로 클라이언트 변경 없이 같은 룸의
+ * 세션에만 전달된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SignalingSubscriptionInterceptor implements ChannelInterceptor {
+
+  private static final Set<String> ROOM_SCOPED_TOPICS =
+      Set.of(SignalingService.CALL_KEY_TOPIC, SignalingService.SEND_KEY_TOPIC);
+
+  private final StudySessionRegistry studySessionRegistry;
+
+  @Override
+  public Message<?> preSend(Message<?> message, MessageChannel channel) {
+    StompHeaderAccessor accessor =
+        MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+    if (accessor == null || accessor.getCommand() != StompCommand.SUBSCRIBE
+        || !ROOM_SCOPED_TOPICS.contains(accessor.getDestination())) {
+      return message;
+    }
+    String studyId = studySessionRegistry.getStudyId(accessor.getSessionId());
+    if (studyId == null) {
+      return message;
+    }
+    String roomTopic = SignalingService.getRoomTopic(accessor.getDestination(), studyId);
+    if (accessor.isMutable()) {
+      accessor.setDestination(roomTopic);
+      return message;
+    }
+    StompHeaderAccessor copy = StompHeaderAccessor.wrap(message);
+    copy.setDestination(roomTopic);
+    return MessageBuilder.createMessage(message.getPayload(), copy.getMessageHeaders());
+  }
+}
@@ -0,0 +1,281 @@
+package com.devonoff.domain.faceCall.util;
+
+import com.devonoff.domain.faceCall.dto.StudyAlarmMessage;
+import com.devonoff.type.StudyAlarmType;
+import com.devonoff.util.HierarchicalTimingWheel;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * 스터디룸 종료 알림 스케줄러
+ * <p>
+ * 예약은 Redis sorted set(멤버 "{타입}:{스터디 ID}", 점수 = 알림 시각)에 저장하고, 각 노드는 sync-interval 마다 곧 울릴 예약을
+ * 읽어 계층형 타이밍 휠에 올린다. 휠에서 만료된 알림은 한 번의 스크립트로 sorted set 에서 제거(선점)한 것만 전송하므로, 모든 노드가 같은
+ * 예약을 들고 있어도 알림은 한 노드에서 한 번만 나간다. 같은 tick 에 만료된 스터디룸들(같은 시각에 끝나는 룸)은 함께 선점 / 전송한다.
+ * <p>
+ * 알림은 스터디룸 토픽(/topic/alarm/{studyId}) 으로 한 번만 발행하고, 타입별 JSON 은 시작 시 한 번만 직렬화해 재사용한다.
+ * destination: nickname 이면 기존처럼 참가자별 토픽(/topic/alarm/{studyId}/{nickname}) 으로 전송하며, 참가자 목록은 전체 노드
+ * 기준(StudyRoomPresence)으로 구하고 /topic 메시지는 브로커 전파로 다른 노드의 구독자에게도 전달된다.
+ * <p>
+ * 휠 진행, Redis 동기화, 전송은 모두 단일 스레드에서 처리한다.
+ */
+@Slf4j
+@Component
+public class StudyAlarmScheduler implements SmartLifecycle {
+
+  public static final String ALARM_TOPIC = "/topic/alarm/";
+
+  private static final String SCHEDULE_KEY = "StudyAlarm:schedule";
+
+  // KEYS: 예약 목록 / ARGV: 현재 시각, 선점할 멤버 목록 → 제거에 성공한(이 노드가 선점한) 멤버 목록
+  // 그 사이 다른 노드에서 더 늦은 시각으로 다시 예약된 멤버는 선점하지 않음
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>(
+      "local claimed = {} "
+          + "for i = 2, #ARGV do "
+          + "local score = redis.call('ZSCORE', KEYS[1], ARGV[i]) "
+          + "if score and tonumber(score) <= tonumber(ARGV[1]) then "
+          + "redis.call('ZREM', KEYS[1], ARGV[i]) claimed[#claimed + 1] = ARGV[i] end "
+          + "end "
+          + "return claimed", List.class);
+
+  private final StringRedisTemplate redisTemplate;
+  private final StudyManager studyManager;
+  private final SimpMessagingTemplate messagingTemplate;
+  private final long tickMillis;
+  private final int wheelSize;
+  private final long syncIntervalMillis;
+  private final long maxLatenessMillis;
+  private final boolean nicknameDestinations;
+
+  private final Map<StudyAlarmType, byte[]> payloads = new EnumMap<>(StudyAlarmType.class);
+  private final Map<StudyAlarmType, Counter> firedCounters = new EnumMap<>(StudyAlarmType.class);
+  private final Counter droppedCounter;
+
+  // 휠 스레드에서만 접근
+  private HierarchicalTimingWheel<String> wheel;
+  private final Map<String, Long> scheduled = new HashMap<>(); // 멤버 → 휠에 올린 알림 시각
+
+  private volatile ScheduledExecutorService executor;
+
+  public StudyAlarmScheduler(
+      StringRedisTemplate redisTemplate,
+      StudyManager studyManager,
+      SimpMessagingTemplate messagingTemplate,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry,
+      @Value("${study-alarm.tick-ms:100}") long tickMillis,
+      @Value("${study-alarm.wheel-size:64}") int wheelSize,
+      @Value("${study-alarm.sync-interval-ms:30000}") long syncIntervalMillis,
+      @Value("${study-alarm.max-lateness-ms:60000}") long maxLatenessMillis,
+      @Value("${study-alarm.destination:room}") String destination
+  ) throws JsonProcessingException {
+    this.redisTemplate = redisTemplate;
+    this.studyManager = studyManager;
+    this.messagingTemplate = messagingTemplate;
+    this.tickMillis = tickMillis;
+    this.wheelSize = wheelSize;
+    this.syncIntervalMillis = syncIntervalMillis;
+    this.maxLatenessMillis = maxLatenessMillis;
+    this.nicknameDestinations = "nickname".equalsIgnoreCase(destination);
+
+    for (StudyAlarmType type : StudyAlarmType.values()) {
+      payloads.put(type, objectMapper.writeValueAsBytes(StudyAlarmMessage.from(type)));
+      firedCounters.put(type, Counter.builder("study.alarm.fired")
+          .description("전송한 스터디룸 종료 알림 수")
+          .tag("type", type.name())
+          .register(meterRegistry));
+    }
+    this.droppedCounter = Counter.builder("study.alarm.dropped")
+        .description("max-lateness 보다 늦어 전송하지 않은 알림 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 알림 예약 (같은 스터디룸의 같은 타입 알림은 덮어씀)
+   *
+   * @param type
+   * @param studyId
+   * @param fireAtMillis
+   */
+  public void schedule(StudyAlarmType type, String studyId, long fireAtMillis) {
+    String member = getMember(type, studyId);
+    redisTemplate.opsForZSet().add(SCHEDULE_KEY, member, fireAtMillis);
+    ScheduledExecutorService current = executor;
+    if (current != null) {
+      current.execute(() -> addToWheel(member, fireAtMillis));
+    }
+  }
+
+  public static String getRoomDestination(String studyId) {
+    return ALARM_TOPIC + studyId;
+  }
+
+  public boolean isScheduled(StudyAlarmType type, String studyId) {
+    return redisTemplate.opsForZSet().score(SCHEDULE_KEY, getMember(type, studyId)) != null;
+  }
+
+  @Override
+  public synchronized void start() {
+    if (executor != null) {
+      return;
+    }
+    wheel = new HierarchicalTimingWheel<>(tickMillis, wheelSize, System.currentTimeMillis());
+    executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "study-alarm-wheel");
+      thread.setDaemon(true);
+      return thread;
+    });
+    // 시작 시 바로 동기화해 이전 실행 / 다른 노드의 예약을 복구
+    executor.scheduleWithFixedDelay(this::syncSafely, 0, syncIntervalMillis,
+        TimeUnit.MILLISECONDS);
+    executor.scheduleAtFixedRate(this::tickSafely, tickMillis, tickMillis,
+        TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public synchronized void stop() {
+    if (executor == null) {
+      return;
+    }
+    // 예약은 Redis 에 남아 있으므로 다른 노드 / 다음 실행에서 이어서 처리
+    executor.shutdownNow();
+    executor = null;
+  }
+
+  @Override
+  public boolean isRunning() {
+    return executor != null;
+  }
+
+  // ================================= Helper methods ================================= //
+
+  private void syncSafely() {
+    try {
+      sync();
+    } catch (Exception e) {
+      log.warn("스터디룸 알림 예약 동기화 실패: {}", e.getMessage());
+    }
+  }
+
+  // 다음 동기화 전까지 울릴 예약을 휠에 올림 (휠 진행이 늦어도 놓치지 않도록 두 주기만큼 미리 읽음)
+  private void sync() {
+    long until = System.currentTimeMillis() + syncIntervalMillis * 2;
+    Set<TypedTuple<String>> entries = redisTemplate.opsForZSet()
+        .rangeByScoreWithScores(SCHEDULE_KEY, Double.NEGATIVE_INFINITY, until);
+    if (entries == null) {
+      return;
+    }
+    for (TypedTuple<String> entry : entries) {
+      if (entry.getValue() != null && entry.getScore() != null) {
+        addToWheel(entry.getValue(), entry.getScore().longValue());
+      }
+    }
+  }
+
+  private void addToWheel(String member, long fireAtMillis) {
+    Long previous = scheduled.put(member, fireAtMillis);
+    if (previous != null && previous == fireAtMillis) {
+      return;
+    }
+    if (!wheel.add(fireAtMillis, member)) {
+      // 이미 지난 시각이면 바로 처리
+      fire(List.of(member));
+    }
+  }
+
+  private void tickSafely() {
+    try {
+      List<String> expired = new ArrayList<>();
+      for (String member : wheel.advance(System.currentTimeMillis())) {
+        Long fireAt = scheduled.get(member);
+        // 다시 예약되어 알림 시각이 바뀐 항목은 새 시각에 처리
+        if (fireAt != null && fireAt <= System.currentTimeMillis()) {
+          expired.add(member);
+        }
+      }
+      if (!expired.isEmpty()) {
+        fire(expired);
+      }
+    } catch (Exception e) {
+      log.error("스터디룸 알림 처리 실패: {}", e.getMessage(), e);
+    }
+  }
+
+  private void fire(List<String> members) {
+    long now = System.currentTimeMillis();
+    Map<String, Long> fireAts = new HashMap<>();
+    for (String member : members) {
+      fireAts.put(member, scheduled.remove(member));
+    }
+    List<String> claimed = claim(members, now);
+    for (String member : claimed) {
+      Long fireAt = fireAts.get(member);
+      if (fireAt != null && now - fireAt > maxLatenessMillis) {
+        // 장애 등으로 너무 늦어진 알림은 전송하지 않음
+        droppedCounter.increment();
+        continue;
+      }
+      String[] parts = member.split(":");
+      send(StudyAlarmType.valueOf(parts[0]), parts[1]);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<String> claim(List<String> members, long now) {
+    List<Object> args = new ArrayList<>(members.size() + 1);
+    args.add(String.valueOf(now));
+    args.addAll(members);
+    List<String> claimed = redisTemplate.execute(CLAIM_SCRIPT, List.of(SCHEDULE_KEY),
+        args.toArray());
+    return claimed == null ? List.of() : claimed;
+  }
+
+  private void send(StudyAlarmType type, String studyId) {
+    if (nicknameDestinations) {
+      for (String nickname : studyManager.getStudyMembers(studyId)) {
+        publish(getRoomDestination(studyId) + "/" + nickname, payloads.get(type));
+      }
+    } else {
+      publish(getRoomDestination(studyId), payloads.get(type));
+    }
+    firedCounters.get(type).increment();
+  }
+
+  // 직렬화된 payload 를 그대로 발행 (메시지 컨버터를 거치지 않음)
+  private void publish(String destination, byte[] payload) {
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+    accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+    accessor.setLeaveMutable(true);
+    messagingTemplate.send(destination,
+        MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+  }
+
+  private String getMember(StudyAlarmType type, String studyId) {
+    return type.name() + ":" + studyId;
+  }
+}
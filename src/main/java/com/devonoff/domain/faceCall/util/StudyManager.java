@@ -1,8 +1,8 @@
 package com.devonoff.domain.faceCall.util;
 
-import com.devonoff.domain.study.repository.StudyRepository;
-import java.util.ArrayList;
-import java.util.concurrent.ConcurrentHashMap;
+import com.devonoff.domain.faceCall.util.StudySessionRegistry.Membership;
+import com.devonoff.domain.study.util.StudyMetadataCache;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -12,51 +12,47 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class StudyManager {
 
-  private static final ConcurrentHashMap<String, ConcurrentHashMap<String, ConcurrentHashMap<String, String>>> studySessions = new ConcurrentHashMap<>();
-  private final StudyRepository studyRepository;
+  private final StudySessionRegistry studySessionRegistry;
+  private final StudyRoomPresence studyRoomPresence;
+  private final StudyMetadataCache studyMetadataCache;
   private final TimeManager timeManager;
 
-  public static ArrayList<String> getStudyMembers(String studyId) {
-    return new ArrayList<>(studySessions.get(studyId).keySet());
+  // 전체 노드 기준 참가자 목록
+  public List<String> getStudyMembers(String studyId) {
+    return studyRoomPresence.getMembers(studyId);
   }
 
-  // 방마다 사용자 세션 추가
+  // 방마다 사용자 세션 추가 (전체 노드 기준으로 참가자가 모두 모이면 타이머 시작)
   public void addUser(String roomId, String userId, String sessionId) {
-    if (studySessions.containsKey(roomId)) {
-      manageRoom(roomId, userId, sessionId);
-    } else {
-      studySessions.put(roomId, new ConcurrentHashMap<>());
-      manageRoom(roomId, userId, sessionId);
+    Membership local = studySessionRegistry.join(sessionId, roomId, userId);
+    if (local == null || !local.isMemberChanged()) {
+      return;
     }
-  }
-
-  // 사용자 세션 제거
-  public void removeUser(String roomId, String userId, String sessionId) {
-    if (studyRepository.findById(Long.valueOf(roomId)).get().getTotalParticipants()
-        == studySessions.get(roomId).size()) {
-      timeManager.endTimer(roomId);
+    Membership membership = studyRoomPresence.join(roomId, userId);
+    if (membership.isMemberChanged()
+        && getTotalParticipants(roomId) == membership.getMemberCount()) {
+      timeManager.startTimer(roomId);
     }
-    studySessions.get(roomId).get(userId).remove(sessionId);
+  }
 
-    if (studySessions.get(roomId).get(userId).isEmpty()) {
-      studySessions.remove(userId);
+  // 사용자 세션 제거 (전체 노드 기준으로 모두 모인 상태에서 참가자가 나가면 타이머 종료)
+  public void removeUser(String sessionId) {
+    Membership local = studySessionRegistry.leave(sessionId);
+    if (local == null || !local.isMemberChanged()) {
+      return;
     }
-    if (studySessions.get(roomId).isEmpty()) {
-      studySessions.remove(roomId);
+    Membership membership = studyRoomPresence.leave(local.getStudyId(), local.getNickname());
+    if (membership.isMemberChanged()
+        && getTotalParticipants(membership.getStudyId()) == membership.getMemberCount()) {
+      timeManager.endTimer(membership.getStudyId());
     }
-
   }
 
-  private void manageRoom(String roomId, String userId, String sessionId) {
-    if (studySessions.get(roomId).containsKey(userId)) {
-      studySessions.get(roomId).get(userId).put(sessionId, "test");
-    } else {
-      studySessions.get(roomId).put(userId, new ConcurrentHashMap<>());
-      studySessions.get(roomId).get(userId).put(sessionId, "test");
-      if (studyRepository.findById(Long.valueOf(roomId)).get().getTotalParticipants()
-          == studySessions.get(roomId).size()) {
-        timeManager.startTimer(roomId);
-      }
-    }
+  // ================================= Helper methods ================================= //
+
+  private long getTotalParticipants(String roomId) {
+    return studyMetadataCache.get(Long.valueOf(roomId))
+        .map(study -> study.getTotalParticipants().longValue())
+        .orElse(-1L);
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,179 @@
+package com.devonoff.domain.faceCall.util;
+
+import com.devonoff.domain.faceCall.util.StudySessionRegistry.Membership;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스터디룸 참가자 (전체 노드 기준)
+ * <p>
+ * 스터디룸마다 Redis ZSET 에 "노드 ID|닉네임" 을 마지막 갱신 시각과 함께 저장해, 참가자가 어느 노드에 접속해 있어도 같은 참가자 수를 본다.
+ * 같은 참가자가 여러 노드에 접속해 있으면 한 명으로 센다. 노드는 자신의 참가자 기록을 주기적으로 갱신하고, 갱신되지 않은 기록(내려간 노드)은
+ * 참가자 수를 계산할 때 제외된다.
+ */
+@Slf4j
+@Component
+public class StudyRoomPresence {
+
+  private static final String KEY_PREFIX = "StudyRoom:presence:";
+
+  // 만료된 기록 정리 후 닉네임 기준 참가자 집합 / 수 계산
+  private static final String NICKNAMES_FUNCTION =
+      "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', '(' .. ARGV[4]) "
+          + "local function nicknames() local seen, count = {}, 0 "
+          + "for _, entry in ipairs(redis.call('ZRANGE', KEYS[1], 0, -1)) do "
+          + "local nickname = string.sub(entry, string.find(entry, '|', 1, true) + 1) "
+          + "if not seen[nickname] then seen[nickname] = true count = count + 1 end end "
+          + "return count end ";
+
+  // KEYS: 참가자 기록 / ARGV: 기록, 닉네임, 현재 시각, 만료 기준 시각, 키 만료(ms)
+  // 반환: [참가자 추가 여부, 입장 후 참가자 수]
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> JOIN_SCRIPT = new DefaultRedisScript<>(
+      NICKNAMES_FUNCTION
+          + "local before = nicknames() "
+          + "redis.call('ZADD', KEYS[1], ARGV[3], ARGV[1]) "
+          + "redis.call('PEXPIRE', KEYS[1], ARGV[5]) "
+          + "local after = nicknames() "
+          + "return {after > before and 1 or 0, after}", List.class);
+
+  // KEYS: 참가자 기록 / ARGV: 기록, 닉네임, 현재 시각, 만료 기준 시각
+  // 반환: [참가자 제거 여부, 퇴장 직전 참가자 수]
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> LEAVE_SCRIPT = new DefaultRedisScript<>(
+      NICKNAMES_FUNCTION
+          + "local before = nicknames() "
+          + "redis.call('ZREM', KEYS[1], ARGV[1]) "
+          + "local after = nicknames() "
+          + "return {after < before and 1 or 0, before}", List.class);
+
+  // KEYS: 참가자 기록 / ARGV: 기록, 닉네임, 현재 시각, 만료 기준 시각
+  // 반환: 닉네임 목록
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> MEMBERS_SCRIPT = new DefaultRedisScript<>(
+      "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', '(' .. ARGV[4]) "
+          + "local seen, members = {}, {} "
+          + "for _, entry in ipairs(redis.call('ZRANGE', KEYS[1], 0, -1)) do "
+          + "local nickname = string.sub(entry, string.find(entry, '|', 1, true) + 1) "
+          + "if not seen[nickname] then seen[nickname] = true "
+          + "table.insert(members, nickname) end end "
+          + "return members", List.class);
+
+  // KEYS: 참가자 기록 / ARGV: 현재 시각, 키 만료(ms), 기록... (그 사이 퇴장한 기록은 다시 만들지 않음)
+  private static final RedisScript<Long> REFRESH_SCRIPT = new DefaultRedisScript<>(
+      "for i = 3, #ARGV do redis.call('ZADD', KEYS[1], 'XX', ARGV[1], ARGV[i]) end "
+          + "redis.call('PEXPIRE', KEYS[1], ARGV[2]) "
+          + "return 1", Long.class);
+
+  private final String nodeId = UUID.randomUUID().toString();
+
+  private final StringRedisTemplate redisTemplate;
+  private final StudySessionRegistry studySessionRegistry;
+  private final long staleAfterMillis;
+
+  public StudyRoomPresence(
+      StringRedisTemplate redisTemplate,
+      StudySessionRegistry studySessionRegistry,
+      @Value("${study-room-presence.refresh-interval-ms:30000}") long refreshIntervalMillis,
+      @Value("${study-room-presence.stale-refreshes:3}") int staleRefreshes
+  ) {
+    this.redisTemplate = redisTemplate;
+    this.studySessionRegistry = studySessionRegistry;
+    this.staleAfterMillis = refreshIntervalMillis * Math.max(staleRefreshes, 1);
+  }
+
+  /**
+   * 스터디룸 입장 (이 노드에 해당 참가자의 첫 세션이 생겼을 때 호출)
+   *
+   * @param studyId
+   * @param nickname
+   * @return 전체 노드 기준 입장 결과
+   */
+  public Membership join(String studyId, String nickname) {
+    long now = System.currentTimeMillis();
+    List<?> result = redisTemplate.execute(JOIN_SCRIPT, List.of(getKey(studyId)),
+        getEntry(nickname), nickname, String.valueOf(now),
+        String.valueOf(now - staleAfterMillis), String.valueOf(staleAfterMillis));
+    return toMembership(studyId, nickname, result);
+  }
+
+  /**
+   * 스터디룸 퇴장 (이 노드에서 해당 참가자의 마지막 세션이 끊겼을 때 호출)
+   *
+   * @param studyId
+   * @param nickname
+   * @return 전체 노드 기준 퇴장 결과 (참가자 수는 퇴장 직전 기준)
+   */
+  public Membership leave(String studyId, String nickname) {
+    long now = System.currentTimeMillis();
+    List<?> result = redisTemplate.execute(LEAVE_SCRIPT, List.of(getKey(studyId)),
+        getEntry(nickname), nickname, String.valueOf(now),
+        String.valueOf(now - staleAfterMillis));
+    return toMembership(studyId, nickname, result);
+  }
+
+  /**
+   * 전체 노드 기준 참가자 목록
+   *
+   * @param studyId
+   * @return 닉네임 목록
+   */
+  public List<String> getMembers(String studyId) {
+    long now = System.currentTimeMillis();
+    List<?> result = redisTemplate.execute(MEMBERS_SCRIPT, List.of(getKey(studyId)),
+        "", "", String.valueOf(now), String.valueOf(now - staleAfterMillis));
+    List<String> members = new ArrayList<>();
+    if (result != null) {
+      result.forEach(nickname -> members.add(String.valueOf(nickname)));
+    }
+    return members;
+  }
+
+  // 이 노드에 접속해 있는 참가자 기록 갱신
+  @Scheduled(fixedDelayString = "${study-room-presence.refresh-interval-ms:30000}",
+      initialDelayString = "${study-room-presence.refresh-interval-ms:30000}")
+  public void refresh() {
+    String now = String.valueOf(System.currentTimeMillis());
+    for (String studyId : studySessionRegistry.getStudyIds()) {
+      List<String> args = new ArrayList<>();
+      args.add(now);
+      args.add(String.valueOf(staleAfterMillis));
+      studySessionRegistry.getMembers(studyId).forEach(nickname -> args.add(getEntry(nickname)));
+      if (args.size() == 2) {
+        continue;
+      }
+      try {
+        redisTemplate.execute(REFRESH_SCRIPT, List.of(getKey(studyId)), args.toArray());
+      } catch (RuntimeException e) {
+        log.warn("스터디룸 참가자 기록 갱신 실패 (studyId: {}): {}", studyId, e.getMessage());
+      }
+    }
+  }
+
+  // ================================= Helper methods ================================= //
+
+  private Membership toMembership(String studyId, String nickname, List<?> result) {
+    if (result == null || result.size() < 2) {
+      return new Membership(studyId, nickname, false, 0);
+    }
+    boolean memberChanged = ((Number) result.get(0)).longValue() == 1L;
+    int memberCount = ((Number) result.get(1)).intValue();
+    return new Membership(studyId, nickname, memberChanged, memberCount);
+  }
+
+  private String getEntry(String nickname) {
+    return nodeId + "|" + nickname;
+  }
+
+  private String getKey(String studyId) {
+    return KEY_PREFIX + studyId;
+  }
+}
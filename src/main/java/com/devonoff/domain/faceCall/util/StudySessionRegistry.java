@@ -0,0 +1,172 @@
+package com.devonoff.domain.faceCall.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스터디룸 세션 저장소
+ * <p>
+ * 연결(세션)마다 하나의 기록(스터디 ID, 닉네임)을 보관하고, 스터디룸별로 참가자(닉네임) → 세션 목록을 관리한다. 스터디룸 상태 변경은 모두
+ * 해당 룸 키의 compute 안에서 처리되어 동시 입장 / 퇴장에도 check-then-act 경쟁이 없고, 마지막 세션이 나가면 룸도 함께 제거된다.
+ */
+@Component
+public class StudySessionRegistry {
+
+  private final ConcurrentHashMap<String, StudySession> sessions = new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<String, Room> rooms = new ConcurrentHashMap<>();
+
+  /**
+   * 스터디룸 입장
+   *
+   * @param sessionId
+   * @param studyId
+   * @param nickname
+   * @return 입장 결과 (같은 세션이 이미 등록되어 있으면 null)
+   */
+  public Membership join(String sessionId, String studyId, String nickname) {
+    StudySession session = new StudySession(sessionId, studyId, nickname);
+    if (sessions.putIfAbsent(sessionId, session) != null) {
+      return null;
+    }
+    Membership[] result = new Membership[1];
+    rooms.compute(studyId, (key, room) -> {
+      Room target = room == null ? new Room() : room;
+      boolean newMember = target.add(nickname, sessionId);
+      result[0] = new Membership(studyId, nickname, newMember, target.getMemberCount());
+      return target;
+    });
+    return result[0];
+  }
+
+  /**
+   * 스터디룸 퇴장
+   *
+   * @param sessionId
+   * @return 퇴장 결과 (등록되지 않은 세션이면 null)
+   */
+  public Membership leave(String sessionId) {
+    StudySession session = sessions.remove(sessionId);
+    if (session == null) {
+      return null;
+    }
+    Membership[] result = new Membership[1];
+    rooms.computeIfPresent(session.getStudyId(), (key, room) -> {
+      int memberCount = room.getMemberCount();
+      boolean memberLeft = room.remove(session.getNickname(), sessionId);
+      // 퇴장 결과의 참가자 수는 퇴장 직전 기준
+      result[0] = new Membership(session.getStudyId(), session.getNickname(), memberLeft,
+          memberCount);
+      return room.getMemberCount() == 0 ? null : room;
+    });
+    return result[0];
+  }
+
+  public String getStudyId(String sessionId) {
+    StudySession session = sessionId == null ? null : sessions.get(sessionId);
+    return session == null ? null : session.getStudyId();
+  }
+
+  public String getNickname(String sessionId) {
+    StudySession session = sessionId == null ? null : sessions.get(sessionId);
+    return session == null ? null : session.getNickname();
+  }
+
+  // O(1)
+  public int getMemberCount(String studyId) {
+    Room room = rooms.get(studyId);
+    return room == null ? 0 : room.getMemberCount();
+  }
+
+  public List<String> getMembers(String studyId) {
+    List<String> members = new ArrayList<>();
+    rooms.computeIfPresent(studyId, (key, room) -> {
+      members.addAll(room.getNicknames());
+      return room;
+    });
+    return members;
+  }
+
+  // 이 노드에 참가자가 접속해 있는 스터디룸 ID 목록
+  public Set<String> getStudyIds() {
+    return new HashSet<>(rooms.keySet());
+  }
+
+  public int getRoomCount() {
+    return rooms.size();
+  }
+
+  public int getSessionCount() {
+    return sessions.size();
+  }
+
+  @Getter
+  @AllArgsConstructor
+  private static class StudySession {
+
+    private final String sessionId;
+    private final String studyId;
+    private final String nickname;
+  }
+
+  /**
+   * 입장 / 퇴장 결과
+   */
+  @Getter
+  @AllArgsConstructor
+  public static class Membership {
+
+    private final String studyId;
+    private final String nickname;
+    private final boolean memberChanged; // 참가자 자체가 추가 / 제거되었는지 (같은 참가자의 다른 세션이면 false)
+    private final int memberCount;
+  }
+
+  // 룸 키의 compute 안에서만 접근
+  private static class Room {
+
+    private final Map<String, Set<String>> memberSessions = new HashMap<>();
+    private volatile int memberCount = 0; // compute 밖에서 읽는 참가자 수
+
+    private boolean add(String nickname, String sessionId) {
+      Set<String> sessionIds = memberSessions.get(nickname);
+      boolean newMember = sessionIds == null;
+      if (newMember) {
+        sessionIds = new HashSet<>();
+        memberSessions.put(nickname, sessionIds);
+        memberCount = memberSessions.size();
+      }
+      sessionIds.add(sessionId);
+      return newMember;
+    }
+
+    private boolean remove(String nickname, String sessionId) {
+      Set<String> sessionIds = memberSessions.get(nickname);
+      if (sessionIds == null) {
+        return false;
+      }
+      sessionIds.remove(sessionId);
+      if (sessionIds.isEmpty()) {
+        memberSessions.remove(nickname);
+        memberCount = memberSessions.size();
+        return true;
+      }
+      return false;
+    }
+
+    private int getMemberCount() {
+      return memberCount;
+    }
+
+    private Set<String> getNicknames() {
+      return memberSessions.keySet();
+    }
+  }
+}
@@ -1,28 +1,191 @@
 package com.devonoff.domain.faceCall.util;
 
 import com.devonoff.domain.studyTimeline.service.StudyTimelineService;
+import java.time.Instant;
 import java.time.LocalDateTime;
-import java.util.concurrent.ConcurrentHashMap;
-import lombok.RequiredArgsConstructor;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+/**
+ * 화상 스터디 타이머
+ * <p>
+ * 시작 시각과 마지막 체크포인트 시각을 Redis 에 저장해 재시작 / 여러 노드에서도 진행 중인 세션이 유지된다. 시작은 HSETNX, 종료는
+ * 조회 + 삭제를 한 스크립트로 처리해 여러 노드가 같은 룸의 시작 / 종료를 감지해도 타임라인은 한 번만 기록된다. 참가자가 접속해 있는 노드는
+ * 주기적으로 체크포인트를 갱신하고, 체크포인트가 오래된 타이머(모든 노드가 내려갔거나 종료를 놓친 경우)는 마지막 체크포인트까지만 기록 후
+ * 정리한다.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class TimeManager {
 
-  private final ConcurrentHashMap<String, LocalDateTime> timer = new ConcurrentHashMap<>();
+  private static final String TIMER_KEY_PREFIX = "StudyTimer:";
+  private static final String ACTIVE_TIMERS_KEY = "StudyTimer:active";
+
+  // KEYS: 타이머, 진행 중 목록 / ARGV: 스터디 ID, 시작 시각, 체크포인트 시각
+  private static final RedisScript<Long> START_SCRIPT = new DefaultRedisScript<>(
+      "if redis.call('HSETNX', KEYS[1], 'startedAt', ARGV[2]) == 0 then return 0 end "
+          + "redis.call('HSET', KEYS[1], 'checkpointAt', ARGV[3]) "
+          + "redis.call('SADD', KEYS[2], ARGV[1]) "
+          + "return 1", Long.class);
+
+  // KEYS: 타이머 / ARGV: 체크포인트 시각 (종료된 타이머는 다시 만들지 않음)
+  private static final RedisScript<Long> CHECKPOINT_SCRIPT = new DefaultRedisScript<>(
+      "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end "
+          + "redis.call('HSET', KEYS[1], 'checkpointAt', ARGV[1]) "
+          + "return 1", Long.class);
+
+  // KEYS: 타이머, 진행 중 목록 / ARGV: 스터디 ID, 체크포인트 기준 시각 (빈 값이면 조건 없이 종료)
+  // 반환: "시작 시각:체크포인트 시각" (종료할 타이머가 없으면 nil)
+  private static final RedisScript<String> END_SCRIPT = new DefaultRedisScript<>(
+      "local startedAt = redis.call('HGET', KEYS[1], 'startedAt') "
+          + "if not startedAt then redis.call('SREM', KEYS[2], ARGV[1]) return nil end "
+          + "local checkpointAt = redis.call('HGET', KEYS[1], 'checkpointAt') or startedAt "
+          + "if ARGV[2] ~= '' and tonumber(checkpointAt) > tonumber(ARGV[2]) then return nil end "
+          + "redis.call('DEL', KEYS[1]) "
+          + "redis.call('SREM', KEYS[2], ARGV[1]) "
+          + "return startedAt .. ':' .. checkpointAt", String.class);
+
   private final StudyTimelineService studyTimelineService;
+  private final StudySessionRegistry studySessionRegistry;
+  private final StringRedisTemplate redisTemplate;
+  private final long staleAfterMillis;
+
+  public TimeManager(
+      StudyTimelineService studyTimelineService,
+      StudySessionRegistry studySessionRegistry,
+      StringRedisTemplate redisTemplate,
+      @Value("${study-timer.checkpoint-interval-ms:30000}") long checkpointIntervalMillis,
+      @Value("${study-timer.stale-checkpoints:3}") int staleCheckpoints
+  ) {
+    this.studyTimelineService = studyTimelineService;
+    this.studySessionRegistry = studySessionRegistry;
+    this.redisTemplate = redisTemplate;
+    this.staleAfterMillis = checkpointIntervalMillis * Math.max(staleCheckpoints, 1);
+  }
 
   public void startTimer(String studyId) {
-    timer.put(studyId, LocalDateTime.now());
+    long now = System.currentTimeMillis();
+    if (start(studyId, now, now)) {
+      return;
+    }
+    // 이전 세션이 정리되지 않은 채 남아 있으면 마지막 체크포인트까지 기록하고 새로 시작
+    if (closeIfStale(studyId, now) && start(studyId, now, now)) {
+      return;
+    }
+    log.debug("이미 진행 중인 타이머를 이어서 사용합니다. (studyId: {})", studyId);
   }
 
   public void endTimer(String studyId) {
-    studyTimelineService.saveStudyTimeline(Long.valueOf(studyId), timer.get(studyId),
-        LocalDateTime.now());
-    timer.remove(studyId);
+    long now = System.currentTimeMillis();
+    Long[] timer = close(studyId, "");
+    if (timer == null) {
+      // 다른 노드가 먼저 종료했거나 시작되지 않은 타이머
+      return;
+    }
+    try {
+      studyTimelineService.saveStudyTimeline(Long.valueOf(studyId), toLocalDateTime(timer[0]),
+          toLocalDateTime(now));
+    } catch (RuntimeException e) {
+      // 기록에 실패하면 타이머를 되돌려 다음 종료 / 복구 때 다시 기록
+      start(studyId, timer[0], now);
+      throw e;
+    }
+  }
+
+  /**
+   * 체크포인트 갱신
+   * <p>
+   * 이 노드에 참가자가 접속해 있는 룸의 타이머는 체크포인트를 갱신하고, 어느 노드에서도 갱신하지 않아 오래된 타이머는 마지막
+   * 체크포인트까지 기록 후 정리한다.
+   */
+  @Scheduled(fixedDelayString = "${study-timer.checkpoint-interval-ms:30000}",
+      initialDelayString = "${study-timer.checkpoint-interval-ms:30000}")
+  public void checkpoint() {
+    long now = System.currentTimeMillis();
+    for (String studyId : getActiveStudyIds()) {
+      if (studySessionRegistry.getMemberCount(studyId) > 0) {
+        redisTemplate.execute(CHECKPOINT_SCRIPT, List.of(getTimerKey(studyId)),
+            String.valueOf(now));
+      } else {
+        closeIfStale(studyId, now);
+      }
+    }
+  }
+
+  // 시작 시 이전 실행에서 정리되지 않은 타이머 복구
+  @EventListener(ApplicationReadyEvent.class)
+  public void recover() {
+    long now = System.currentTimeMillis();
+    int recovered = 0;
+    for (String studyId : getActiveStudyIds()) {
+      if (closeIfStale(studyId, now)) {
+        recovered++;
+      }
+    }
+    if (recovered > 0) {
+      log.info("정리되지 않은 스터디 타이머 {}건을 마지막 체크포인트 기준으로 기록했습니다.", recovered);
+    }
+  }
+
+  // ================================= Helper methods ================================= //
+
+  private boolean start(String studyId, long startedAt, long checkpointAt) {
+    Long result = redisTemplate.execute(START_SCRIPT,
+        List.of(getTimerKey(studyId), ACTIVE_TIMERS_KEY),
+        studyId, String.valueOf(startedAt), String.valueOf(checkpointAt));
+    return result != null && result == 1L;
+  }
+
+  // 체크포인트가 오래된 타이머를 마지막 체크포인트까지 기록 후 정리
+  private boolean closeIfStale(String studyId, long now) {
+    Long[] timer = close(studyId, String.valueOf(now - staleAfterMillis));
+    if (timer == null) {
+      return false;
+    }
+    if (timer[1] > timer[0]) {
+      try {
+        studyTimelineService.saveStudyTimeline(Long.valueOf(studyId),
+            toLocalDateTime(timer[0]), toLocalDateTime(timer[1]));
+      } catch (RuntimeException e) {
+        log.error("스터디 타이머 복구 기록 실패 (studyId: {})", studyId, e);
+        start(studyId, timer[0], timer[1]);
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // [시작 시각, 체크포인트 시각] (종료할 타이머가 없으면 null)
+  private Long[] close(String studyId, String staleBefore) {
+    String result = redisTemplate.execute(END_SCRIPT,
+        List.of(getTimerKey(studyId), ACTIVE_TIMERS_KEY), studyId, staleBefore);
+    if (result == null) {
+      return null;
+    }
+    String[] times = result.split(":");
+    return new Long[]{Long.valueOf(times[0]), Long.valueOf(times[1])};
   }
 
+  private Set<String> getActiveStudyIds() {
+    Set<String> studyIds = redisTemplate.opsForSet().members(ACTIVE_TIMERS_KEY);
+    return studyIds == null ? Set.of() : studyIds;
+  }
+
+  private String getTimerKey(String studyId) {
+    return TIMER_KEY_PREFIX + studyId;
+  }
+
+  private LocalDateTime toLocalDateTime(long epochMillis) {
+    return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+  }
 }
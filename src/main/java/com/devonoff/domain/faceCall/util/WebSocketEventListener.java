@@ -1,7 +1,7 @@
 package com.devonoff.domain.faceCall.util;
 
 import com.devonoff.domain.faceCall.service.AlarmService;
-import com.devonoff.domain.study.repository.StudyRepository;
+import com.devonoff.domain.study.util.StudyMetadataCache;
 import com.devonoff.domain.user.repository.UserRepository;
 import com.devonoff.exception.CustomException;
 import com.devonoff.type.ErrorCode;
@@ -20,12 +20,10 @@ import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 @RequiredArgsConstructor
 public class WebSocketEventListener {
 
-  private final NicknameSessionManager nicknameSessionManager;
   private final StudyManager studyManager;
-  private final StudyIdSessionManager studyIdSessionManager;
   private final UserRepository userRepository;
   private final AlarmService alarmService;
-  private final StudyRepository studyRepository;
+  private final StudyMetadataCache studyMetadataCache;
 
   @EventListener
   public void handleSessionConnect(SessionConnectEvent event) {
@@ -35,10 +33,8 @@ public class WebSocketEventListener {
     String nickname = String.valueOf(
         headerAccessor.getNativeHeader("nickname").get(0));
     String studyId = String.valueOf(headerAccessor.getNativeHeader("studyId").get(0));
-    nicknameSessionManager.addUser(sessionId, nickname);
-    studyIdSessionManager.addUser(sessionId, studyId);
     studyManager.addUser(studyId, nickname, sessionId);
-    LocalTime endTime = studyRepository.findById(Long.parseLong(studyId))
+    LocalTime endTime = studyMetadataCache.get(Long.parseLong(studyId))
         .orElseThrow(() -> new CustomException(
             ErrorCode.STUDY_NOT_FOUND)).getEndTime();
     LocalTime now = LocalTime.now();
@@ -56,10 +52,6 @@ public class WebSocketEventListener {
     StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
     // 연결 종료된 사용자 정보 가져오기
     String sessionId = headerAccessor.getSessionId();
-    String studyId = studyIdSessionManager.getStudyId(sessionId);
-    String nickname = nicknameSessionManager.getNickname(sessionId);
-    studyManager.removeUser(studyId, nickname, sessionId);
-    studyIdSessionManager.removeUser(sessionId);
-    nicknameSessionManager.removeUser(sessionId);
+    studyManager.removeUser(sessionId);
   }
 }
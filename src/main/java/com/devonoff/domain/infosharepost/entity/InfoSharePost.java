@@ -1,6 +1,7 @@
 package com.devonoff.domain.infosharepost.entity;
 
 import com.devonoff.common.entity.BaseTimeEntity;
+import com.devonoff.domain.search.util.TitleSearchIndexListener;
 import com.devonoff.domain.user.entity.User;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -23,7 +24,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, TitleSearchIndexListener.class})
 public class InfoSharePost extends BaseTimeEntity {
 
   @Id
@@ -1,6 +1,8 @@
 package com.devonoff.domain.infosharepost.repository;
 
 import com.devonoff.domain.infosharepost.entity.InfoSharePost;
+import com.devonoff.domain.search.dto.PostTitle;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -13,4 +15,6 @@ public interface InfoSharePostRepository extends JpaRepository<InfoSharePost, Lo
 
   Page<InfoSharePost> findAllByUserIdAndTitleContaining(Long userId, String search,
       Pageable pageable);
+
+  List<PostTitle> findAllProjectedBy();
 }
@@ -19,6 +19,7 @@ import com.devonoff.domain.infosharepost.repository.InfoShareReplyRepository;
 import com.devonoff.domain.notification.dto.NotificationDto;
 import com.devonoff.domain.notification.service.NotificationService;
 import com.devonoff.domain.photo.service.PhotoService;
+import com.devonoff.domain.search.service.TitleSearchService;
 import com.devonoff.domain.user.dto.UserDto;
 import com.devonoff.domain.user.entity.User;
 import com.devonoff.domain.user.repository.UserRepository;
@@ -52,6 +53,7 @@ public class InfoSharePostService {
   private final PhotoService photoService;
   private final AuthService authService;
   private final NotificationService notificationService;
+  private final TitleSearchService titleSearchService;
 
   @Value("${spring.data.web.pageable.default-page-size}")
   private Integer defaultPageSize;
@@ -77,8 +79,15 @@ public class InfoSharePostService {
 
   public Page<InfoSharePostDto> getInfoSharePosts(Integer page, String search) {
     Pageable pageable = PageRequest.of(page, defaultPageSize, Sort.by("createdAt").descending());
-    return this.infoSharePostRepository.findAllByTitleContaining(search,
-        pageable).map(InfoSharePostDto::fromEntity);
+    if (search == null || search.isBlank()) {
+      return this.infoSharePostRepository.findAllByTitleContaining(search,
+          pageable).map(InfoSharePostDto::fromEntity);
+    }
+    // 제목 검색 인덱스 사용 (관련도순), 인덱스 준비 전에는 LIKE 검색
+    return this.titleSearchService.searchPage(PostType.INFO, search, pageable,
+            this.infoSharePostRepository::findAllById, InfoSharePost::getId)
+        .orElseGet(() -> this.infoSharePostRepository.findAllByTitleContaining(search, pageable))
+        .map(InfoSharePostDto::fromEntity);
   }
 
   public Page<InfoSharePostDto> getInfoSharePostsByUserId(Long userId, Integer page,
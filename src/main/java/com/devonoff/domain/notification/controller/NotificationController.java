@@ -1,6 +1,8 @@
 package com.devonoff.domain.notification.controller;
 
-import com.devonoff.domain.notification.dto.NotificationDto;
+import com.devonoff.domain.notification.dto.NotificationContentResponse;
+import com.devonoff.domain.notification.dto.NotificationCountResponse;
+import com.devonoff.domain.notification.dto.NotificationSummaryDto;
 import com.devonoff.domain.notification.service.NotificationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -22,14 +24,30 @@ public class NotificationController {
   private final NotificationService notificationService;
 
   @GetMapping
-  public ResponseEntity<Page<NotificationDto>> getNotifications(@RequestParam int page) {
-    Page<NotificationDto> result = notificationService.getNotificationsByUserId(page);
+  public ResponseEntity<Page<NotificationSummaryDto>> getNotifications(
+      @RequestParam int page) {
+    Page<NotificationSummaryDto> result = notificationService.getNotificationsByUserId(page);
+    return ResponseEntity.ok(result);
+  }
+
+  @GetMapping("/unread-count")
+  public ResponseEntity<NotificationCountResponse> getUnreadCount() {
+    NotificationCountResponse result = notificationService.getUnreadCount();
+    return ResponseEntity.ok(result);
+  }
+
+  @GetMapping("/{notificationId}/content")
+  public ResponseEntity<NotificationContentResponse> getNotificationContent(
+      @PathVariable Long notificationId) {
+    NotificationContentResponse result = notificationService.getNotificationContent(
+        notificationId);
     return ResponseEntity.ok(result);
   }
 
   @PostMapping("/{notificationId}")
-  public ResponseEntity<NotificationDto> readNotification(@PathVariable Long notificationId) {
-    NotificationDto result = notificationService.readNotification(notificationId);
+  public ResponseEntity<NotificationSummaryDto> readNotification(
+      @PathVariable Long notificationId) {
+    NotificationSummaryDto result = notificationService.readNotification(notificationId);
     return ResponseEntity.ok(result);
   }
 
@@ -39,12 +57,16 @@ public class NotificationController {
   }
 
   @PatchMapping("/user/{userId}")
-  public void readNotifications(@PathVariable Long userId) {
-    notificationService.readNotifications(userId);
+  public ResponseEntity<NotificationCountResponse> readNotifications(
+      @PathVariable Long userId) {
+    NotificationCountResponse result = notificationService.readNotifications(userId);
+    return ResponseEntity.ok(result);
   }
 
   @DeleteMapping("/user/{userId}")
-  public void deleteNotifications(@PathVariable Long userId) {
-    notificationService.deleteNotifications(userId);
+  public ResponseEntity<NotificationCountResponse> deleteNotifications(
+      @PathVariable Long userId) {
+    NotificationCountResponse result = notificationService.deleteNotifications(userId);
+    return ResponseEntity.ok(result);
   }
 }
@@ -0,0 +1,41 @@
+package com.devonoff.domain.notification.dto;
+
+import com.devonoff.domain.notification.entity.Notification;
+import com.devonoff.type.NotificationType;
+import com.devonoff.type.PostType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 알림 전체 내용 (게시글 본문 / 댓글 / 답글)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationContentResponse {
+
+  private Long id;
+  private NotificationType type;
+  private PostType postType;
+  private Long targetId;
+  private String postTitle;
+  private String postContent;
+  private String commentContent;
+  private String replyContent;
+
+  public static NotificationContentResponse of(Notification notification, String postContent) {
+    return NotificationContentResponse.builder()
+        .id(notification.getId())
+        .type(notification.getType())
+        .postType(notification.getPostType())
+        .targetId(notification.getTargetId())
+        .postTitle(notification.getPostTitle())
+        .postContent(postContent)
+        .commentContent(notification.getCommentContent())
+        .replyContent(notification.getReplyContent())
+        .build();
+  }
+}
@@ -68,4 +68,26 @@ public class NotificationDto {
         .build();
   }
 
+  /**
+   * 수신자만 바꾼 알림 복사 (여러 사용자에게 같은 알림을 보낼 때 사용)
+   *
+   * @param notificationDto
+   * @param userId          수신자
+   * @return 수신자별 알림
+   */
+  public static NotificationDto forRecipient(NotificationDto notificationDto, Long userId) {
+    return NotificationDto.builder()
+        .userId(userId)
+        .sender(notificationDto.getSender())
+        .type(notificationDto.getType())
+        .postType(notificationDto.getPostType())
+        .postTitle(notificationDto.getPostTitle())
+        .postContent(notificationDto.getPostContent())
+        .commentContent(notificationDto.getCommentContent())
+        .replyContent(notificationDto.getReplyContent())
+        .studyName(notificationDto.getStudyName())
+        .targetId(notificationDto.getTargetId())
+        .isRead(notificationDto.isRead())
+        .build();
+  }
 }
@@ -0,0 +1,44 @@
+package com.devonoff.domain.notification.dto;
+
+import com.devonoff.domain.user.dto.UserDto;
+import com.devonoff.domain.user.entity.User;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 알림 발신자 (id / 닉네임 / 프로필 이미지만 포함)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationSenderDto {
+
+  private Long id;
+  private String nickname;
+  private String profileImageUrl;
+
+  public static NotificationSenderDto from(UserDto userDto) {
+    if (userDto == null) {
+      return null;
+    }
+    return NotificationSenderDto.builder()
+        .id(userDto.getId())
+        .nickname(userDto.getNickname())
+        .profileImageUrl(userDto.getProfileImageUrl())
+        .build();
+  }
+
+  public static NotificationSenderDto fromEntity(User user) {
+    if (user == null) {
+      return null;
+    }
+    return NotificationSenderDto.builder()
+        .id(user.getId())
+        .nickname(user.getNickname())
+        .profileImageUrl(user.getProfileImage())
+        .build();
+  }
+}
@@ -0,0 +1,99 @@
+package com.devonoff.domain.notification.dto;
+
+import com.devonoff.domain.notification.entity.Notification;
+import com.devonoff.type.NotificationType;
+import com.devonoff.type.PostType;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 알림 목록 / 웹소켓 전송용 요약 (/topic/notifications/{userId})
+ * <p>
+ * 본문 / 댓글 / 답글 전체 대신 PREVIEW_LENGTH 자까지의 미리보기만 담고, 전체 내용은
+ * GET /api/notification/{notificationId}/content 로 조회한다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationSummaryDto {
+
+  public static final int PREVIEW_LENGTH = 100;
+  private static final String ELLIPSIS = "...";
+
+  private Long id;
+  private Long userId;
+  private NotificationSenderDto sender;
+  private NotificationType type;
+  private PostType postType;
+  private String postTitle;
+  private String studyName;
+  private Long targetId;
+  private String preview;
+  private boolean isRead;
+  private LocalDateTime createdAt;
+
+  public static NotificationSummaryDto from(NotificationDto notificationDto) {
+    return NotificationSummaryDto.builder()
+        .id(notificationDto.getId())
+        .userId(notificationDto.getUserId())
+        .sender(NotificationSenderDto.from(notificationDto.getSender()))
+        .type(notificationDto.getType())
+        .postType(notificationDto.getPostType())
+        .postTitle(notificationDto.getPostTitle())
+        .studyName(notificationDto.getStudyName())
+        .targetId(notificationDto.getTargetId())
+        .preview(preview(notificationDto.getType(), notificationDto.getPostContent(),
+            notificationDto.getCommentContent(), notificationDto.getReplyContent()))
+        .isRead(notificationDto.isRead())
+        .createdAt(notificationDto.getCreatedAt())
+        .build();
+  }
+
+  public static NotificationSummaryDto fromEntity(Notification notification) {
+    return NotificationSummaryDto.builder()
+        .id(notification.getId())
+        .userId(notification.getUserId())
+        .sender(NotificationSenderDto.fromEntity(notification.getSender()))
+        .type(notification.getType())
+        .postType(notification.getPostType())
+        .postTitle(notification.getPostTitle())
+        .studyName(notification.getStudyName())
+        .targetId(notification.getTargetId())
+        .preview(preview(notification.getType(), notification.getPostContent(),
+            notification.getCommentContent(), notification.getReplyContent()))
+        .isRead(notification.isRead())
+        .createdAt(notification.getCreatedAt())
+        .build();
+  }
+
+  /**
+   * PREVIEW_LENGTH 자까지 자르기 (이모지 등 서로게이트 쌍은 나누지 않음)
+   *
+   * @param content
+   * @return 미리보기
+   */
+  public static String truncate(String content) {
+    if (content == null || content.codePointCount(0, content.length()) <= PREVIEW_LENGTH) {
+      return content;
+    }
+    return content.substring(0, content.offsetByCodePoints(0, PREVIEW_LENGTH)) + ELLIPSIS;
+  }
+
+  // ================================= Helper methods ================================= //
+
+  // 댓글 / 답글 알림은 해당 내용을, 나머지는 게시글 본문을 미리보기로 사용
+  private static String preview(NotificationType type, String postContent,
+      String commentContent, String replyContent) {
+    if (type == NotificationType.REPLY_ADDED) {
+      return truncate(replyContent);
+    }
+    if (type == NotificationType.COMMENT_ADDED) {
+      return truncate(commentContent);
+    }
+    return truncate(postContent);
+  }
+}
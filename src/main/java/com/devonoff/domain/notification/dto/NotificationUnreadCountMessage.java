@@ -0,0 +1,28 @@
+package com.devonoff.domain.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 읽지 않은 알림 수 변경 (/topic/notifications/{userId})
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationUnreadCountMessage {
+
+  public static final String TYPE = "UNREAD_COUNT";
+
+  private String type; // 알림(NotificationSummaryDto) 과 구분하기 위한 메시지 타입
+  private long unreadCount;
+
+  public static NotificationUnreadCountMessage of(long unreadCount) {
+    return NotificationUnreadCountMessage.builder()
+        .type(TYPE)
+        .unreadCount(unreadCount)
+        .build();
+  }
+}
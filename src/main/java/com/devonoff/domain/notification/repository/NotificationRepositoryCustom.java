@@ -0,0 +1,18 @@
+package com.devonoff.domain.notification.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+
+public interface NotificationRepositoryCustom {
+
+  long markAllAsReadByUserId(Long userId);
+
+  long deleteAllInBulkByUserId(Long userId);
+
+  Map<Long, Long> countUnreadByUserIds(Collection<Long> userIds, LocalDateTime createdAfter);
+
+  Long findNextExpiredId(Long fromId, LocalDateTime cutoff);
+
+  long deleteExpiredInIdRange(Long fromId, Long toId, LocalDateTime cutoff);
+}
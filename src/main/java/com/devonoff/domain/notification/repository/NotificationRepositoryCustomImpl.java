@@ -0,0 +1,124 @@
+package com.devonoff.domain.notification.repository;
+
+import com.devonoff.domain.notification.entity.QNotification;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class NotificationRepositoryCustomImpl implements NotificationRepositoryCustom {
+
+  private final JPAQueryFactory queryFactory;
+
+  /**
+   * 사용자의 읽지 않은 알림을 한 번의 UPDATE 로 모두 읽음 처리
+   * <p>
+   * 벌크 연산은 auditing 을 거치지 않으므로 수정 시각을 직접 갱신한다.
+   *
+   * @param userId
+   * @return 읽음 처리된 알림 수
+   */
+  @Override
+  public long markAllAsReadByUserId(Long userId) {
+    QNotification notification = QNotification.notification;
+
+    return queryFactory.update(notification)
+        .set(notification.isRead, true)
+        .set(notification.updatedAt, LocalDateTime.now())
+        .where(notification.userId.eq(userId), notification.isRead.isFalse())
+        .execute();
+  }
+
+  /**
+   * 사용자의 알림을 한 번의 DELETE 로 모두 삭제
+   *
+   * @param userId
+   * @return 삭제된 알림 수
+   */
+  @Override
+  public long deleteAllInBulkByUserId(Long userId) {
+    QNotification notification = QNotification.notification;
+
+    return queryFactory.delete(notification)
+        .where(notification.userId.eq(userId))
+        .execute();
+  }
+
+  /**
+   * 사용자별 읽지 않은 알림 수 (한 번의 GROUP BY 조회)
+   *
+   * @param userIds
+   * @param createdAfter 이 시각 이후에 생성된 알림만 셈
+   * @return 사용자 ID → 읽지 않은 알림 수 (없는 사용자는 포함되지 않음)
+   */
+  @Override
+  public Map<Long, Long> countUnreadByUserIds(Collection<Long> userIds,
+      LocalDateTime createdAfter) {
+    QNotification notification = QNotification.notification;
+
+    Map<Long, Long> counts = new HashMap<>();
+    if (userIds.isEmpty()) {
+      return counts;
+    }
+    for (Tuple tuple : queryFactory
+        .select(notification.userId, notification.count())
+        .from(notification)
+        .where(notification.userId.in(userIds), notification.isRead.isFalse(),
+            notification.createdAt.after(createdAfter))
+        .groupBy(notification.userId)
+        .fetch()) {
+      counts.put(tuple.get(notification.userId), tuple.get(notification.count()));
+    }
+    return counts;
+  }
+
+  /**
+   * fromId 이후 첫 알림이 보관 기한(cutoff) 이전에 생성되었으면 그 ID 를 반환
+   * <p>
+   * ID 는 생성 순서대로 증가하므로 PK 로 한 건만 확인해 남은 삭제 대상이 있는지 판단한다.
+   *
+   * @param fromId
+   * @param cutoff
+   * @return 삭제 대상 시작 ID (더 이상 없으면 null)
+   */
+  @Override
+  public Long findNextExpiredId(Long fromId, LocalDateTime cutoff) {
+    QNotification notification = QNotification.notification;
+
+    Tuple first = queryFactory
+        .select(notification.id, notification.createdAt)
+        .from(notification)
+        .where(notification.id.goe(fromId))
+        .orderBy(notification.id.asc())
+        .limit(1)
+        .fetchOne();
+    if (first == null || !first.get(notification.createdAt).isBefore(cutoff)) {
+      return null;
+    }
+    return first.get(notification.id);
+  }
+
+  /**
+   * [fromId, toId) 범위에서 보관 기한이 지난 알림 삭제 (PK 범위로만 잠금)
+   *
+   * @param fromId
+   * @param toId
+   * @param cutoff
+   * @return 삭제된 알림 수
+   */
+  @Override
+  public long deleteExpiredInIdRange(Long fromId, Long toId, LocalDateTime cutoff) {
+    QNotification notification = QNotification.notification;
+
+    return queryFactory.delete(notification)
+        .where(notification.id.goe(fromId), notification.id.lt(toId),
+            notification.createdAt.before(cutoff))
+        .execute();
+  }
+}
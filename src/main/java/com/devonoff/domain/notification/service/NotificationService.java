@@ -1,21 +1,35 @@
 package com.devonoff.domain.notification.service;
 
+import com.devonoff.domain.infosharepost.entity.InfoSharePost;
+import com.devonoff.domain.infosharepost.repository.InfoSharePostRepository;
+import com.devonoff.domain.notification.dto.NotificationContentResponse;
+import com.devonoff.domain.notification.dto.NotificationCountResponse;
 import com.devonoff.domain.notification.dto.NotificationDto;
+import com.devonoff.domain.notification.dto.NotificationSummaryDto;
 import com.devonoff.domain.notification.entity.Notification;
 import com.devonoff.domain.notification.repository.NotificationRepository;
+import com.devonoff.domain.notification.util.NotificationDispatcher;
+import com.devonoff.domain.notification.util.UnreadNotificationCounter;
+import com.devonoff.domain.qnapost.entity.QnaPost;
+import com.devonoff.domain.qnapost.repository.QnaPostRepository;
+import com.devonoff.domain.studyPost.entity.StudyPost;
+import com.devonoff.domain.studyPost.repository.StudyPostRepository;
 import com.devonoff.domain.user.service.AuthService;
 import com.devonoff.exception.CustomException;
 import com.devonoff.type.ErrorCode;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,30 +38,79 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class NotificationService {
 
+  // 알림 목록 / 읽지 않은 알림 수에 포함되는 기간
+  public static final int VISIBLE_DAYS = 14;
+
   private final NotificationRepository notificationRepository;
-  private final SimpMessagingTemplate messagingTemplate;
+  private final NotificationDispatcher notificationDispatcher;
+  private final UnreadNotificationCounter unreadNotificationCounter;
   private final AuthService authService;
+  private final StudyPostRepository studyPostRepository;
+  private final QnaPostRepository qnaPostRepository;
+  private final InfoSharePostRepository infoSharePostRepository;
 
   public void sendNotificationToUser(Long userId, NotificationDto notificationDto) {
     if (Objects.equals(userId, notificationDto.getSender().getId())) {
       return;
     }
-    Notification notification = notificationRepository.save(
-        NotificationDto.toEntity(notificationDto));
-    notificationDto.setId(notification.getId());
-    notificationDto.setCreatedAt(notification.getCreatedAt());
-    messagingTemplate.convertAndSend("/topic/notifications/" + userId, notificationDto);
+    // 저장 / 전송 / 읽지 않은 알림 수 반영은 커밋 이후 비동기로 처리
+    notificationDispatcher.dispatch(notificationDto);
+  }
+
+  /**
+   * 여러 사용자에게 같은 알림 전송 (스터디 생성, 공지 등)
+   * <p>
+   * 발신자 본인과 중복 수신자는 제외하고, 수신자별 알림을 한 번의 배치 INSERT 와 한 번의 전송 루프로 처리한다.
+   *
+   * @param userIds         수신자 목록
+   * @param notificationDto 수신자(userId) 를 제외한 알림 내용
+   */
+  public void sendNotificationToUsers(Collection<Long> userIds,
+      NotificationDto notificationDto) {
+    Long senderId = notificationDto.getSender().getId();
+    List<NotificationDto> notifications = new ArrayList<>(userIds.size());
+    for (Long userId : new LinkedHashSet<>(userIds)) {
+      if (!Objects.equals(userId, senderId)) {
+        notifications.add(NotificationDto.forRecipient(notificationDto, userId));
+      }
+    }
+    notificationDispatcher.dispatchAll(notifications);
   }
 
-  public Page<NotificationDto> getNotificationsByUserId(int pageNumber) {
+  public NotificationCountResponse getUnreadCount() {
     Long userId = authService.getLoginUserId();
-    LocalDateTime fourteenDaysAgo = LocalDateTime.now().minusDays(14);
+    return NotificationCountResponse.builder()
+        .count(unreadNotificationCounter.get(userId))
+        .build();
+  }
+
+  public Page<NotificationSummaryDto> getNotificationsByUserId(int pageNumber) {
+    Long userId = authService.getLoginUserId();
+    LocalDateTime fourteenDaysAgo = LocalDateTime.now().minusDays(VISIBLE_DAYS);
     Pageable pageable = PageRequest.of(pageNumber, 20, Sort.by("createdAt").descending());
     return notificationRepository.findAllByUserIdAndCreatedAtAfter(userId, fourteenDaysAgo,
-        pageable).map(NotificationDto::toDto);
+        pageable).map(NotificationSummaryDto::fromEntity);
+  }
+
+  /**
+   * 알림 전체 내용 조회
+   * <p>
+   * 게시글 본문은 원글에서 조회하고, 원글이 삭제된 경우 저장된 미리보기를 반환한다.
+   *
+   * @param notificationId
+   * @return 게시글 본문 / 댓글 / 답글 전체 내용
+   */
+  public NotificationContentResponse getNotificationContent(Long notificationId) {
+    Notification notification = notificationRepository.findById(notificationId)
+        .orElseThrow(() -> new CustomException(ErrorCode.NOTIFICATION_NOT_FOUND));
+    if (!Objects.equals(notification.getUserId(), authService.getLoginUserId())) {
+      throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
+    }
+    return NotificationContentResponse.of(notification,
+        findPostContent(notification).orElse(notification.getPostContent()));
   }
 
-  public NotificationDto readNotification(Long notificationId) {
+  public NotificationSummaryDto readNotification(Long notificationId) {
     Notification notification = notificationRepository.findById(notificationId)
         .orElseThrow(() -> new CustomException(ErrorCode.NOTIFICATION_NOT_FOUND));
     if (notification.isRead()) {
@@ -55,23 +118,59 @@ public class NotificationService {
     }
     notification.setRead(true);
     notificationRepository.save(notification);
-    return NotificationDto.toDto(notification);
+    if (isCounted(notification)) {
+      unreadNotificationCounter.decrement(notification.getUserId());
+    }
+    return NotificationSummaryDto.fromEntity(notification);
   }
 
   public void deleteNotification(Long notificationId) {
-    notificationRepository.deleteById(notificationId);
+    notificationRepository.findById(notificationId).ifPresent(notification -> {
+      notificationRepository.delete(notification);
+      if (!notification.isRead() && isCounted(notification)) {
+        unreadNotificationCounter.decrement(notification.getUserId());
+      }
+    });
   }
 
-  public void readNotifications(Long userId) {
-    List<Notification> notifications = notificationRepository.findAllByUserId(userId);
-    for (Notification notification : notifications) {
-      notification.setRead(true);
-      notificationRepository.save(notification);
-    }
+  @Transactional
+  public NotificationCountResponse readNotifications(Long userId) {
+    long count = notificationRepository.markAllAsReadByUserId(userId);
+    unreadNotificationCounter.reset(userId);
+    return NotificationCountResponse.builder().count(count).build();
   }
 
   @Transactional
-  public void deleteNotifications(Long userId) {
-    notificationRepository.deleteAllByUserId(userId);
+  public NotificationCountResponse deleteNotifications(Long userId) {
+    long count = notificationRepository.deleteAllInBulkByUserId(userId);
+    unreadNotificationCounter.reset(userId);
+    return NotificationCountResponse.builder().count(count).build();
+  }
+
+  // ================================= Helper methods ================================= //
+
+  // 읽지 않은 알림 수에 포함된 알림인지 (최근 VISIBLE_DAYS 일 동안 생성된 알림만 셈)
+  private boolean isCounted(Notification notification) {
+    return notification.getCreatedAt() != null
+        && notification.getCreatedAt().isAfter(LocalDateTime.now().minusDays(VISIBLE_DAYS));
+  }
+
+  private Optional<String> findPostContent(Notification notification) {
+    if (notification.getPostType() == null || notification.getTargetId() == null) {
+      return Optional.empty();
+    }
+    switch (notification.getPostType()) {
+      case STUDY:
+        return studyPostRepository.findById(notification.getTargetId())
+            .map(StudyPost::getDescription);
+      case QNA:
+        return qnaPostRepository.findById(notification.getTargetId())
+            .map(QnaPost::getContent);
+      case INFO:
+        return infoSharePostRepository.findById(notification.getTargetId())
+            .map(InfoSharePost::getDescription);
+      default:
+        return Optional.empty();
+    }
   }
 }
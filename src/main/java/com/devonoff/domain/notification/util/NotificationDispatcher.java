@@ -0,0 +1,390 @@
+package com.devonoff.domain.notification.util;
+
+import com.devonoff.domain.notification.dto.NotificationDto;
+import com.devonoff.domain.notification.dto.NotificationSummaryDto;
+import com.devonoff.util.TransactionUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 알림 비동기 전송
+ * <p>
+ * 알림은 요청 트랜잭션이 커밋된 뒤에 큐에 넣고(롤백되면 보내지 않음), 백그라운드 스레드가 batch-size 만큼 모아 JDBC 배치 INSERT 로
+ * 저장한 다음 /topic/notifications/{userId} 로 요약(NotificationSummaryDto) 을 전송한다. 게시글 본문은 미리보기 길이까지만
+ * 저장하고 전체 내용은 조회 시 원글에서 가져온다. 저장 실패는 backoff 를 두고 재시도하고, 제약 조건 위반 등 데이터 문제로 실패한
+ * 배치는 건별로 저장해 문제가 있는 알림만 제외한다. 큐가 가득 차면 요청 스레드에서 바로 처리한다. 여러 수신자에게 같은 알림을 보낼
+ * 때(dispatchAll) 는 한 번의 요청으로 큐에 넣어 같은 배치에서 저장 / 전송한다. 전송 후에는 사용자별 읽지 않은 알림 수를 반영한다.
+ * 애플리케이션 종료 시에는 남은 알림을 모두 처리하고 종료한다.
+ * <p>
+ * 큐는 메모리에만 있으므로(요청 트랜잭션에 함께 저장하는 outbox 가 아님), 커밋 이후 저장 전에 프로세스가 비정상 종료되면 큐에
+ * 남은 알림은 유실된다.
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher implements SmartLifecycle {
+
+  public static final String NOTIFICATION_TOPIC = "/topic/notifications/";
+
+  private static final String INSERT_SQL = "INSERT INTO notification "
+      + "(user_id, sender_id, type, post_type, post_title, post_content, comment_content, "
+      + "reply_content, study_name, target_id, is_read, created_at, updated_at) "
+      + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+  private static final long MAX_RETRY_BACKOFF_MS = 5000;
+  private static final int MAX_ATTEMPTS = 5;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final SimpMessagingTemplate messagingTemplate;
+  private final UnreadNotificationCounter unreadNotificationCounter;
+  private final BlockingQueue<PendingDispatch> queue;
+  private final int batchSize;
+  private final long flushIntervalMs;
+
+  private final Counter persistedCounter;
+  private final Counter deliveredCounter;
+  private final Counter failedCounter;
+  private final Counter overflowCounter;
+  private final Timer deliveryTimer;
+
+  private volatile boolean running = false;
+  private Thread dispatcher;
+
+  public NotificationDispatcher(JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager, SimpMessagingTemplate messagingTemplate,
+      UnreadNotificationCounter unreadNotificationCounter, MeterRegistry meterRegistry,
+      @Value("${notification.dispatch.capacity:10000}") int capacity,
+      @Value("${notification.dispatch.batch-size:200}") int batchSize,
+      @Value("${notification.dispatch.flush-interval-ms:50}") long flushIntervalMs) {
+    this.jdbcTemplate = jdbcTemplate;
+    // 요청 트랜잭션의 afterCommit 에서 바로 처리되는 경우에도 별도 트랜잭션으로 저장
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setPropagationBehavior(
+        TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.messagingTemplate = messagingTemplate;
+    this.unreadNotificationCounter = unreadNotificationCounter;
+    this.queue = new ArrayBlockingQueue<>(capacity);
+    this.batchSize = Math.max(batchSize, 1);
+    this.flushIntervalMs = flushIntervalMs;
+
+    Gauge.builder("notification.dispatch.queue.size", queue, BlockingQueue::size)
+        .description("저장 / 전송 대기 중인 알림 요청 수")
+        .register(meterRegistry);
+    this.persistedCounter = Counter.builder("notification.dispatch.persisted")
+        .description("DB 에 저장된 알림 수")
+        .register(meterRegistry);
+    this.deliveredCounter = Counter.builder("notification.dispatch.delivered")
+        .description("웹소켓으로 전송된 알림 수")
+        .register(meterRegistry);
+    this.failedCounter = Counter.builder("notification.dispatch.failed")
+        .description("재시도 후에도 저장 / 전송하지 못한 알림 수")
+        .register(meterRegistry);
+    this.overflowCounter = Counter.builder("notification.dispatch.overflow")
+        .description("큐가 가득 차 요청 스레드에서 바로 처리한 알림 수")
+        .register(meterRegistry);
+    this.deliveryTimer = Timer.builder("notification.dispatch.latency")
+        .description("알림 요청부터 전송까지 걸린 시간")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 알림 전송 요청 (트랜잭션 안이면 커밋 이후에 처리)
+   *
+   * @param notificationDto
+   */
+  public void dispatch(NotificationDto notificationDto) {
+    dispatchAll(List.of(notificationDto));
+  }
+
+  /**
+   * 여러 알림 전송 요청 (한 번의 배치 INSERT 와 한 번의 전송 루프로 처리)
+   *
+   * @param notifications 수신자별 알림
+   */
+  public void dispatchAll(List<NotificationDto> notifications) {
+    if (notifications.isEmpty()) {
+      return;
+    }
+    PendingDispatch pending = new PendingDispatch(List.copyOf(notifications), System.nanoTime());
+    TransactionUtils.runAfterCommit(() -> enqueue(pending));
+  }
+
+  public int size() {
+    return queue.size();
+  }
+
+  @Override
+  public synchronized void start() {
+    if (running) {
+      return;
+    }
+    running = true;
+    dispatcher = new Thread(this::runDispatcher, "notification-dispatcher");
+    dispatcher.start();
+  }
+
+  @Override
+  public void stop() {
+    Thread current;
+    synchronized (this) {
+      if (!running) {
+        return;
+      }
+      running = false;
+      current = dispatcher;
+    }
+    try {
+      current.join(TimeUnit.SECONDS.toMillis(30));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    // 전송 스레드 종료 후 남은 알림 처리
+    List<PendingDispatch> remaining = new ArrayList<>();
+    queue.drainTo(remaining);
+    if (!remaining.isEmpty()) {
+      process(remaining);
+    }
+    log.info("알림 전송 큐 종료 완료");
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  // 웹소켓 처리(DEFAULT_PHASE) 가 먼저 멈춘 뒤 종료되도록 한 단계 낮게 설정
+  @Override
+  public int getPhase() {
+    return SmartLifecycle.DEFAULT_PHASE - 1;
+  }
+
+  // ================================= Helper methods ================================= //
+
+  private void enqueue(PendingDispatch pending) {
+    if (running && queue.offer(pending)) {
+      return;
+    }
+    // 시작 전 / 종료 후이거나 큐가 가득 차면 요청 스레드에서 바로 처리
+    if (running) {
+      overflowCounter.increment();
+    }
+    process(List.of(pending));
+  }
+
+  private void runDispatcher() {
+    while (running || !queue.isEmpty()) {
+      try {
+        PendingDispatch first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+        // 요청 단위로 모으므로 마지막 요청에서 batch-size 를 넘을 수 있음 (INSERT 는 batch-size 단위로 실행)
+        List<PendingDispatch> batch = new ArrayList<>();
+        batch.add(first);
+        int count = first.getNotifications().size();
+        PendingDispatch next;
+        while (count < batchSize && (next = queue.poll()) != null) {
+          batch.add(next);
+          count += next.getNotifications().size();
+        }
+        process(batch);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+  }
+
+  private void process(List<PendingDispatch> batch) {
+    List<NotificationDto> notifications = new ArrayList<>();
+    for (PendingDispatch pending : batch) {
+      notifications.addAll(pending.getNotifications());
+    }
+    Set<NotificationDto> persisted = Collections.newSetFromMap(new IdentityHashMap<>());
+    writeWithRetry(notifications, persisted);
+    if (persisted.size() < notifications.size()) {
+      failedCounter.increment(notifications.size() - persisted.size());
+    }
+    Map<Long, Long> unreadCounts = new LinkedHashMap<>();
+    for (PendingDispatch pending : batch) {
+      for (NotificationDto notificationDto : pending.getNotifications()) {
+        if (!persisted.contains(notificationDto)) {
+          continue;
+        }
+        if (!notificationDto.isRead()) {
+          unreadCounts.merge(notificationDto.getUserId(), 1L, Long::sum);
+        }
+        deliver(notificationDto, pending.getRequestedAt());
+      }
+    }
+    // 사용자별로 한 번씩 읽지 않은 알림 수 반영 / 전송
+    unreadCounts.forEach(unreadNotificationCounter::increment);
+  }
+
+  private void deliver(NotificationDto notificationDto, long requestedAt) {
+    try {
+      messagingTemplate.convertAndSend(NOTIFICATION_TOPIC + notificationDto.getUserId(),
+          NotificationSummaryDto.from(notificationDto));
+      deliveredCounter.increment();
+      deliveryTimer.record(System.nanoTime() - requestedAt, TimeUnit.NANOSECONDS);
+    } catch (Exception e) {
+      // 저장은 완료되었으므로 알림 목록 조회로 확인 가능
+      failedCounter.increment();
+      log.warn("알림 전송 실패 (알림 {}, 사용자 {}): {}", notificationDto.getId(),
+          notificationDto.getUserId(), e.getMessage());
+    }
+  }
+
+  // 저장에 실패한 배치는 backoff 를 두고 재시도 (저장된 알림은 persisted 에 추가)
+  private void writeWithRetry(List<NotificationDto> batch, Set<NotificationDto> persisted) {
+    long backoffMs = 100;
+    for (int attempts = 1; ; attempts++) {
+      try {
+        write(batch);
+        persisted.addAll(batch);
+        return;
+      } catch (DataIntegrityViolationException e) {
+        // 제약 조건 위반 등 데이터 문제는 재시도해도 실패하므로 건별로 저장하고 실패 건만 제외
+        writeEach(batch, persisted);
+        return;
+      } catch (Exception e) {
+        if (attempts >= MAX_ATTEMPTS) {
+          log.error("알림 저장 실패로 {}건 유실: {}", batch.size(), e.getMessage(), e);
+          return;
+        }
+        log.warn("알림 배치 저장 실패 ({}건, {}회차), {}ms 후 재시도: {}", batch.size(), attempts,
+            backoffMs, e.getMessage());
+        try {
+          Thread.sleep(backoffMs);
+        } catch (InterruptedException ie) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+        backoffMs = Math.min(backoffMs * 2, MAX_RETRY_BACKOFF_MS);
+      }
+    }
+  }
+
+  private void writeEach(List<NotificationDto> batch, Set<NotificationDto> persisted) {
+    for (NotificationDto notificationDto : batch) {
+      if (batch.size() == 1) {
+        log.error("알림 저장 불가로 제외 (사용자 {}, 유형 {}, 대상 {})", notificationDto.getUserId(),
+            notificationDto.getType(), notificationDto.getTargetId());
+        return;
+      }
+      writeWithRetry(List.of(notificationDto), persisted);
+    }
+  }
+
+  // batch-size 단위로 배치 INSERT 후 생성된 ID / 생성 시각을 알림에 반영
+  private void write(List<NotificationDto> batch) {
+    LocalDateTime now = LocalDateTime.now();
+    List<Long> ids = transactionTemplate.execute(status -> jdbcTemplate.execute(
+        (ConnectionCallback<List<Long>>) connection -> {
+          try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL,
+              Statement.RETURN_GENERATED_KEYS)) {
+            List<Long> generatedIds = new ArrayList<>(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+              setValues(ps, batch.get(i), now);
+              ps.addBatch();
+              if ((i + 1) % batchSize == 0 || i == batch.size() - 1) {
+                ps.executeBatch();
+                readGeneratedIds(ps, generatedIds);
+              }
+            }
+            return generatedIds;
+          }
+        }));
+    for (int i = 0; i < batch.size(); i++) {
+      NotificationDto notificationDto = batch.get(i);
+      if (ids != null && i < ids.size()) {
+        notificationDto.setId(ids.get(i));
+      }
+      notificationDto.setCreatedAt(now);
+      notificationDto.setUpdatedAt(now);
+    }
+    persistedCounter.increment(batch.size());
+  }
+
+  private void readGeneratedIds(PreparedStatement ps, List<Long> generatedIds)
+      throws SQLException {
+    try (ResultSet keys = ps.getGeneratedKeys()) {
+      while (keys.next()) {
+        generatedIds.add(keys.getLong(1));
+      }
+    }
+  }
+
+  private void setValues(PreparedStatement ps, NotificationDto notificationDto,
+      LocalDateTime now) throws SQLException {
+    ps.setLong(1, notificationDto.getUserId());
+    ps.setLong(2, notificationDto.getSender().getId());
+    // 엔티티의 enum 컬럼은 ORDINAL 로 저장
+    setNullableInt(ps, 3, notificationDto.getType() == null
+        ? null : notificationDto.getType().ordinal());
+    setNullableInt(ps, 4, notificationDto.getPostType() == null
+        ? null : notificationDto.getPostType().ordinal());
+    ps.setString(5, notificationDto.getPostTitle());
+    // 게시글 본문은 원글에서 다시 조회할 수 있으므로 미리보기만 저장
+    ps.setString(6, NotificationSummaryDto.truncate(notificationDto.getPostContent()));
+    ps.setString(7, notificationDto.getCommentContent());
+    ps.setString(8, notificationDto.getReplyContent());
+    ps.setString(9, notificationDto.getStudyName());
+    if (notificationDto.getTargetId() == null) {
+      ps.setNull(10, Types.BIGINT);
+    } else {
+      ps.setLong(10, notificationDto.getTargetId());
+    }
+    ps.setBoolean(11, notificationDto.isRead());
+    ps.setTimestamp(12, Timestamp.valueOf(now));
+    ps.setTimestamp(13, Timestamp.valueOf(now));
+  }
+
+  private void setNullableInt(PreparedStatement ps, int index, Integer value)
+      throws SQLException {
+    if (value == null) {
+      ps.setNull(index, Types.INTEGER);
+    } else {
+      ps.setInt(index, value);
+    }
+  }
+
+  @Getter
+  @AllArgsConstructor
+  private static class PendingDispatch {
+
+    private final List<NotificationDto> notifications;
+    private final long requestedAt; // System.nanoTime()
+  }
+}
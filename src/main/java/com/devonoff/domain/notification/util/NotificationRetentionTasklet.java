@@ -0,0 +1,98 @@
+package com.devonoff.domain.notification.util;
+
+import com.devonoff.domain.notification.repository.NotificationRepository;
+import com.devonoff.util.TimeProvider;
+import java.time.LocalDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 보관 기한이 지난 알림 삭제
+ * <p>
+ * 한 번 실행할 때 PK 범위 [cursor, cursor + chunk-size) 의 만료 알림만 삭제하고 CONTINUABLE 을 반환해, 범위마다 트랜잭션이
+ * 따로 커밋되고 잠금도 그 범위로 한정된다. 범위 사이에는 throttle-ms 만큼 쉬고, 허용 시간대(off-peak) 를 벗어나면 멈춘다.
+ * <p>
+ * 진행 위치(cursor) 는 한 실행 안에서만 step 의 ExecutionContext 에 저장된다. 실행마다 새 JobInstance 라 다음 실행은 cursor 0
+ * 에서 시작하지만, 이미 삭제된 범위는 남아 있지 않으므로 PK 한 번 조회로 남은 첫 만료 알림부터 이어서 삭제한다.
+ */
+@Slf4j
+@Component
+public class NotificationRetentionTasklet implements Tasklet {
+
+  static final String CURSOR_KEY = "notification.retention.cursor";
+
+  private final NotificationRepository notificationRepository;
+  private final TimeProvider timeProvider;
+  private final int retentionDays;
+  private final int chunkSize;
+  private final long throttleMs;
+  private final int offPeakStartHour;
+  private final int offPeakEndHour;
+
+  public NotificationRetentionTasklet(
+      NotificationRepository notificationRepository,
+      TimeProvider timeProvider,
+      @Value("${notification.retention.days:30}") int retentionDays,
+      @Value("${notification.retention.chunk-size:1000}") int chunkSize,
+      @Value("${notification.retention.throttle-ms:200}") long throttleMs,
+      @Value("${notification.retention.off-peak-start-hour:2}") int offPeakStartHour,
+      @Value("${notification.retention.off-peak-end-hour:6}") int offPeakEndHour
+  ) {
+    this.notificationRepository = notificationRepository;
+    this.timeProvider = timeProvider;
+    this.retentionDays = retentionDays;
+    this.chunkSize = Math.max(chunkSize, 1);
+    this.throttleMs = throttleMs;
+    this.offPeakStartHour = offPeakStartHour;
+    this.offPeakEndHour = offPeakEndHour;
+  }
+
+  @Override
+  public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext)
+      throws Exception {
+    ExecutionContext executionContext = chunkContext.getStepContext().getStepExecution()
+        .getExecutionContext();
+    LocalDateTime now = timeProvider.now();
+    if (!isOffPeak(now.getHour())) {
+      log.info("알림 정리 중단: 허용 시간대({}시 ~ {}시)가 아닙니다.", offPeakStartHour, offPeakEndHour);
+      return RepeatStatus.FINISHED;
+    }
+
+    long cursor = executionContext.getLong(CURSOR_KEY, 0L);
+    if (cursor > 0 && throttleMs > 0) {
+      // 아직 아무것도 잠그지 않은 상태에서 대기
+      Thread.sleep(throttleMs);
+    }
+
+    Long fromId = notificationRepository.findNextExpiredId(cursor,
+        now.minusDays(retentionDays));
+    if (fromId == null) {
+      return RepeatStatus.FINISHED;
+    }
+    long toId = fromId + chunkSize;
+    long deleted = notificationRepository.deleteExpiredInIdRange(fromId, toId,
+        now.minusDays(retentionDays));
+    contribution.incrementWriteCount(deleted);
+    executionContext.putLong(CURSOR_KEY, toId);
+    return RepeatStatus.CONTINUABLE;
+  }
+
+  // ================================= Helper methods ================================= //
+
+  // 시작 시각이 종료 시각보다 크면 자정을 넘는 시간대 (예: 23시 ~ 5시)
+  private boolean isOffPeak(int hour) {
+    if (offPeakStartHour == offPeakEndHour) {
+      return true;
+    }
+    if (offPeakStartHour < offPeakEndHour) {
+      return hour >= offPeakStartHour && hour < offPeakEndHour;
+    }
+    return hour >= offPeakStartHour || hour < offPeakEndHour;
+  }
+}
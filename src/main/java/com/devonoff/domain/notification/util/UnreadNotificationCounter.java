@@ -0,0 +1,201 @@
+package com.devonoff.domain.notification.util;
+
+import com.devonoff.domain.notification.dto.NotificationUnreadCountMessage;
+import com.devonoff.domain.notification.repository.NotificationRepository;
+import com.devonoff.domain.notification.service.NotificationService;
+import com.devonoff.util.TransactionUtils;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 읽지 않은 알림 수 (Redis)
+ * <p>
+ * 카운터가 없으면 DB 에서 한 번 세어 만들고, 이후에는 알림 저장 / 읽음 / 삭제 시 원자적으로 증감한다. 카운터가 없을 때의 증감은 건너뛰어
+ * (다음 조회 때 DB 기준으로 생성) 기준값 없이 만들어지지 않도록 한다. 변경된 값은 /topic/notifications/{userId} 로 전송하고, DB
+ * 와 어긋난 값은 reconcile-interval 마다 바로잡는다. 트랜잭션 안에서의 감소 / 초기화는 커밋 이후에 반영한다.
+ * <p>
+ * 알림 목록과 같이 최근 VISIBLE_DAYS 일 동안 생성된 알림만 센다. 기간이 지나 목록에서 빠진 알림은 보정 작업에서 카운터에 반영된다.
+ */
+@Slf4j
+@Component
+public class UnreadNotificationCounter {
+
+  private static final String KEY_PREFIX = "NotificationUnread:";
+  private static final int RECONCILE_BATCH_SIZE = 500;
+
+  // KEYS: 카운터 / ARGV: 증감 값, TTL(초) → 변경된 값 (카운터가 없으면 nil)
+  private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>(
+      "if redis.call('EXISTS', KEYS[1]) == 0 then return nil end "
+          + "local count = redis.call('INCRBY', KEYS[1], ARGV[1]) "
+          + "if count < 0 then count = 0 redis.call('SET', KEYS[1], 0) end "
+          + "redis.call('EXPIRE', KEYS[1], ARGV[2]) "
+          + "return count", Long.class);
+
+  private final StringRedisTemplate redisTemplate;
+  private final NotificationRepository notificationRepository;
+  private final SimpMessagingTemplate messagingTemplate;
+  private final long ttlSeconds;
+
+  public UnreadNotificationCounter(
+      StringRedisTemplate redisTemplate,
+      NotificationRepository notificationRepository,
+      SimpMessagingTemplate messagingTemplate,
+      @Value("${notification.unread-counter.ttl-hours:24}") long ttlHours
+  ) {
+    this.redisTemplate = redisTemplate;
+    this.notificationRepository = notificationRepository;
+    this.messagingTemplate = messagingTemplate;
+    this.ttlSeconds = TimeUnit.HOURS.toSeconds(ttlHours);
+  }
+
+  /**
+   * 읽지 않은 알림 수 조회 (카운터가 없으면 DB 기준으로 생성)
+   *
+   * @param userId
+   * @return 읽지 않은 알림 수
+   */
+  public long get(Long userId) {
+    String value = redisTemplate.opsForValue().get(getKey(userId));
+    if (value != null) {
+      return Long.parseLong(value);
+    }
+    long count = notificationRepository.countByUserIdAndIsReadFalseAndCreatedAtAfter(userId,
+        getVisibleFrom());
+    // 그 사이 다른 요청이 만들었으면 그 값을 사용
+    Boolean created = redisTemplate.opsForValue()
+        .setIfAbsent(getKey(userId), String.valueOf(count), ttlSeconds, TimeUnit.SECONDS);
+    if (Boolean.TRUE.equals(created)) {
+      return count;
+    }
+    value = redisTemplate.opsForValue().get(getKey(userId));
+    return value == null ? count : Long.parseLong(value);
+  }
+
+  /**
+   * 새 알림 저장 후 증가 (알림이 저장된 뒤 호출)
+   *
+   * @param userId
+   * @param delta
+   */
+  public void increment(Long userId, long delta) {
+    apply(userId, delta);
+  }
+
+  public void decrement(Long userId) {
+    TransactionUtils.runAfterCommit(() -> apply(userId, -1));
+  }
+
+  public void reset(Long userId) {
+    TransactionUtils.runAfterCommit(() -> {
+      try {
+        redisTemplate.opsForValue().set(getKey(userId), "0", ttlSeconds, TimeUnit.SECONDS);
+        push(userId, 0);
+      } catch (Exception e) {
+        log.warn("읽지 않은 알림 수 초기화 실패 (사용자 {}): {}", userId, e.getMessage());
+      }
+    });
+  }
+
+  /**
+   * 카운터 보정
+   * <p>
+   * 존재하는 카운터를 batch 단위로 DB 의 읽지 않은 알림 수(GROUP BY 한 번) 와 비교해, 다른 값만 바로잡고 전송한다.
+   */
+  @Scheduled(fixedDelayString = "${notification.unread-counter.reconcile-interval-ms:600000}",
+      initialDelayString = "${notification.unread-counter.reconcile-interval-ms:600000}")
+  public void reconcile() {
+    List<Long> userIds = new ArrayList<>(RECONCILE_BATCH_SIZE);
+    int corrected = 0;
+    ScanOptions options = ScanOptions.scanOptions()
+        .match(KEY_PREFIX + "*")
+        .count(RECONCILE_BATCH_SIZE)
+        .build();
+    try (Cursor<String> cursor = redisTemplate.scan(options)) {
+      while (cursor.hasNext()) {
+        String key = cursor.next();
+        userIds.add(Long.valueOf(key.substring(KEY_PREFIX.length())));
+        if (userIds.size() == RECONCILE_BATCH_SIZE) {
+          corrected += reconcile(userIds);
+          userIds.clear();
+        }
+      }
+    } catch (Exception e) {
+      log.warn("읽지 않은 알림 수 보정 실패: {}", e.getMessage());
+      return;
+    }
+    corrected += reconcile(userIds);
+    if (corrected > 0) {
+      log.info("읽지 않은 알림 수 {}건 보정", corrected);
+    }
+  }
+
+  // ================================= Helper methods ================================= //
+
+  // 카운터 반영 실패는 알림 처리에 영향을 주지 않도록 로그만 남김 (보정 작업에서 바로잡음)
+  private void apply(Long userId, long delta) {
+    try {
+      Long count = redisTemplate.execute(ADD_SCRIPT, List.of(getKey(userId)),
+          String.valueOf(delta), String.valueOf(ttlSeconds));
+      push(userId, count == null ? get(userId) : count);
+    } catch (Exception e) {
+      log.warn("읽지 않은 알림 수 반영 실패 (사용자 {}): {}", userId, e.getMessage());
+    }
+  }
+
+  private int reconcile(List<Long> userIds) {
+    if (userIds.isEmpty()) {
+      return 0;
+    }
+    List<String> keys = new ArrayList<>(userIds.size());
+    for (Long userId : userIds) {
+      keys.add(getKey(userId));
+    }
+    List<String> values = redisTemplate.opsForValue().multiGet(keys);
+    Map<Long, Long> counts = new HashMap<>(
+        notificationRepository.countUnreadByUserIds(userIds, getVisibleFrom()));
+    int corrected = 0;
+    for (int i = 0; i < userIds.size(); i++) {
+      String value = values == null ? null : values.get(i);
+      long expected = counts.getOrDefault(userIds.get(i), 0L);
+      if (value == null || Long.parseLong(value) == expected) {
+        continue;
+      }
+      redisTemplate.opsForValue().set(keys.get(i), String.valueOf(expected), ttlSeconds,
+          TimeUnit.SECONDS);
+      push(userIds.get(i), expected);
+      corrected++;
+    }
+    return corrected;
+  }
+
+  private void push(Long userId, long count) {
+    try {
+      messagingTemplate.convertAndSend(NotificationDispatcher.NOTIFICATION_TOPIC + userId,
+          NotificationUnreadCountMessage.of(count));
+    } catch (Exception e) {
+      log.warn("읽지 않은 알림 수 전송 실패 (사용자 {}): {}", userId, e.getMessage());
+    }
+  }
+
+  private LocalDateTime getVisibleFrom() {
+    return LocalDateTime.now().minusDays(NotificationService.VISIBLE_DAYS);
+  }
+
+  private String getKey(Long userId) {
+    return KEY_PREFIX + userId;
+  }
+}
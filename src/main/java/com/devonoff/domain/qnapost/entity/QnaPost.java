@@ -1,10 +1,12 @@
 package com.devonoff.domain.qnapost.entity;
 
 import com.devonoff.common.entity.BaseTimeEntity;
+import com.devonoff.domain.search.util.TitleSearchIndexListener;
 import com.devonoff.domain.user.entity.User;
 import com.devonoff.type.PostType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
@@ -26,6 +28,7 @@ import lombok.Setter;
 @AllArgsConstructor
 @Builder
 @Entity
+@EntityListeners(TitleSearchIndexListener.class)
 @Table(name = "qna_post")
 public class QnaPost extends BaseTimeEntity {
 
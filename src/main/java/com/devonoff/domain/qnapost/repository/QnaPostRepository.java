@@ -2,6 +2,8 @@ package com.devonoff.domain.qnapost.repository;
 
 import com.devonoff.domain.user.entity.User;
 import com.devonoff.domain.qnapost.entity.QnaPost;
+import com.devonoff.domain.search.dto.PostTitle;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -17,4 +19,6 @@ public interface QnaPostRepository extends JpaRepository<QnaPost, Long> {
   Page<QnaPost> findByUserAndTitleContainingOrderByCreatedAtDesc(User user, String title, Pageable pageable);
 
   Page<QnaPost> findByUserOrderByCreatedAtDesc(User user, Pageable pageable);
+
+  List<PostTitle> findAllProjectedBy();
 }
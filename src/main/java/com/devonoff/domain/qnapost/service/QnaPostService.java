@@ -20,6 +20,7 @@ import com.devonoff.domain.qnapost.entity.QnaReply;
 import com.devonoff.domain.qnapost.repository.QnaCommentRepository;
 import com.devonoff.domain.qnapost.repository.QnaPostRepository;
 import com.devonoff.domain.qnapost.repository.QnaReplyRepository;
+import com.devonoff.domain.search.service.TitleSearchService;
 import com.devonoff.domain.user.dto.UserDto;
 import com.devonoff.domain.user.entity.User;
 import com.devonoff.domain.user.repository.UserRepository;
@@ -56,6 +57,7 @@ public class QnaPostService {
   private final PhotoService photoService;
   private final AuthService authService;
   private final NotificationService notificationService;
+  private final TitleSearchService titleSearchService;
   @Value("${cloud.aws.s3.default-thumbnail-image-url}")
   private String defaultThumbnailImageUrl;
 
@@ -105,7 +107,12 @@ public class QnaPostService {
           .map(QnaPostDto::fromEntity);
     }
 
-    return qnaPostRepository.findByTitleContainingOrderByCreatedAtDesc(search.trim(), pageable)
+    // 제목 검색 인덱스 사용 (관련도순), 인덱스 준비 전에는 LIKE 검색
+    String keyword = search.trim();
+    return titleSearchService.searchPage(PostType.QNA, keyword, pageable,
+            qnaPostRepository::findAllById, QnaPost::getId)
+        .orElseGet(
+            () -> qnaPostRepository.findByTitleContainingOrderByCreatedAtDesc(keyword, pageable))
         .map(QnaPostDto::fromEntity);
   }
 
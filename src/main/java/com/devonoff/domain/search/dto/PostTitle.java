@@ -0,0 +1,9 @@
+package com.devonoff.domain.search.dto;
+
+// 제목 검색 인덱스 적재용 프로젝션
+public interface PostTitle {
+
+  Long getId();
+
+  String getTitle();
+}
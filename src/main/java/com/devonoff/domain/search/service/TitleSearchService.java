@@ -0,0 +1,65 @@
+package com.devonoff.domain.search.service;
+
+import com.devonoff.domain.search.util.TitleSearchIndex;
+import com.devonoff.type.PostType;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class TitleSearchService {
+
+  private final TitleSearchIndex titleSearchIndex;
+
+  /**
+   * 제목 검색 결과 페이지 조회 (관련도순)
+   * <p>
+   * 인덱스에서 현재 페이지에 해당하는 게시글 ID 만 잘라 loader 로 조회하고, 인덱스 순서대로 정렬해 반환한다. 인덱스가 아직 준비되지 않았으면
+   * Optional.empty() 를 반환하므로 호출하는 쪽에서 기존 조회 방식으로 처리한다.
+   *
+   * @param postType
+   * @param search
+   * @param pageable
+   * @param loader   ID 목록으로 게시글을 조회하는 함수
+   * @param idGetter 게시글의 ID 를 꺼내는 함수
+   * @return Optional<Page < T>>
+   */
+  public <T> Optional<Page<T>> searchPage(PostType postType, String search, Pageable pageable,
+      Function<List<Long>, List<T>> loader, Function<T, Long> idGetter) {
+    if (!titleSearchIndex.isReady()) {
+      return Optional.empty();
+    }
+
+    List<Long> matchedIds = titleSearchIndex.search(postType, search);
+    int from = (int) Math.min(pageable.getOffset(), matchedIds.size());
+    int to = Math.min(from + pageable.getPageSize(), matchedIds.size());
+    List<Long> pageIds = matchedIds.subList(from, to);
+
+    if (pageIds.isEmpty()) {
+      return Optional.of(new PageImpl<>(List.of(), pageable, matchedIds.size()));
+    }
+
+    Map<Long, T> postsById = new HashMap<>();
+    for (T post : loader.apply(pageIds)) {
+      postsById.put(idGetter.apply(post), post);
+    }
+
+    List<T> content = new ArrayList<>(pageIds.size());
+    for (Long id : pageIds) {
+      T post = postsById.get(id);
+      if (post != null) {
+        content.add(post);
+      }
+    }
+    return Optional.of(new PageImpl<>(content, pageable, matchedIds.size()));
+  }
+}
@@ -0,0 +1,57 @@
+package com.devonoff.domain.search.util;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 한글 제목 검색용 n-gram 토크나이저
+ * <p>
+ * 형태소 분석 없이 공백 단위 어절을 음절 unigram + bigram 으로 분해한다. 색인 시에는 unigram 과 bigram 을 모두 만들고, 검색 시에는
+ * 두 글자 이상이면 bigram 만 사용해 후보를 좁힌다.
+ */
+public final class NgramTokenizer {
+
+  private NgramTokenizer() {
+  }
+
+  // NFKC 정규화 + 소문자 + 연속 공백 정리 (MySQL LIKE 의 대소문자 무시 비교와 맞춤)
+  public static String normalize(String text) {
+    if (text == null) {
+      return "";
+    }
+    return Normalizer.normalize(text, Normalizer.Form.NFKC)
+        .toLowerCase(Locale.ROOT)
+        .trim()
+        .replaceAll("\\s+", " ");
+  }
+
+  // 색인용 토큰
+  public static Set<String> indexTokens(String normalized) {
+    Set<String> tokens = new LinkedHashSet<>();
+    for (String word : normalized.split(" ")) {
+      for (int i = 0; i < word.length(); i++) {
+        tokens.add(word.substring(i, i + 1));
+        if (i + 1 < word.length()) {
+          tokens.add(word.substring(i, i + 2));
+        }
+      }
+    }
+    return tokens;
+  }
+
+  // 검색용 토큰
+  public static Set<String> queryTokens(String normalized) {
+    Set<String> tokens = new LinkedHashSet<>();
+    for (String word : normalized.split(" ")) {
+      if (word.length() == 1) {
+        tokens.add(word);
+      }
+      for (int i = 0; i + 1 < word.length(); i++) {
+        tokens.add(word.substring(i, i + 2));
+      }
+    }
+    return tokens;
+  }
+}
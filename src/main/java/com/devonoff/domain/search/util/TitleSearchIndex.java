@@ -0,0 +1,212 @@
+package com.devonoff.domain.search.util;
+
+import com.devonoff.type.PostType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 제목 역색인 (스터디 모집글 / 질의 응답 / 정보 공유 게시판 공용)
+ * <p>
+ * n-gram 토큰별 게시글 ID 목록을 보관하고, 검색 시 질의 토큰의 게시글 목록 교집합으로 후보를 구한 뒤 실제 제목 포함 여부를 확인한다.
+ * LIKE '%검색어%' 와 같은 결과를 전체 테이블 스캔 없이 반환한다.
+ * <p>
+ * 노드마다 따로 보관하므로 다른 노드에서 저장된 게시글은 주기적인 DB 재적재(replaceAll) 때 반영된다.
+ */
+@Slf4j
+@Component
+public class TitleSearchIndex {
+
+  private final Map<PostType, Shard> shards = new EnumMap<>(PostType.class);
+  private volatile boolean ready = false;
+
+  public TitleSearchIndex() {
+    for (PostType postType : PostType.values()) {
+      shards.put(postType, new Shard());
+    }
+  }
+
+  public boolean index(PostType postType, Long postId, String title) {
+    if (postId == null) {
+      return false;
+    }
+    Shard shard = shards.get(postType);
+    String normalized = NgramTokenizer.normalize(title);
+    String previous = shard.titles.put(postId, normalized);
+    if (normalized.equals(previous)) {
+      return false;
+    }
+    if (previous != null) {
+      for (String token : NgramTokenizer.indexTokens(previous)) {
+        shard.removePosting(token, postId);
+      }
+    }
+    for (String token : NgramTokenizer.indexTokens(normalized)) {
+      shard.addPosting(token, postId);
+    }
+    return true;
+  }
+
+  public boolean remove(PostType postType, Long postId) {
+    if (postId == null) {
+      return false;
+    }
+    Shard shard = shards.get(postType);
+    String previous = shard.titles.remove(postId);
+    if (previous == null) {
+      return false;
+    }
+    for (String token : NgramTokenizer.indexTokens(previous)) {
+      shard.removePosting(token, postId);
+    }
+    return true;
+  }
+
+  /**
+   * DB 기준으로 인덱스를 다시 맞춤
+   * <p>
+   * 제목이 바뀐 게시글만 다시 색인하고, DB 에 없는 게시글은 제거한다. 조회 이후 이 노드에서 새로 저장된 게시글(조회한 최대 ID 보다 큰
+   * ID) 은 제거하지 않는다.
+   *
+   * @param postType
+   * @param titles   게시글 ID → 제목
+   * @return 변경된 게시글 수
+   */
+  public int replaceAll(PostType postType, Map<Long, String> titles) {
+    int changed = 0;
+    long maxId = 0;
+    for (Map.Entry<Long, String> entry : titles.entrySet()) {
+      maxId = Math.max(maxId, entry.getKey());
+      if (index(postType, entry.getKey(), entry.getValue())) {
+        changed++;
+      }
+    }
+    for (Long postId : new ArrayList<>(shards.get(postType).titles.keySet())) {
+      if (postId <= maxId && !titles.containsKey(postId) && remove(postType, postId)) {
+        changed++;
+      }
+    }
+    return changed;
+  }
+
+  /**
+   * 제목 검색
+   * <p>
+   * 정렬 기준: 제목 일치 > 제목 접두어 일치 > 제목 대비 검색어 비중 > 최신 게시글(ID 내림차순)
+   *
+   * @param postType
+   * @param query
+   * @return 검색어를 포함하는 게시글 ID 목록 (정렬됨)
+   */
+  public List<Long> search(PostType postType, String query) {
+    String normalizedQuery = NgramTokenizer.normalize(query);
+    if (normalizedQuery.isEmpty()) {
+      return List.of();
+    }
+    Shard shard = shards.get(postType);
+
+    List<Set<Long>> postings = new ArrayList<>();
+    for (String token : NgramTokenizer.queryTokens(normalizedQuery)) {
+      Set<Long> posting = shard.postings.get(token);
+      if (posting == null) {
+        return List.of();
+      }
+      postings.add(posting);
+    }
+    postings.sort(Comparator.comparingInt(Set::size));
+
+    List<ScoredPost> matches = new ArrayList<>();
+    for (Long postId : postings.get(0)) {
+      if (!containsAll(postings, postId)) {
+        continue;
+      }
+      String title = shard.titles.get(postId);
+      if (title == null || !title.contains(normalizedQuery)) {
+        continue;
+      }
+      matches.add(new ScoredPost(postId, score(title, normalizedQuery),
+          (double) normalizedQuery.length() / title.length()));
+    }
+
+    matches.sort(Comparator.comparingInt(ScoredPost::getScore).reversed()
+        .thenComparing(Comparator.comparingDouble(ScoredPost::getCoverage).reversed())
+        .thenComparing(Comparator.comparingLong(ScoredPost::getPostId).reversed()));
+
+    List<Long> result = new ArrayList<>(matches.size());
+    for (ScoredPost match : matches) {
+      result.add(match.getPostId());
+    }
+    return Collections.unmodifiableList(result);
+  }
+
+  public void markReady() {
+    this.ready = true;
+    shards.forEach((postType, shard) ->
+        log.info("제목 검색 인덱스 준비 완료 ({}: {}건)", postType, shard.titles.size()));
+  }
+
+  public boolean isReady() {
+    return ready;
+  }
+
+  public int size(PostType postType) {
+    return shards.get(postType).titles.size();
+  }
+
+  // ================================= Helper methods ================================= //
+
+  private boolean containsAll(List<Set<Long>> postings, Long postId) {
+    for (int i = 1; i < postings.size(); i++) {
+      if (!postings.get(i).contains(postId)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private int score(String title, String query) {
+    if (title.equals(query)) {
+      return 2;
+    }
+    return title.startsWith(query) ? 1 : 0;
+  }
+
+  @Getter
+  @AllArgsConstructor
+  private static class ScoredPost {
+
+    private Long postId;
+    private int score;
+    private double coverage;
+  }
+
+  private static class Shard {
+
+    private final ConcurrentHashMap<Long, String> titles = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Set<Long>> postings = new ConcurrentHashMap<>();
+
+    private void addPosting(String token, Long postId) {
+      postings.compute(token, (key, ids) -> {
+        Set<Long> tokenIds = ids != null ? ids : ConcurrentHashMap.<Long>newKeySet();
+        tokenIds.add(postId);
+        return tokenIds;
+      });
+    }
+
+    private void removePosting(String token, Long postId) {
+      postings.computeIfPresent(token, (key, ids) -> {
+        ids.remove(postId);
+        return ids.isEmpty() ? null : ids;
+      });
+    }
+  }
+}
@@ -0,0 +1,76 @@
+package com.devonoff.domain.search.util;
+
+import com.devonoff.domain.infosharepost.repository.InfoSharePostRepository;
+import com.devonoff.domain.qnapost.repository.QnaPostRepository;
+import com.devonoff.domain.search.dto.PostTitle;
+import com.devonoff.domain.studyPost.repository.StudyPostRepository;
+import com.devonoff.type.PostType;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TitleSearchIndexInitializer {
+
+  private final StudyPostRepository studyPostRepository;
+  private final QnaPostRepository qnaPostRepository;
+  private final InfoSharePostRepository infoSharePostRepository;
+  private final TitleSearchIndex titleSearchIndex;
+
+  // 애플리케이션 시작 시 DB 에서 제목 검색 인덱스 적재
+  @EventListener(ApplicationReadyEvent.class)
+  public void loadTitleSearchIndex() {
+    try {
+      rebuild();
+      titleSearchIndex.markReady();
+    } catch (Exception e) {
+      // 인덱스가 준비되지 않으면 기존 LIKE 검색으로 동작
+      log.error("제목 검색 인덱스 적재 실패: {}", e.getMessage(), e);
+    }
+  }
+
+  // 다른 노드에서 저장 / 수정 / 삭제된 게시글을 반영하기 위해 주기적으로 DB 기준으로 다시 맞춤
+  // (그 사이 다른 노드의 변경은 최대 rebuild-interval 만큼 늦게 검색에 반영됨)
+  @Scheduled(fixedDelayString = "${search.title-index.rebuild-interval-ms:60000}",
+      initialDelayString = "${search.title-index.rebuild-interval-ms:60000}")
+  public void rebuildTitleSearchIndex() {
+    if (!titleSearchIndex.isReady()) {
+      loadTitleSearchIndex();
+      return;
+    }
+    try {
+      int changed = rebuild();
+      if (changed > 0) {
+        log.debug("제목 검색 인덱스 {}건 갱신", changed);
+      }
+    } catch (Exception e) {
+      log.warn("제목 검색 인덱스 갱신 실패: {}", e.getMessage());
+    }
+  }
+
+  // ================================= Helper methods ================================= //
+
+  private int rebuild() {
+    return load(PostType.STUDY, studyPostRepository.findAllProjectedBy())
+        + load(PostType.QNA, qnaPostRepository.findAllProjectedBy())
+        + load(PostType.INFO, infoSharePostRepository.findAllProjectedBy());
+  }
+
+  private int load(PostType postType, List<PostTitle> postTitles) {
+    Map<Long, String> titles = new HashMap<>();
+    for (PostTitle postTitle : postTitles) {
+      if (postTitle.getId() != null) {
+        titles.put(postTitle.getId(), postTitle.getTitle());
+      }
+    }
+    return titleSearchIndex.replaceAll(postType, titles);
+  }
+}
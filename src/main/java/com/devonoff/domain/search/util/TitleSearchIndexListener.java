@@ -0,0 +1,54 @@
+package com.devonoff.domain.search.util;
+
+import com.devonoff.domain.infosharepost.entity.InfoSharePost;
+import com.devonoff.domain.qnapost.entity.QnaPost;
+import com.devonoff.domain.studyPost.entity.StudyPost;
+import com.devonoff.type.PostType;
+import com.devonoff.util.TransactionUtils;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 저장/삭제 시 제목 검색 인덱스 반영
+ * <p>
+ * 배치 삭제, 회원 탈퇴 등 서비스 외부 경로로 삭제되는 경우까지 반영되도록 엔티티 리스너로 동작하며, 트랜잭션 안에서는 커밋 이후에
+ * 반영한다. 이 노드에서의 변경만 바로 반영되고, 다른 노드의 변경은 TitleSearchIndexInitializer 의 주기적인 재적재로 반영된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TitleSearchIndexListener {
+
+  private final TitleSearchIndex titleSearchIndex;
+
+  @PostPersist
+  @PostUpdate
+  public void onSave(Object entity) {
+    if (entity instanceof StudyPost studyPost) {
+      TransactionUtils.runAfterCommit(() ->
+          titleSearchIndex.index(PostType.STUDY, studyPost.getId(), studyPost.getTitle()));
+    } else if (entity instanceof QnaPost qnaPost) {
+      TransactionUtils.runAfterCommit(() ->
+          titleSearchIndex.index(PostType.QNA, qnaPost.getId(), qnaPost.getTitle()));
+    } else if (entity instanceof InfoSharePost infoSharePost) {
+      TransactionUtils.runAfterCommit(() ->
+          titleSearchIndex.index(PostType.INFO, infoSharePost.getId(), infoSharePost.getTitle()));
+    }
+  }
+
+  @PostRemove
+  public void onRemove(Object entity) {
+    if (entity instanceof StudyPost studyPost) {
+      TransactionUtils.runAfterCommit(() ->
+          titleSearchIndex.remove(PostType.STUDY, studyPost.getId()));
+    } else if (entity instanceof QnaPost qnaPost) {
+      TransactionUtils.runAfterCommit(() ->
+          titleSearchIndex.remove(PostType.QNA, qnaPost.getId()));
+    } else if (entity instanceof InfoSharePost infoSharePost) {
+      TransactionUtils.runAfterCommit(() ->
+          titleSearchIndex.remove(PostType.INFO, infoSharePost.getId()));
+    }
+  }
+}
@@ -1,9 +1,11 @@
 package com.devonoff.domain.student.service;
 
+import com.devonoff.domain.chat.util.ChatAccessCache;
 import com.devonoff.domain.student.entity.Student;
 import com.devonoff.domain.student.repository.StudentRepository;
 import com.devonoff.domain.study.entity.Study;
 import com.devonoff.domain.study.repository.StudyRepository;
+import com.devonoff.domain.study.util.StudyMetadataCache;
 import com.devonoff.exception.CustomException;
 import com.devonoff.type.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +17,8 @@ public class StudentService {
 
   private final StudentRepository studentRepository;
   private final StudyRepository studyRepository;
+  private final ChatAccessCache chatAccessCache;
+  private final StudyMetadataCache studyMetadataCache;
 
   // 스터디에서 특정 참가자 삭제
   public void removeStudent(Long studentId) {
@@ -24,6 +28,7 @@ public class StudentService {
     Study study = student.getStudy();
 
     studentRepository.delete(student);
+    chatAccessCache.evictMembership(student.getUser().getId(), study.getId());
 
     updateTotalParticipants(study);
   }
@@ -33,5 +38,6 @@ public class StudentService {
     int participantCount = studentRepository.countParticipantsByStudy(study);
     study.setTotalParticipants(participantCount);
     studyRepository.save(study);
+    studyMetadataCache.evict(study.getId());
   }
 }
@@ -0,0 +1,30 @@
+package com.devonoff.domain.study.dto;
+
+import com.devonoff.domain.study.entity.Study;
+import java.time.LocalTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 화상 스터디룸 입장 / 퇴장 시 필요한 스터디 정보
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudyMetadata {
+
+  private Long studyId;
+  private Integer totalParticipants;
+  private LocalTime endTime;
+
+  public static StudyMetadata fromEntity(Study study) {
+    return StudyMetadata.builder()
+        .studyId(study.getId())
+        .totalParticipants(study.getTotalParticipants())
+        .endTime(study.getEndTime())
+        .build();
+  }
+}
@@ -0,0 +1,8 @@
+package com.devonoff.domain.study.dto;
+
+public interface StudyName {
+
+  Long getId();
+
+  String getStudyName();
+}
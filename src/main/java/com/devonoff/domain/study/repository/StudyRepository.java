@@ -1,8 +1,10 @@
 package com.devonoff.domain.study.repository;
 
+import com.devonoff.domain.study.dto.StudyName;
 import com.devonoff.domain.study.entity.Study;
 import com.devonoff.type.StudyStatus;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -17,4 +19,6 @@ public interface StudyRepository extends JpaRepository<Study, Long> {
   List<Study> findAllByStatusAndStartDateBefore(StudyStatus status, LocalDateTime now);
 
   List<Study> findAllByStatusAndEndDateBefore(StudyStatus status, LocalDateTime now);
+
+  List<StudyName> findAllByIdIn(Collection<Long> ids);
 }
@@ -0,0 +1,140 @@
+package com.devonoff.domain.study.util;
+
+import com.devonoff.domain.study.dto.StudyMetadata;
+import com.devonoff.domain.study.repository.StudyRepository;
+import com.devonoff.util.TransactionUtils;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스터디 정보 캐시 (TTL)
+ * <p>
+ * 화상 스터디룸 입장 / 퇴장마다 발생하던 스터디 조회(총 인원, 종료 시간)를 TTL 동안 재사용한다. 같은 스터디의 동시 조회는 한 번만 DB 를
+ * 조회하고, 참가자 수가 바뀌면(StudentService) 커밋 이후에 제거된다.
+ * <p>
+ * 여러 노드로 동작할 때(websocket.broker.mode 가 local 이 아닐 때) 는 제거할 스터디 ID 를 Redis 채널(evict-channel)로 발행해 모든
+ * 노드에서 함께 제거한다. Redis pub/sub 은 전달을 보장하지 않으므로, 발행이 유실된 노드에서는 최대 TTL 동안 이전 총 인원이 유지된다.
+ */
+@Slf4j
+@Component
+public class StudyMetadataCache implements MessageListener, DisposableBean {
+
+  private final StudyRepository studyRepository;
+  private final StringRedisTemplate stringRedisTemplate;
+  private final long ttlNanos;
+  private final String evictChannel;
+  private final RedisMessageListenerContainer listenerContainer;
+  private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+
+  public StudyMetadataCache(StudyRepository studyRepository,
+      StringRedisTemplate stringRedisTemplate, RedisConnectionFactory redisConnectionFactory,
+      @Value("${study.metadata-cache.ttl-seconds:60}") long ttlSeconds,
+      @Value("${study.metadata-cache.evict-channel:study:metadata:evict}") String evictChannel,
+      @Value("${websocket.broker.mode:local}") String brokerMode) {
+    this.studyRepository = studyRepository;
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+    this.evictChannel = evictChannel;
+
+    if ("local".equalsIgnoreCase(brokerMode)) {
+      this.listenerContainer = null;
+      return;
+    }
+    this.listenerContainer = new RedisMessageListenerContainer();
+    listenerContainer.setConnectionFactory(redisConnectionFactory);
+    listenerContainer.addMessageListener(this, new ChannelTopic(evictChannel));
+    listenerContainer.afterPropertiesSet();
+    listenerContainer.start();
+  }
+
+  /**
+   * 스터디 정보 조회 (캐시 우선)
+   *
+   * @param studyId
+   * @return 스터디가 없으면 Optional.empty()
+   */
+  public Optional<StudyMetadata> get(Long studyId) {
+    long now = System.nanoTime();
+    Entry entry = entries.get(studyId);
+    if (entry != null && entry.expiresAt - now > 0) {
+      return Optional.of(entry.metadata);
+    }
+    // 만료 / 미적재 시 키 단위로 한 번만 조회 (evict 는 조회가 끝난 뒤에 반영됨)
+    entry = entries.compute(studyId, (key, current) -> {
+      long loadedAt = System.nanoTime();
+      if (current != null && current.expiresAt - loadedAt > 0) {
+        return current;
+      }
+      return studyRepository.findById(key)
+          .map(study -> new Entry(StudyMetadata.fromEntity(study), loadedAt + ttlNanos))
+          .orElse(null);
+    });
+    return entry == null ? Optional.empty() : Optional.of(entry.metadata);
+  }
+
+  public void evict(Long studyId) {
+    if (studyId == null) {
+      return;
+    }
+    TransactionUtils.runAfterCommit(() -> {
+      entries.remove(studyId);
+      if (listenerContainer != null) {
+        publishEvict(studyId);
+      }
+    });
+  }
+
+  // 다른 노드에서 발행한 제거
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    try {
+      entries.remove(Long.valueOf(new String(message.getBody())));
+    } catch (NumberFormatException e) {
+      log.warn("스터디 정보 캐시 제거 메시지 해석 실패: {}", e.getMessage());
+    }
+  }
+
+  @Override
+  public void destroy() {
+    if (listenerContainer == null) {
+      return;
+    }
+    try {
+      listenerContainer.destroy();
+    } catch (Exception e) {
+      log.warn("스터디 정보 캐시 제거 구독 종료 실패: {}", e.getMessage());
+    }
+  }
+
+  // ================================= Helper methods ================================= //
+
+  private void publishEvict(Long studyId) {
+    try {
+      stringRedisTemplate.convertAndSend(evictChannel, String.valueOf(studyId));
+    } catch (RuntimeException e) {
+      log.warn("스터디 정보 캐시 제거 발행 실패 (studyId: {}): {}", studyId, e.getMessage());
+    }
+  }
+
+  private static class Entry {
+
+    private final StudyMetadata metadata;
+    private final long expiresAt;
+
+    private Entry(StudyMetadata metadata, long expiresAt) {
+      this.metadata = metadata;
+      this.expiresAt = expiresAt;
+    }
+  }
+}
@@ -4,6 +4,7 @@ import com.devonoff.domain.studyPost.dto.StudyCommentDto;
 import com.devonoff.domain.studyPost.dto.StudyCommentRequest;
 import com.devonoff.domain.studyPost.dto.StudyCommentResponse;
 import com.devonoff.domain.studyPost.dto.StudyPostCreateRequest;
+import com.devonoff.domain.studyPost.dto.StudyPostCursorResponse;
 import com.devonoff.domain.studyPost.dto.StudyPostDto;
 import com.devonoff.domain.studyPost.dto.StudyPostUpdateRequest;
 import com.devonoff.domain.studyPost.dto.StudyReplyDto;
@@ -72,6 +73,26 @@ public class StudyPostController {
     return ResponseEntity.ok(studyPosts);
   }
 
+  // 스터디 모집글 검색 (커서 기반)
+  @GetMapping("/search/cursor")
+  public ResponseEntity<StudyPostCursorResponse> searchStudyPostsByCursor(
+      @RequestParam(required = false) StudyMeetingType meetingType,
+      @RequestParam(required = false) String title,
+      @RequestParam(required = false) StudySubject subject,
+      @RequestParam(required = false) StudyDifficulty difficulty,
+      @RequestParam(required = false, defaultValue = "0") int dayType,
+      @RequestParam(required = false) StudyPostStatus status,
+      @RequestParam(required = false) Double latitude,
+      @RequestParam(required = false) Double longitude,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false, defaultValue = "12") int size) {
+
+    StudyPostCursorResponse studyPosts = studyPostService.searchStudyPostsByCursor(
+        meetingType, title, subject, difficulty, dayType, status, latitude, longitude, cursor,
+        size);
+    return ResponseEntity.ok(studyPosts);
+  }
+
   // 스터디 모집글 생성
   @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
   public ResponseEntity<StudyPostDto> createStudyPost(
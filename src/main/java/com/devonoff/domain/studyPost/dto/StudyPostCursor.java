@@ -0,0 +1,71 @@
+package com.devonoff.domain.studyPost.dto;
+
+import com.devonoff.exception.CustomException;
+import com.devonoff.type.ErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 스터디 모집글 커서(seek) 페이지네이션용 커서
+ * <p>
+ * 최신순 정렬은 (createdAt, id), HYBRID 거리순 정렬은 (distance, id) 를 기준으로 하며 클라이언트에는 Base64 로 인코딩된
+ * 불투명한 문자열로 전달된다.
+ */
+@Getter
+@AllArgsConstructor
+public class StudyPostCursor {
+
+  private static final String DELIMITER = "|";
+
+  private LocalDateTime createdAt;
+  private Double distance;
+  private Long id;
+
+  public static StudyPostCursor ofCreatedAt(LocalDateTime createdAt, Long id) {
+    return new StudyPostCursor(createdAt, null, id);
+  }
+
+  public static StudyPostCursor ofDistance(Double distance, Long id) {
+    return new StudyPostCursor(null, distance, id);
+  }
+
+  public boolean isDistanceCursor() {
+    return distance != null;
+  }
+
+  public String encode() {
+    String raw = isDistanceCursor()
+        ? "D" + DELIMITER + distance + DELIMITER + id
+        : "C" + DELIMITER + createdAt + DELIMITER + id;
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static StudyPostCursor decode(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return null;
+    }
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      String[] parts = raw.split("\\" + DELIMITER);
+      if (parts.length != 3) {
+        throw new CustomException(ErrorCode.INVALID_CURSOR);
+      }
+      Long id = Long.valueOf(parts[2]);
+      if ("D".equals(parts[0])) {
+        return ofDistance(Double.valueOf(parts[1]), id);
+      }
+      if ("C".equals(parts[0])) {
+        return ofCreatedAt(LocalDateTime.parse(parts[1]), id);
+      }
+      throw new CustomException(ErrorCode.INVALID_CURSOR);
+    } catch (CustomException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new CustomException(ErrorCode.INVALID_CURSOR);
+    }
+  }
+}
@@ -0,0 +1,19 @@
+package com.devonoff.domain.studyPost.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudyPostCursorResponse {
+
+  private List<StudyPostDto> content;
+  private int size;
+  private boolean hasNext;
+  private String nextCursor;
+}
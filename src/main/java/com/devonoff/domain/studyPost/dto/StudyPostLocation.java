@@ -0,0 +1,11 @@
+package com.devonoff.domain.studyPost.dto;
+
+// 위치 인덱스 적재용 프로젝션
+public interface StudyPostLocation {
+
+  Long getId();
+
+  Double getLatitude();
+
+  Double getLongitude();
+}
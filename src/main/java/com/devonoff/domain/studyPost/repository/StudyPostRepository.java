@@ -1,7 +1,10 @@
 package com.devonoff.domain.studyPost.repository;
 
+import com.devonoff.domain.search.dto.PostTitle;
+import com.devonoff.domain.studyPost.dto.StudyPostLocation;
 import com.devonoff.domain.studyPost.entity.StudyPost;
 import com.devonoff.domain.user.entity.User;
+import com.devonoff.type.StudyMeetingType;
 import com.devonoff.type.StudyPostStatus;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -25,4 +28,9 @@ public interface StudyPostRepository extends JpaRepository<StudyPost, Long>,
   List<StudyPost> findAllByUser(User user);
 
   List<StudyPost> findAllByStatusAndUpdatedAtBefore(StudyPostStatus status, LocalDateTime updatedAt);
-}
\ No newline at end of file
+
+  List<StudyPostLocation> findAllByMeetingTypeAndStatusNotAndLatitudeIsNotNullAndLongitudeIsNotNull(
+      StudyMeetingType meetingType, StudyPostStatus status);
+
+  List<PostTitle> findAllProjectedBy();
+}
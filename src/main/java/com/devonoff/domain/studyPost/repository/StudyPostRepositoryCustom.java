@@ -1,5 +1,7 @@
 package com.devonoff.domain.studyPost.repository;
 
+import com.devonoff.domain.studyPost.dto.StudyPostCursor;
+import com.devonoff.domain.studyPost.dto.StudyPostCursorResponse;
 import com.devonoff.domain.studyPost.dto.StudyPostDto;
 import com.devonoff.type.StudyDifficulty;
 import com.devonoff.type.StudyMeetingType;
@@ -14,4 +16,9 @@ public interface StudyPostRepositoryCustom {
       StudyMeetingType meetingType, String title, StudySubject subject,
       StudyDifficulty difficulty, int dayType, StudyPostStatus status,
       Double latitude, Double longitude, Pageable pageable);
-}
\ No newline at end of file
+
+  StudyPostCursorResponse findStudyPostsByFiltersWithCursor(
+      StudyMeetingType meetingType, String title, StudySubject subject,
+      StudyDifficulty difficulty, int dayType, StudyPostStatus status,
+      Double latitude, Double longitude, StudyPostCursor cursor, int size);
+}
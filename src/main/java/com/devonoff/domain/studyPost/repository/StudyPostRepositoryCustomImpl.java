@@ -1,18 +1,30 @@
 package com.devonoff.domain.studyPost.repository;
 
+import com.devonoff.domain.search.util.TitleSearchIndex;
+import com.devonoff.domain.studyPost.dto.StudyPostCursor;
+import com.devonoff.domain.studyPost.dto.StudyPostCursorResponse;
 import com.devonoff.domain.studyPost.dto.StudyPostDto;
 import com.devonoff.domain.studyPost.entity.QStudyPost;
 import com.devonoff.domain.studyPost.entity.StudyPost;
+import com.devonoff.domain.studyPost.util.GeoCandidate;
+import com.devonoff.domain.studyPost.util.StudyPostGeoIndex;
+import com.devonoff.exception.CustomException;
+import com.devonoff.type.ErrorCode;
+import com.devonoff.type.PostType;
 import com.devonoff.type.StudyDifficulty;
 import com.devonoff.type.StudyMeetingType;
 import com.devonoff.type.StudyPostStatus;
 import com.devonoff.type.StudySubject;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -23,7 +35,16 @@ import org.springframework.stereotype.Repository;
 @RequiredArgsConstructor
 public class StudyPostRepositoryCustomImpl implements StudyPostRepositoryCustom {
 
+  private static final int MIN_GEO_CANDIDATES = 64;
+  private static final int MAX_GEO_CANDIDATES = 5000;
+  private static final int GEO_CANDIDATE_MULTIPLIER = 4;
+  // DB 의 acos 거리와 인덱스의 haversine 거리 차이를 흡수하기 위한 여유 (10m)
+  private static final double DISTANCE_EPSILON_KM = 0.01;
+  private static final int MAX_TITLE_CANDIDATES = 1000;
+
   private final JPAQueryFactory queryFactory;
+  private final StudyPostGeoIndex studyPostGeoIndex;
+  private final TitleSearchIndex titleSearchIndex;
 
   @Override
   public Page<StudyPostDto> findStudyPostsByFilters(
@@ -33,23 +54,34 @@ public class StudyPostRepositoryCustomImpl implements StudyPostRepositoryCustom
 
     QStudyPost studyPost = QStudyPost.studyPost;
 
-    BooleanBuilder builder = new BooleanBuilder();
-    builder.and(equalsMeetingType(meetingType));
-    builder.and(containsTitle(title));
-    builder.and(equalsSubject(subject));
-    builder.and(equalsDifficulty(difficulty));
-    builder.and(equalsStatus(status));
-    builder.and(equalsDayType(dayType));
+    BooleanBuilder builder = buildFilters(meetingType, title, subject, difficulty, dayType, status);
 
-    JPAQuery<StudyPost> query = queryFactory
-        .selectFrom(studyPost)
-        .where(builder)
-        .offset(pageable.getOffset())
-        .limit(pageable.getPageSize());
+    List<StudyPost> rows = null;
+    if (isDistanceSort(meetingType, latitude, longitude) && canUseGeoIndex(status)) {
+      NumberExpression<Double> distance = distanceExpression(latitude, longitude, studyPost);
+      rows = fetchWithGeoCandidates(latitude, longitude, 0,
+          pageable.getOffset() + pageable.getPageSize(), pageable.getPageSize(),
+          candidateIds -> queryFactory
+              .selectFrom(studyPost)
+              .where(builder, studyPost.id.in(candidateIds))
+              .orderBy(distance.asc())
+              .offset(pageable.getOffset())
+              .limit(pageable.getPageSize())
+              .fetch());
+    }
 
-    query = applySorting(query, meetingType, latitude, longitude, studyPost);
+    if (rows == null) {
+      JPAQuery<StudyPost> query = queryFactory
+          .selectFrom(studyPost)
+          .where(builder)
+          .offset(pageable.getOffset())
+          .limit(pageable.getPageSize());
 
-    List<StudyPostDto> results = query.fetch()
+      query = applySorting(query, meetingType, latitude, longitude, studyPost);
+      rows = query.fetch();
+    }
+
+    List<StudyPostDto> results = rows
         .stream()
         .map(StudyPostDto::fromEntity)
         .toList();
@@ -64,6 +96,175 @@ public class StudyPostRepositoryCustomImpl implements StudyPostRepositoryCustom
     return new PageImpl<>(results, pageable, total);
   }
 
+  /**
+   * 커서(seek) 방식 검색
+   * <p>
+   * offset 대신 마지막으로 조회한 (createdAt, id) 또는 (distance, id) 이후의 행만 조회하며, size + 1 건을 조회해
+   * 다음 페이지 존재 여부를 판단하므로 count 쿼리를 실행하지 않는다.
+   */
+  @Override
+  public StudyPostCursorResponse findStudyPostsByFiltersWithCursor(
+      StudyMeetingType meetingType, String title, StudySubject subject,
+      StudyDifficulty difficulty, int dayType, StudyPostStatus status,
+      Double latitude, Double longitude, StudyPostCursor cursor, int size) {
+
+    QStudyPost studyPost = QStudyPost.studyPost;
+
+    BooleanBuilder builder = buildFilters(meetingType, title, subject, difficulty, dayType, status);
+
+    if (isDistanceSort(meetingType, latitude, longitude)) {
+      return findByDistanceCursor(builder, latitude, longitude, cursor, size, status, studyPost);
+    }
+    return findByCreatedAtCursor(builder, cursor, size, studyPost);
+  }
+
+  private StudyPostCursorResponse findByCreatedAtCursor(BooleanBuilder builder,
+      StudyPostCursor cursor, int size, QStudyPost studyPost) {
+
+    if (cursor != null) {
+      if (cursor.isDistanceCursor()) {
+        throw new CustomException(ErrorCode.INVALID_CURSOR);
+      }
+      builder.and(studyPost.createdAt.lt(cursor.getCreatedAt())
+          .or(studyPost.createdAt.eq(cursor.getCreatedAt()).and(studyPost.id.lt(cursor.getId()))));
+    }
+
+    List<StudyPost> rows = queryFactory
+        .selectFrom(studyPost)
+        .where(builder)
+        .orderBy(studyPost.createdAt.desc(), studyPost.id.desc())
+        .limit(size + 1L)
+        .fetch();
+
+    boolean hasNext = rows.size() > size;
+    List<StudyPost> page = hasNext ? rows.subList(0, size) : rows;
+
+    String nextCursor = null;
+    if (hasNext) {
+      StudyPost last = page.get(page.size() - 1);
+      nextCursor = StudyPostCursor.ofCreatedAt(last.getCreatedAt(), last.getId()).encode();
+    }
+
+    return StudyPostCursorResponse.builder()
+        .content(page.stream().map(StudyPostDto::fromEntity).toList())
+        .size(page.size())
+        .hasNext(hasNext)
+        .nextCursor(nextCursor)
+        .build();
+  }
+
+  private StudyPostCursorResponse findByDistanceCursor(BooleanBuilder builder,
+      Double latitude, Double longitude, StudyPostCursor cursor, int size,
+      StudyPostStatus status, QStudyPost studyPost) {
+
+    NumberExpression<Double> distance = distanceExpression(latitude, longitude, studyPost);
+
+    if (cursor != null) {
+      if (!cursor.isDistanceCursor()) {
+        throw new CustomException(ErrorCode.INVALID_CURSOR);
+      }
+      builder.and(distance.gt(cursor.getDistance())
+          .or(distance.eq(cursor.getDistance()).and(studyPost.id.gt(cursor.getId()))));
+    }
+
+    List<Tuple> rows = null;
+    if (canUseGeoIndex(status)) {
+      double minDistanceKm = cursor == null ? 0
+          : Math.max(cursor.getDistance() - DISTANCE_EPSILON_KM, 0);
+      rows = fetchWithGeoCandidates(latitude, longitude, minDistanceKm, size + 1L, size + 1,
+          candidateIds -> queryFactory
+              .select(studyPost, distance)
+              .from(studyPost)
+              .where(builder, studyPost.id.in(candidateIds))
+              .orderBy(distance.asc(), studyPost.id.asc())
+              .limit(size + 1L)
+              .fetch());
+    }
+
+    if (rows == null) {
+      rows = queryFactory
+          .select(studyPost, distance)
+          .from(studyPost)
+          .where(builder)
+          .orderBy(distance.asc(), studyPost.id.asc())
+          .limit(size + 1L)
+          .fetch();
+    }
+
+    boolean hasNext = rows.size() > size;
+    List<Tuple> page = hasNext ? rows.subList(0, size) : rows;
+
+    String nextCursor = null;
+    if (hasNext) {
+      Tuple last = page.get(page.size() - 1);
+      nextCursor = StudyPostCursor.ofDistance(last.get(distance),
+          last.get(studyPost).getId()).encode();
+    }
+
+    return StudyPostCursorResponse.builder()
+        .content(page.stream().map(tuple -> StudyPostDto.fromEntity(tuple.get(studyPost)))
+            .toList())
+        .size(page.size())
+        .hasNext(hasNext)
+        .nextCursor(nextCursor)
+        .build();
+  }
+
+  /**
+   * 위치 인덱스에서 가까운 모집글 ID 를 먼저 추린 뒤, 후보에 대해서만 필터와 거리 정렬을 수행한다.
+   * <p>
+   * 후보 안에서 필요한 건수를 채우지 못하면 후보 수를 늘려 재시도하고, 상한을 넘으면 null 을 반환해 기존 전체 조회로 전환한다.
+   */
+  private <T> List<T> fetchWithGeoCandidates(double latitude, double longitude,
+      double minDistanceKm, long needed, int expectedRows,
+      Function<List<Long>, List<T>> fetcher) {
+    if (needed > MAX_GEO_CANDIDATES) {
+      return null;
+    }
+
+    int k = (int) Math.min(Math.max(needed * GEO_CANDIDATE_MULTIPLIER, MIN_GEO_CANDIDATES),
+        MAX_GEO_CANDIDATES);
+    while (true) {
+      List<Long> candidateIds = studyPostGeoIndex.findNearest(latitude, longitude, k,
+              minDistanceKm)
+          .stream()
+          .map(GeoCandidate::getStudyPostId)
+          .distinct()
+          .toList();
+      boolean exhausted = candidateIds.size() < k;
+      if (candidateIds.isEmpty()) {
+        return new ArrayList<>();
+      }
+
+      List<T> rows = fetcher.apply(candidateIds);
+      if (rows.size() >= expectedRows || exhausted) {
+        return rows;
+      }
+      if (k >= MAX_GEO_CANDIDATES) {
+        return null;
+      }
+      k = Math.min(k * GEO_CANDIDATE_MULTIPLIER, MAX_GEO_CANDIDATES);
+    }
+  }
+
+  // 취소된 모집글은 인덱스에 없으므로 취소 상태 검색이나 상태 조건이 없는 검색(취소 포함) 에는 사용하지 않음
+  private boolean canUseGeoIndex(StudyPostStatus status) {
+    return studyPostGeoIndex.isReady() && status != null
+        && !StudyPostStatus.CANCELED.equals(status);
+  }
+
+  private BooleanBuilder buildFilters(StudyMeetingType meetingType, String title,
+      StudySubject subject, StudyDifficulty difficulty, int dayType, StudyPostStatus status) {
+    BooleanBuilder builder = new BooleanBuilder();
+    builder.and(equalsMeetingType(meetingType));
+    builder.and(containsTitle(title));
+    builder.and(equalsSubject(subject));
+    builder.and(equalsDifficulty(difficulty));
+    builder.and(equalsStatus(status));
+    builder.and(equalsDayType(dayType));
+    return builder;
+  }
+
   private BooleanBuilder equalsMeetingType(StudyMeetingType meetingType) {
     return Optional.ofNullable(meetingType)
         .map(mt -> new BooleanBuilder(QStudyPost.studyPost.meetingType.eq(mt)))
@@ -71,6 +272,16 @@ public class StudyPostRepositoryCustomImpl implements StudyPostRepositoryCustom
   }
 
   private BooleanBuilder containsTitle(String title) {
+    // 제목 검색 인덱스로 후보 ID 를 구할 수 있으면 LIKE 대신 ID 조건 사용
+    if (title != null && !title.isBlank() && titleSearchIndex.isReady()) {
+      List<Long> matchedIds = titleSearchIndex.search(PostType.STUDY, title);
+      if (matchedIds.isEmpty()) {
+        return new BooleanBuilder(Expressions.FALSE.isTrue());
+      }
+      if (matchedIds.size() <= MAX_TITLE_CANDIDATES) {
+        return new BooleanBuilder(QStudyPost.studyPost.id.in(matchedIds));
+      }
+    }
     return Optional.ofNullable(title)
         .map(t -> new BooleanBuilder(QStudyPost.studyPost.title.contains(t)))
         .orElseGet(BooleanBuilder::new);
@@ -112,15 +323,24 @@ public class StudyPostRepositoryCustomImpl implements StudyPostRepositoryCustom
       Double longitude,
       QStudyPost studyPost) {
 
-    if (StudyMeetingType.HYBRID.equals(meetingType) && latitude != null && longitude != null) {
-      var distanceExpression = Expressions.numberTemplate(
-          Double.class,
-          "6371 * acos(cos(radians({0})) * cos(radians({1})) * cos(radians({2}) - radians({3})) + sin(radians({4})) * sin(radians({5})))",
-          latitude, studyPost.latitude, studyPost.longitude, longitude, latitude, studyPost.latitude
-      );
-      return query.orderBy(distanceExpression.asc());
+    if (isDistanceSort(meetingType, latitude, longitude)) {
+      return query.orderBy(distanceExpression(latitude, longitude, studyPost).asc());
     } else {
       return query.orderBy(studyPost.createdAt.desc());
     }
   }
+
+  private boolean isDistanceSort(StudyMeetingType meetingType, Double latitude,
+      Double longitude) {
+    return StudyMeetingType.HYBRID.equals(meetingType) && latitude != null && longitude != null;
+  }
+
+  private NumberExpression<Double> distanceExpression(Double latitude, Double longitude,
+      QStudyPost studyPost) {
+    return Expressions.numberTemplate(
+        Double.class,
+        "6371 * acos(cos(radians({0})) * cos(radians({1})) * cos(radians({2}) - radians({3})) + sin(radians({4})) * sin(radians({5})))",
+        latitude, studyPost.latitude, studyPost.longitude, longitude, latitude, studyPost.latitude
+    );
+  }
 }
\ No newline at end of file
@@ -14,6 +14,8 @@ import com.devonoff.domain.studyPost.dto.StudyCommentDto;
 import com.devonoff.domain.studyPost.dto.StudyCommentRequest;
 import com.devonoff.domain.studyPost.dto.StudyCommentResponse;
 import com.devonoff.domain.studyPost.dto.StudyPostCreateRequest;
+import com.devonoff.domain.studyPost.dto.StudyPostCursor;
+import com.devonoff.domain.studyPost.dto.StudyPostCursorResponse;
 import com.devonoff.domain.studyPost.dto.StudyPostDto;
 import com.devonoff.domain.studyPost.dto.StudyPostUpdateRequest;
 import com.devonoff.domain.studyPost.dto.StudyReplyDto;
@@ -24,6 +26,7 @@ import com.devonoff.domain.studyPost.entity.StudyReply;
 import com.devonoff.domain.studyPost.repository.StudyCommentRepository;
 import com.devonoff.domain.studyPost.repository.StudyPostRepository;
 import com.devonoff.domain.studyPost.repository.StudyReplyRepository;
+import com.devonoff.domain.studyPost.util.StudyPostGeoIndex;
 import com.devonoff.domain.studySignup.entity.StudySignup;
 import com.devonoff.domain.studySignup.repository.StudySignupRepository;
 import com.devonoff.domain.user.dto.UserDto;
@@ -40,6 +43,7 @@ import com.devonoff.type.StudyPostStatus;
 import com.devonoff.type.StudySignupStatus;
 import com.devonoff.type.StudySubject;
 import com.devonoff.util.DayTypeUtils;
+import com.devonoff.util.TransactionUtils;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
@@ -58,6 +62,8 @@ import org.springframework.web.multipart.MultipartFile;
 @RequiredArgsConstructor
 public class StudyPostService {
 
+  private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
   private final StudyPostRepository studyPostRepository;
   private final UserRepository userRepository;
   private final StudySignupRepository studySignupRepository;
@@ -68,6 +74,7 @@ public class StudyPostService {
   private final StudyCommentRepository studyCommentRepository;
   private final StudyReplyRepository studyReplyRepository;
   private final NotificationService notificationService;
+  private final StudyPostGeoIndex studyPostGeoIndex;
 
   @Value("${cloud.aws.s3.default-thumbnail-image-url}")
   private String defaultThumbnailImageUrl;
@@ -84,6 +91,7 @@ public class StudyPostService {
     StudyPost studyPost = buildStudyPost(request, user, thumbnailImgUrl);
 
     studyPostRepository.save(studyPost);
+    TransactionUtils.runAfterCommit(() -> studyPostGeoIndex.sync(studyPost));
     return StudyPostDto.fromEntity(studyPost);
   }
 
@@ -110,6 +118,18 @@ public class StudyPostService {
         dayType, status, latitude, longitude, pageable);
   }
 
+  // 조회 (검색리스트, 커서 기반)
+  public StudyPostCursorResponse searchStudyPostsByCursor(StudyMeetingType meetingType,
+      String title, StudySubject subject, StudyDifficulty difficulty, int dayType,
+      StudyPostStatus status, Double latitude, Double longitude, String cursor, int size) {
+
+    int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+
+    return studyPostRepository.findStudyPostsByFiltersWithCursor(meetingType, title, subject,
+        difficulty, dayType, status, latitude, longitude, StudyPostCursor.decode(cursor),
+        pageSize);
+  }
+
   // 수정
   @Transactional
   public StudyPostDto updateStudyPost(Long studyPostId, StudyPostUpdateRequest request) {
@@ -121,6 +141,7 @@ public class StudyPostService {
     studyPost.updateFields(request, updatedImgUrl);
 
     studyPostRepository.save(studyPost);
+    TransactionUtils.runAfterCommit(() -> studyPostGeoIndex.sync(studyPost));
 
     return StudyPostDto.fromEntity(studyPost);
   }
@@ -146,20 +167,19 @@ public class StudyPostService {
 
     Study study = studyService.createStudyFromClosedPost(studyPostId);
     studentRepository.saveAll(buildStudents(approvedSignups, study, studyPost.getUser()));
-    for (StudySignup studySignup : approvedSignups) {
-      notificationService.sendNotificationToUser(studySignup.getUser().getId(),
-          NotificationDto.builder()
-              .type(NotificationType.STUDY_CREATED)
-              .userId(studySignup.getUser().getId())
-              .sender(UserDto.fromEntity(studyPost.getUser()))
-              .postType(PostType.STUDY)
-              .postTitle(studyPost.getTitle())
-              .postContent(studyPost.getDescription())
-              .studyName(studyPost.getStudyName())
-              .targetId(studyPost.getId())
-              .isRead(false)
-              .build());
-    }
+    List<Long> memberIds = approvedSignups.stream()
+        .map(studySignup -> studySignup.getUser().getId())
+        .toList();
+    notificationService.sendNotificationToUsers(memberIds, NotificationDto.builder()
+        .type(NotificationType.STUDY_CREATED)
+        .sender(UserDto.fromEntity(studyPost.getUser()))
+        .postType(PostType.STUDY)
+        .postTitle(studyPost.getTitle())
+        .postContent(studyPost.getDescription())
+        .studyName(studyPost.getStudyName())
+        .targetId(studyPost.getId())
+        .isRead(false)
+        .build());
   }
 
   // 모집 취소 -> 사용자가 직접 취소
@@ -173,6 +193,7 @@ public class StudyPostService {
 
     studyPost.cancelRecruitment();
     studyPostRepository.save(studyPost);
+    TransactionUtils.runAfterCommit(() -> studyPostGeoIndex.sync(studyPost));
   }
 
   // 모집 취소 -> 배치 작업으로 자동 취소
@@ -188,6 +209,7 @@ public class StudyPostService {
     });
 
     studyPostRepository.saveAll(expiredPosts);
+    TransactionUtils.runAfterCommit(() -> expiredPosts.forEach(studyPostGeoIndex::sync));
   }
 
   // 모집 취소된 스터디 모집 기간 연장
@@ -208,6 +230,7 @@ public class StudyPostService {
     studyPost.setStatus(StudyPostStatus.RECRUITING);
     studyPost.setRecruitmentPeriod(newRecruitmentPeriod);
     studyPostRepository.save(studyPost);
+    TransactionUtils.runAfterCommit(() -> studyPostGeoIndex.sync(studyPost));
   }
 
   // 댓글
@@ -0,0 +1,12 @@
+package com.devonoff.domain.studyPost.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class GeoCandidate {
+
+  private Long studyPostId;
+  private double distance; // km
+}
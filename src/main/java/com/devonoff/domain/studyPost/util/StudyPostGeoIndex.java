@@ -0,0 +1,320 @@
+package com.devonoff.domain.studyPost.util;
+
+import com.devonoff.domain.studyPost.entity.StudyPost;
+import com.devonoff.type.StudyMeetingType;
+import com.devonoff.type.StudyPostStatus;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * HYBRID 스터디 모집글 위치 인덱스
+ * <p>
+ * 위도/경도를 고정 크기(약 5km) 격자 셀로 나누어 셀 단위로 모집글 ID 를 보관한다. 반경 검색은 반경을 덮는 셀만, 최근접 K 검색은 중심
+ * 셀에서부터 링 단위로 넓혀가며 탐색하므로 조회 비용이 전체 모집글 수가 아닌 주변 모집글 수에 비례한다.
+ */
+@Slf4j
+@Component
+public class StudyPostGeoIndex {
+
+  private static final double EARTH_RADIUS_KM = 6371;
+  private static final double KM_PER_DEGREE = 111.19;
+  private static final double CELL_SIZE_DEGREES = 0.05;
+  private static final int LAT_CELLS = (int) Math.ceil(180 / CELL_SIZE_DEGREES);
+  private static final int LNG_CELLS = (int) Math.ceil(360 / CELL_SIZE_DEGREES);
+  private static final int MAX_RING = 100; // 이 이상 넓혀야 하면 전체 탐색으로 전환
+  private static final double LOWER_BOUND_SAFETY_FACTOR = 0.9;
+
+  private final ConcurrentHashMap<Long, double[]> points = new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+  private volatile boolean ready = false;
+
+  // 모집글 상태에 맞춰 인덱스 반영 (생성/수정/취소/연장 시 호출)
+  public void sync(StudyPost studyPost) {
+    if (studyPost.getId() == null) {
+      return;
+    }
+    if (isIndexable(studyPost.getMeetingType(), studyPost.getStatus(),
+        studyPost.getLatitude(), studyPost.getLongitude())) {
+      put(studyPost.getId(), studyPost.getLatitude(), studyPost.getLongitude());
+    } else {
+      remove(studyPost.getId());
+    }
+  }
+
+  public static boolean isIndexable(StudyMeetingType meetingType, StudyPostStatus status,
+      Double latitude, Double longitude) {
+    return StudyMeetingType.HYBRID.equals(meetingType)
+        && !StudyPostStatus.CANCELED.equals(status)
+        && latitude != null && longitude != null;
+  }
+
+  public void put(Long studyPostId, double latitude, double longitude) {
+    long newCell = cellKey(latIndex(latitude), lngIndex(longitude));
+    double[] previous = points.put(studyPostId, new double[]{latitude, longitude});
+    if (previous != null) {
+      long oldCell = cellKey(latIndex(previous[0]), lngIndex(previous[1]));
+      if (oldCell == newCell) {
+        return;
+      }
+      removeFromCell(oldCell, studyPostId);
+    }
+    cells.compute(newCell, (key, ids) -> {
+      Set<Long> cellIds = ids != null ? ids : ConcurrentHashMap.<Long>newKeySet();
+      cellIds.add(studyPostId);
+      return cellIds;
+    });
+  }
+
+  public void remove(Long studyPostId) {
+    double[] previous = points.remove(studyPostId);
+    if (previous != null) {
+      removeFromCell(cellKey(latIndex(previous[0]), lngIndex(previous[1])), studyPostId);
+    }
+  }
+
+  /**
+   * DB 기준으로 인덱스를 다시 맞춤
+   * <p>
+   * 위치가 바뀐 모집글만 다시 반영하고, 목록에 없는 모집글은 제거한다. 조회 이후 이 노드에서 새로 저장된 모집글(조회한 최대 ID 보다 큰
+   * ID) 은 제거하지 않는다.
+   *
+   * @param locations 모집글 ID → [위도, 경도]
+   * @return 변경된 모집글 수
+   */
+  public int replaceAll(Map<Long, double[]> locations) {
+    int changed = 0;
+    long maxId = 0;
+    for (Map.Entry<Long, double[]> entry : locations.entrySet()) {
+      maxId = Math.max(maxId, entry.getKey());
+      double[] previous = points.get(entry.getKey());
+      if (previous == null || previous[0] != entry.getValue()[0]
+          || previous[1] != entry.getValue()[1]) {
+        put(entry.getKey(), entry.getValue()[0], entry.getValue()[1]);
+        changed++;
+      }
+    }
+    for (Long studyPostId : new ArrayList<>(points.keySet())) {
+      if (studyPostId <= maxId && !locations.containsKey(studyPostId)) {
+        remove(studyPostId);
+        changed++;
+      }
+    }
+    return changed;
+  }
+
+  public void markReady() {
+    this.ready = true;
+    log.info("스터디 모집글 위치 인덱스 준비 완료 (모집글 수: {})", points.size());
+  }
+
+  public boolean isReady() {
+    return ready;
+  }
+
+  public int size() {
+    return points.size();
+  }
+
+  /**
+   * 반경 검색
+   *
+   * @param latitude
+   * @param longitude
+   * @param radiusKm
+   * @return 거리 오름차순으로 정렬된 후보 목록
+   */
+  public List<GeoCandidate> findWithinRadius(double latitude, double longitude,
+      double radiusKm) {
+    double latDelta = radiusKm / KM_PER_DEGREE;
+    double maxLat = Math.min(89.0, Math.abs(latitude) + latDelta);
+    double lngDelta = radiusKm / (KM_PER_DEGREE * Math.max(Math.cos(Math.toRadians(maxLat)), 0.01));
+
+    int minLatIdx = latIndex(latitude - latDelta);
+    int maxLatIdx = latIndex(latitude + latDelta);
+    long minLngIdx = (long) Math.floor((longitude - lngDelta + 180) / CELL_SIZE_DEGREES);
+    long maxLngIdx = (long) Math.floor((longitude + lngDelta + 180) / CELL_SIZE_DEGREES);
+
+    long cellCount = (long) (maxLatIdx - minLatIdx + 1) * (maxLngIdx - minLngIdx + 1);
+
+    List<GeoCandidate> result = new ArrayList<>();
+    if (cellCount > points.size() || maxLngIdx - minLngIdx + 1 >= LNG_CELLS) {
+      points.forEach((id, point) -> {
+        double distance = distanceKm(latitude, longitude, point[0], point[1]);
+        if (distance <= radiusKm) {
+          result.add(new GeoCandidate(id, distance));
+        }
+      });
+    } else {
+      for (int i = minLatIdx; i <= maxLatIdx; i++) {
+        for (long j = minLngIdx; j <= maxLngIdx; j++) {
+          collectCell(cellKey(i, (int) Math.floorMod(j, (long) LNG_CELLS)), latitude, longitude,
+              candidate -> {
+                if (candidate.getDistance() <= radiusKm) {
+                  result.add(candidate);
+                }
+              });
+        }
+      }
+    }
+    result.sort(Comparator.comparingDouble(GeoCandidate::getDistance));
+    return result;
+  }
+
+  public List<GeoCandidate> findNearest(double latitude, double longitude, int k) {
+    return findNearest(latitude, longitude, k, 0);
+  }
+
+  /**
+   * 최근접 K 검색
+   * <p>
+   * minDistanceKm 보다 가까운 모집글은 제외한다. (커서 기반 조회에서 이미 내려준 구간을 건너뛰기 위함)
+   *
+   * @param latitude
+   * @param longitude
+   * @param k
+   * @param minDistanceKm
+   * @return 거리 오름차순으로 정렬된 최대 k 개의 후보 목록
+   */
+  public List<GeoCandidate> findNearest(double latitude, double longitude, int k,
+      double minDistanceKm) {
+    if (k <= 0 || points.isEmpty()) {
+      return List.of();
+    }
+
+    PriorityQueue<GeoCandidate> heap = new PriorityQueue<>(
+        Comparator.comparingDouble(GeoCandidate::getDistance).reversed());
+    Consumer<GeoCandidate> offer = candidate -> {
+      if (candidate.getDistance() < minDistanceKm) {
+        return;
+      }
+      if (heap.size() < k) {
+        heap.offer(candidate);
+      } else if (candidate.getDistance() < heap.peek().getDistance()) {
+        heap.poll();
+        heap.offer(candidate);
+      }
+    };
+
+    if (points.size() <= k) {
+      points.forEach((id, point) -> offer.accept(
+          new GeoCandidate(id, distanceKm(latitude, longitude, point[0], point[1]))));
+      return toSortedList(heap);
+    }
+
+    int centerLat = latIndex(latitude);
+    int centerLng = lngIndex(longitude);
+    boolean finished = false;
+
+    for (int ring = 0; ring <= MAX_RING; ring++) {
+      if (heap.size() == k && ringLowerBoundKm(latitude, ring) > heap.peek().getDistance()) {
+        finished = true;
+        break;
+      }
+      visitRing(centerLat, centerLng, ring, latitude, longitude, offer);
+    }
+
+    if (!finished) {
+      heap.clear();
+      points.forEach((id, point) -> offer.accept(
+          new GeoCandidate(id, distanceKm(latitude, longitude, point[0], point[1]))));
+    }
+    return toSortedList(heap);
+  }
+
+  // 하버사인 거리 (km)
+  public static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+    double dLat = Math.toRadians(lat2 - lat1);
+    double dLng = Math.toRadians(lng2 - lng1);
+    double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+        + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+        * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+    return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+  }
+
+  // ================================= Helper methods ================================= //
+
+  private void visitRing(int centerLat, int centerLng, int ring, double latitude,
+      double longitude, Consumer<GeoCandidate> offer) {
+    if (ring == 0) {
+      collectCell(cellKey(centerLat, centerLng), latitude, longitude, offer);
+      return;
+    }
+    for (int dj = -ring; dj <= ring; dj++) {
+      visitCell(centerLat - ring, centerLng + dj, latitude, longitude, offer);
+      visitCell(centerLat + ring, centerLng + dj, latitude, longitude, offer);
+    }
+    for (int di = -ring + 1; di <= ring - 1; di++) {
+      visitCell(centerLat + di, centerLng - ring, latitude, longitude, offer);
+      visitCell(centerLat + di, centerLng + ring, latitude, longitude, offer);
+    }
+  }
+
+  private void visitCell(int latIdx, int lngIdx, double latitude, double longitude,
+      Consumer<GeoCandidate> offer) {
+    if (latIdx < 0 || latIdx >= LAT_CELLS) {
+      return;
+    }
+    collectCell(cellKey(latIdx, Math.floorMod(lngIdx, LNG_CELLS)), latitude, longitude, offer);
+  }
+
+  private void collectCell(long cellKey, double latitude, double longitude,
+      Consumer<GeoCandidate> consumer) {
+    Set<Long> ids = cells.get(cellKey);
+    if (ids == null) {
+      return;
+    }
+    for (Long id : ids) {
+      double[] point = points.get(id);
+      if (point != null) {
+        consumer.accept(
+            new GeoCandidate(id, distanceKm(latitude, longitude, point[0], point[1])));
+      }
+    }
+  }
+
+  // ring 번째 링에 속한 셀의 점들이 가질 수 있는 최소 거리 (보수적으로 계산)
+  private double ringLowerBoundKm(double latitude, int ring) {
+    if (ring <= 1) {
+      return 0;
+    }
+    double degrees = (ring - 1) * CELL_SIZE_DEGREES;
+    double maxLat = Math.min(89.0, Math.abs(latitude) + (ring + 1) * CELL_SIZE_DEGREES);
+    double latKm = degrees * KM_PER_DEGREE;
+    double lngKm = degrees * KM_PER_DEGREE * Math.cos(Math.toRadians(maxLat));
+    return Math.min(latKm, lngKm) * LOWER_BOUND_SAFETY_FACTOR;
+  }
+
+  private void removeFromCell(long cellKey, Long studyPostId) {
+    cells.computeIfPresent(cellKey, (key, ids) -> {
+      ids.remove(studyPostId);
+      return ids.isEmpty() ? null : ids;
+    });
+  }
+
+  private List<GeoCandidate> toSortedList(PriorityQueue<GeoCandidate> heap) {
+    List<GeoCandidate> result = new ArrayList<>(heap);
+    result.sort(Comparator.comparingDouble(GeoCandidate::getDistance));
+    return result;
+  }
+
+  private static int latIndex(double latitude) {
+    int idx = (int) Math.floor((latitude + 90) / CELL_SIZE_DEGREES);
+    return Math.min(Math.max(idx, 0), LAT_CELLS - 1);
+  }
+
+  private static int lngIndex(double longitude) {
+    return Math.floorMod((int) Math.floor((longitude + 180) / CELL_SIZE_DEGREES), LNG_CELLS);
+  }
+
+  private static long cellKey(int latIdx, int lngIdx) {
+    return (long) latIdx * LNG_CELLS + lngIdx;
+  }
+}
@@ -0,0 +1,67 @@
+package com.devonoff.domain.studyPost.util;
+
+import com.devonoff.domain.studyPost.dto.StudyPostLocation;
+import com.devonoff.domain.studyPost.repository.StudyPostRepository;
+import com.devonoff.type.StudyMeetingType;
+import com.devonoff.type.StudyPostStatus;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudyPostGeoIndexInitializer {
+
+  private final StudyPostRepository studyPostRepository;
+  private final StudyPostGeoIndex studyPostGeoIndex;
+
+  // 애플리케이션 시작 시 DB 에서 위치 인덱스 적재
+  @EventListener(ApplicationReadyEvent.class)
+  public void loadGeoIndex() {
+    try {
+      studyPostGeoIndex.replaceAll(loadLocations());
+      studyPostGeoIndex.markReady();
+    } catch (Exception e) {
+      // 인덱스가 준비되지 않으면 거리 정렬은 기존 전체 조회 방식으로 동작
+      log.error("스터디 모집글 위치 인덱스 적재 실패: {}", e.getMessage(), e);
+    }
+  }
+
+  // 다른 노드에서 저장 / 수정 / 취소된 모집글을 반영하기 위해 주기적으로 DB 기준으로 다시 맞춤
+  // (그 사이 다른 노드의 변경은 최대 rebuild-interval 만큼 늦게 거리 검색에 반영됨)
+  @Scheduled(fixedDelayString = "${study-post.geo-index.rebuild-interval-ms:60000}",
+      initialDelayString = "${study-post.geo-index.rebuild-interval-ms:60000}")
+  public void rebuildGeoIndex() {
+    if (!studyPostGeoIndex.isReady()) {
+      loadGeoIndex();
+      return;
+    }
+    try {
+      int changed = studyPostGeoIndex.replaceAll(loadLocations());
+      if (changed > 0) {
+        log.debug("스터디 모집글 위치 인덱스 {}건 갱신", changed);
+      }
+    } catch (Exception e) {
+      log.warn("스터디 모집글 위치 인덱스 갱신 실패: {}", e.getMessage());
+    }
+  }
+
+  // ================================= Helper methods ================================= //
+
+  private Map<Long, double[]> loadLocations() {
+    Map<Long, double[]> locations = new HashMap<>();
+    for (StudyPostLocation location : studyPostRepository
+        .findAllByMeetingTypeAndStatusNotAndLatitudeIsNotNullAndLongitudeIsNotNull(
+            StudyMeetingType.HYBRID, StudyPostStatus.CANCELED)) {
+      locations.put(location.getId(),
+          new double[]{location.getLatitude(), location.getLongitude()});
+    }
+    return locations;
+  }
+}
@@ -1,14 +1,20 @@
 package com.devonoff.domain.totalstudytime.controller;
 
+import com.devonoff.domain.totalstudytime.dto.StudyTimeRankingSnapshot;
 import com.devonoff.domain.totalstudytime.dto.TotalStudyTimeDto;
+import com.devonoff.domain.totalstudytime.service.StudyTimeRankingSnapshotService;
 import com.devonoff.domain.totalstudytime.service.TotalStudyTimeService;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -16,6 +22,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class TotalStudyTimeController {
 
   private final TotalStudyTimeService totalStudyTimeService;
+  private final StudyTimeRankingSnapshotService studyTimeRankingSnapshotService;
 
   @GetMapping("/{studyId}")
   public ResponseEntity<TotalStudyTimeDto> getTotalStudyTime(@PathVariable Long studyId) {
@@ -24,8 +31,21 @@ public class TotalStudyTimeController {
   }
 
   @GetMapping("/ranking")
-  public ResponseEntity<List<TotalStudyTimeDto>> getTotalStudyTimeRanking() {
-    return ResponseEntity.ok(
-        this.totalStudyTimeService.getTotalStudyTimeRanking());
+  public ResponseEntity<List<TotalStudyTimeDto>> getTotalStudyTimeRanking(WebRequest webRequest) {
+    StudyTimeRankingSnapshot snapshot = this.studyTimeRankingSnapshotService.getSnapshot();
+    CacheControl cacheControl = CacheControl.maxAge(
+        this.studyTimeRankingSnapshotService.getRefreshIntervalSeconds(), TimeUnit.SECONDS)
+        .cachePublic();
+    if (webRequest.checkNotModified(snapshot.getETag())) {
+      this.studyTimeRankingSnapshotService.recordNotModified();
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+          .eTag(snapshot.getETag())
+          .cacheControl(cacheControl)
+          .build();
+    }
+    return ResponseEntity.ok()
+        .eTag(snapshot.getETag())
+        .cacheControl(cacheControl)
+        .body(snapshot.getRanking());
   }
 }
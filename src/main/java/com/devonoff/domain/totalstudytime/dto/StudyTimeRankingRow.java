@@ -0,0 +1,14 @@
+package com.devonoff.domain.totalstudytime.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class StudyTimeRankingRow {
+
+  private Long studyId;
+  private String studyName;
+  private Long totalStudyTime;
+  private Long totalCount;
+}
@@ -0,0 +1,15 @@
+package com.devonoff.domain.totalstudytime.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class StudyTimeRankingSnapshot {
+
+  private List<TotalStudyTimeDto> ranking;
+  private String eTag; // 응답 본문 해시 기반 strong ETag
+  private LocalDateTime builtAt;
+}
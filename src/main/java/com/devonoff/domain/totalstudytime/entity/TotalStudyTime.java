@@ -1,6 +1,8 @@
 package com.devonoff.domain.totalstudytime.entity;
 
+import com.devonoff.domain.totalstudytime.util.StudyTimeRankingListener;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -16,6 +18,7 @@ import lombok.Setter;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@EntityListeners(StudyTimeRankingListener.class)
 public class TotalStudyTime {
 
   @Id
@@ -4,9 +4,8 @@ import com.devonoff.domain.totalstudytime.entity.TotalStudyTime;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface TotalStudyTimeRepository extends JpaRepository<TotalStudyTime, Long> {
-
-  List<TotalStudyTime> findTop10ByOrderByTotalStudyTimeDesc();
+public interface TotalStudyTimeRepository extends JpaRepository<TotalStudyTime, Long>,
+    TotalStudyTimeRepositoryCustom {
 
   List<TotalStudyTime> findAllByOrderByTotalStudyTimeDesc();
 }
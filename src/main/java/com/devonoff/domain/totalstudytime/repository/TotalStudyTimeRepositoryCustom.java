@@ -0,0 +1,9 @@
+package com.devonoff.domain.totalstudytime.repository;
+
+import com.devonoff.domain.totalstudytime.dto.StudyTimeRankingRow;
+import java.util.List;
+
+public interface TotalStudyTimeRepositoryCustom {
+
+  List<StudyTimeRankingRow> findRanking(int limit);
+}
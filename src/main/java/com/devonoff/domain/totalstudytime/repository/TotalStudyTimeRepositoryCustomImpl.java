@@ -0,0 +1,38 @@
+package com.devonoff.domain.totalstudytime.repository;
+
+import com.devonoff.domain.study.entity.QStudy;
+import com.devonoff.domain.totalstudytime.dto.StudyTimeRankingRow;
+import com.devonoff.domain.totalstudytime.entity.QTotalStudyTime;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class TotalStudyTimeRepositoryCustomImpl implements TotalStudyTimeRepositoryCustom {
+
+  private final JPAQueryFactory queryFactory;
+
+  // 스터디 이름과 전체 건수를 한 번의 쿼리로 조회 (TotalStudyTime 은 Study 와 연관관계가 없어 ON 절로 조인)
+  @Override
+  public List<StudyTimeRankingRow> findRanking(int limit) {
+    QTotalStudyTime totalStudyTime = QTotalStudyTime.totalStudyTime1;
+    QTotalStudyTime countTarget = new QTotalStudyTime("countTarget");
+    QStudy study = QStudy.study;
+
+    return queryFactory
+        .select(Projections.constructor(StudyTimeRankingRow.class,
+            totalStudyTime.studyId,
+            study.studyName,
+            totalStudyTime.totalStudyTime,
+            JPAExpressions.select(countTarget.count()).from(countTarget)))
+        .from(totalStudyTime)
+        .join(study).on(study.id.eq(totalStudyTime.studyId))
+        .orderBy(totalStudyTime.totalStudyTime.desc(), totalStudyTime.studyId.asc())
+        .limit(limit)
+        .fetch();
+  }
+}
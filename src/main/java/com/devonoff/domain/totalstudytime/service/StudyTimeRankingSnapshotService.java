@@ -0,0 +1,127 @@
+package com.devonoff.domain.totalstudytime.service;
+
+import com.devonoff.domain.totalstudytime.dto.StudyTimeRankingSnapshot;
+import com.devonoff.domain.totalstudytime.dto.TotalStudyTimeDto;
+import com.devonoff.domain.totalstudytime.util.StudyTimeRanking;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+/**
+ * 누적 학습시간 랭킹 스냅샷
+ * <p>
+ * 비로그인 메인 페이지에서 호출되는 랭킹을 요청마다 계산하지 않고, 주기적으로(또는 랭킹 변경 시) 미리 만들어 둔 스냅샷을 반환한다.
+ */
+@Slf4j
+@Service
+public class StudyTimeRankingSnapshotService {
+
+  private final TotalStudyTimeService totalStudyTimeService;
+  private final StudyTimeRanking studyTimeRanking;
+  private final ObjectMapper objectMapper;
+
+  @Getter
+  private final long refreshIntervalSeconds;
+
+  private final Timer rebuildTimer;
+  private final Counter hitCounter;
+  private final Counter missCounter;
+  private final Counter notModifiedCounter;
+
+  private volatile StudyTimeRankingSnapshot snapshot;
+  private volatile long snapshotVersion = -1;
+
+  public StudyTimeRankingSnapshotService(TotalStudyTimeService totalStudyTimeService,
+      StudyTimeRanking studyTimeRanking, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+      @Value("${study-time.ranking.refresh-interval-seconds:30}") long refreshIntervalSeconds) {
+    this.totalStudyTimeService = totalStudyTimeService;
+    this.studyTimeRanking = studyTimeRanking;
+    this.objectMapper = objectMapper;
+    this.refreshIntervalSeconds = refreshIntervalSeconds;
+    this.rebuildTimer = Timer.builder("study_time.ranking.snapshot.rebuild")
+        .description("랭킹 스냅샷 재생성 소요 시간")
+        .register(meterRegistry);
+    this.hitCounter = requestCounter(meterRegistry, "hit");
+    this.missCounter = requestCounter(meterRegistry, "miss");
+    this.notModifiedCounter = Counter.builder("study_time.ranking.snapshot.not_modified")
+        .description("If-None-Match 일치로 304 응답한 요청 수")
+        .register(meterRegistry);
+  }
+
+  public StudyTimeRankingSnapshot getSnapshot() {
+    StudyTimeRankingSnapshot current = snapshot;
+    if (current != null) {
+      hitCounter.increment();
+      return current;
+    }
+    missCounter.increment();
+    return rebuild();
+  }
+
+  // If-None-Match 일치로 304 응답한 경우
+  public void recordNotModified() {
+    notModifiedCounter.increment();
+  }
+
+  // 주기적 전체 갱신 (스터디 이름 변경 등 랭킹 외 변경 반영)
+  @Scheduled(fixedDelayString = "${study-time.ranking.refresh-interval-seconds:30}",
+      initialDelayString = "${study-time.ranking.refresh-interval-seconds:30}",
+      timeUnit = TimeUnit.SECONDS)
+  public void refresh() {
+    try {
+      rebuild();
+    } catch (Exception e) {
+      // 갱신 실패 시 기존 스냅샷 유지
+      log.error("랭킹 스냅샷 갱신 실패: {}", e.getMessage(), e);
+    }
+  }
+
+  // 누적 학습시간 저장(saveStudyTimeline 등)으로 랭킹이 바뀐 경우 즉시 갱신
+  @Scheduled(fixedDelay = 1, timeUnit = TimeUnit.SECONDS)
+  public void refreshIfChanged() {
+    if (snapshot != null && snapshotVersion == studyTimeRanking.getVersion()) {
+      return;
+    }
+    refresh();
+  }
+
+  // ================================= Helper methods ================================= //
+
+  private synchronized StudyTimeRankingSnapshot rebuild() {
+    long version = studyTimeRanking.getVersion();
+    StudyTimeRankingSnapshot rebuilt = rebuildTimer.record(() -> {
+      List<TotalStudyTimeDto> ranking = List.copyOf(
+          totalStudyTimeService.getTotalStudyTimeRanking());
+      return new StudyTimeRankingSnapshot(ranking, createETag(ranking), LocalDateTime.now());
+    });
+    this.snapshot = rebuilt;
+    this.snapshotVersion = version;
+    return rebuilt;
+  }
+
+  private String createETag(List<TotalStudyTimeDto> ranking) {
+    try {
+      return "\"" + DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(ranking)) + "\"";
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("랭킹 스냅샷 직렬화 실패", e);
+    }
+  }
+
+  private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("study_time.ranking.snapshot.requests")
+        .description("랭킹 스냅샷 요청 수 (hit: 스냅샷 반환, miss: 스냅샷이 없어 즉시 생성)")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+}
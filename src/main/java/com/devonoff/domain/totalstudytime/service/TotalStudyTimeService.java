@@ -2,12 +2,17 @@ package com.devonoff.domain.totalstudytime.service;
 
 import static com.devonoff.type.ErrorCode.STUDY_NOT_FOUND;
 
+import com.devonoff.domain.study.dto.StudyName;
 import com.devonoff.domain.study.repository.StudyRepository;
 import com.devonoff.domain.totalstudytime.dto.TotalStudyTimeDto;
 import com.devonoff.domain.totalstudytime.entity.TotalStudyTime;
 import com.devonoff.domain.totalstudytime.repository.TotalStudyTimeRepository;
+import com.devonoff.domain.totalstudytime.util.RankedStudyTime;
+import com.devonoff.domain.totalstudytime.util.StudyTimeRanking;
 import com.devonoff.exception.CustomException;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -17,13 +22,27 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class TotalStudyTimeService {
 
+  private static final int RANKING_SIZE = 10;
+
   private final TotalStudyTimeRepository totalStudyTimeRepository;
   private final StudyRepository studyRepository;
+  private final StudyTimeRanking studyTimeRanking;
 
   public TotalStudyTimeDto getTotalStudyTime(Long studyId) {
     String studyName = this.studyRepository.findById(studyId)
         .orElseThrow(() -> new CustomException(STUDY_NOT_FOUND)).getStudyName();
 
+    // 메모리 랭킹에서 O(log N) 으로 순위 조회
+    if (this.studyTimeRanking.isReady()) {
+      RankedStudyTime rankedStudyTime = this.studyTimeRanking.getRank(studyId);
+      if (rankedStudyTime == null) {
+        throw new CustomException(STUDY_NOT_FOUND);
+      }
+      return TotalStudyTimeDto.fromEntityWithStudyNameAndRanking(
+          toEntity(rankedStudyTime), studyName, rankedStudyTime.getRanking(),
+          this.studyTimeRanking.getPercent(rankedStudyTime.getRanking()));
+    }
+
     List<TotalStudyTime> allTotalStudyTimes = this.totalStudyTimeRepository.findAllByOrderByTotalStudyTimeDesc();
 
     AtomicLong rank = new AtomicLong(1);
@@ -46,15 +65,45 @@ public class TotalStudyTimeService {
   }
 
   public List<TotalStudyTimeDto> getTotalStudyTimeRanking() {
-    Long totalStudyTimeCnt = this.totalStudyTimeRepository.count();
+    // 메모리 랭킹 상위 K 개 + 스터디 이름 일괄 조회 (쿼리 1회)
+    if (this.studyTimeRanking.isReady()) {
+      List<RankedStudyTime> topRankings = this.studyTimeRanking.getTop(RANKING_SIZE);
+      if (topRankings.isEmpty()) {
+        return List.of();
+      }
+      Map<Long, String> studyNames = this.studyRepository.findAllByIdIn(
+              topRankings.stream().map(RankedStudyTime::getStudyId).toList()).stream()
+          .collect(Collectors.toMap(StudyName::getId, StudyName::getStudyName));
+      return topRankings.stream()
+          .map(rankedStudyTime -> {
+            String studyName = Optional.ofNullable(
+                    studyNames.get(rankedStudyTime.getStudyId()))
+                .orElseThrow(() -> new CustomException(STUDY_NOT_FOUND));
+            return TotalStudyTimeDto.fromEntityWithStudyNameAndRanking(toEntity(rankedStudyTime),
+                studyName, rankedStudyTime.getRanking(),
+                this.studyTimeRanking.getPercent(rankedStudyTime.getRanking()));
+          }).collect(Collectors.toList());
+    }
+
+    // 스터디 이름, 전체 건수를 포함한 랭킹 조회 (쿼리 1회)
     AtomicLong rankingCount = new AtomicLong(1);
-    return this.totalStudyTimeRepository.findTop10ByOrderByTotalStudyTimeDesc().stream()
-        .map(totalStudyTime -> {
-          String studyName = this.studyRepository.findById(totalStudyTime.getStudyId())
-              .orElseThrow(() -> new CustomException(STUDY_NOT_FOUND)).getStudyName();
-          return TotalStudyTimeDto.fromEntityWithStudyNameAndRanking(totalStudyTime, studyName,
-              rankingCount.get(),
-              (rankingCount.getAndIncrement() / totalStudyTimeCnt.doubleValue()) * 100);
-        }).collect(Collectors.toList());
+    return this.totalStudyTimeRepository.findRanking(RANKING_SIZE).stream()
+        .map(row -> TotalStudyTimeDto.fromEntityWithStudyNameAndRanking(
+            TotalStudyTime.builder()
+                .studyId(row.getStudyId())
+                .totalStudyTime(row.getTotalStudyTime())
+                .build(),
+            row.getStudyName(), rankingCount.get(),
+            (rankingCount.getAndIncrement() / row.getTotalCount().doubleValue()) * 100))
+        .collect(Collectors.toList());
+  }
+
+  // ================================= Helper methods ================================= //
+
+  private TotalStudyTime toEntity(RankedStudyTime rankedStudyTime) {
+    return TotalStudyTime.builder()
+        .studyId(rankedStudyTime.getStudyId())
+        .totalStudyTime(rankedStudyTime.getTotalStudyTime())
+        .build();
   }
 }
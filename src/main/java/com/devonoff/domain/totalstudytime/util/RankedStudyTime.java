@@ -0,0 +1,13 @@
+package com.devonoff.domain.totalstudytime.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RankedStudyTime {
+
+  private Long studyId;
+  private Long totalStudyTime;
+  private Long ranking;
+}
@@ -0,0 +1,278 @@
+package com.devonoff.domain.totalstudytime.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스터디 누적 학습시간 랭킹 (메모리)
+ * <p>
+ * (누적 학습시간 내림차순, 스터디 ID 오름차순) 으로 정렬된 크기 보강 트립(treap) 으로, 순위 / 백분율 조회와 갱신은 O(log N), 상위 K 개
+ * 조회는 O(log N + K) 에 처리한다. 애플리케이션 시작 시 DB 에서 적재하고, 이후에는 TotalStudyTime 저장 시점에 갱신된다.
+ * <p>
+ * 저장 시점 갱신은 저장한 노드에만 반영되므로, 여러 노드에서는 StudyTimeRankingInitializer 가 주기적으로 DB 기준으로 다시 맞춘다.
+ * 다른 노드의 갱신은 그 주기만큼 늦게 반영되는 대신, 순위 조회는 Redis 왕복 없이 메모리에서 처리한다.
+ */
+@Slf4j
+@Component
+public class StudyTimeRanking {
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Map<Long, Long> studyTimes = new HashMap<>();
+  private final AtomicLong version = new AtomicLong();
+  private Node root;
+  private volatile boolean ready = false;
+
+  public void update(Long studyId, Long totalStudyTime) {
+    if (studyId == null || totalStudyTime == null) {
+      return;
+    }
+    lock.writeLock().lock();
+    try {
+      Long previous = studyTimes.put(studyId, totalStudyTime);
+      if (totalStudyTime.equals(previous)) {
+        return;
+      }
+      if (previous != null) {
+        root = delete(root, previous, studyId);
+      }
+      root = insert(root, new Node(studyId, totalStudyTime));
+      version.incrementAndGet();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void remove(Long studyId) {
+    if (studyId == null) {
+      return;
+    }
+    lock.writeLock().lock();
+    try {
+      Long previous = studyTimes.remove(studyId);
+      if (previous != null) {
+        root = delete(root, previous, studyId);
+        version.incrementAndGet();
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * DB 기준으로 전체 교체 (달라진 스터디만 갱신 / 삭제)
+   *
+   * @param totalStudyTimes 스터디 ID → 누적 학습시간
+   * @return 갱신 / 삭제된 스터디 수
+   */
+  public int replaceAll(Map<Long, Long> totalStudyTimes) {
+    lock.writeLock().lock();
+    try {
+      long before = version.get();
+      for (Long studyId : new ArrayList<>(studyTimes.keySet())) {
+        if (!totalStudyTimes.containsKey(studyId)) {
+          remove(studyId);
+        }
+      }
+      totalStudyTimes.forEach(this::update);
+      return (int) (version.get() - before);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 특정 스터디 순위 조회
+   *
+   * @param studyId
+   * @return 순위 (1 부터 시작), 랭킹에 없으면 null
+   */
+  public RankedStudyTime getRank(Long studyId) {
+    lock.readLock().lock();
+    try {
+      Long totalStudyTime = studyTimes.get(studyId);
+      if (totalStudyTime == null) {
+        return null;
+      }
+      long ranking = 1;
+      Node node = root;
+      while (node != null) {
+        int cmp = compare(totalStudyTime, studyId, node);
+        if (cmp < 0) {
+          node = node.left;
+        } else if (cmp > 0) {
+          ranking += size(node.left) + 1;
+          node = node.right;
+        } else {
+          ranking += size(node.left);
+          break;
+        }
+      }
+      return new RankedStudyTime(studyId, totalStudyTime, ranking);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 상위 K 개 조회
+   *
+   * @param k
+   * @return 순위 순으로 정렬된 목록
+   */
+  public List<RankedStudyTime> getTop(int k) {
+    lock.readLock().lock();
+    try {
+      List<RankedStudyTime> result = new ArrayList<>(Math.min(k, studyTimes.size()));
+      Deque<Node> stack = new ArrayDeque<>();
+      Node node = root;
+      while ((node != null || !stack.isEmpty()) && result.size() < k) {
+        while (node != null) {
+          stack.push(node);
+          node = node.left;
+        }
+        node = stack.pop();
+        result.add(new RankedStudyTime(node.studyId, node.totalStudyTime,
+            (long) result.size() + 1));
+        node = node.right;
+      }
+      return result;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  // 순위 / 전체 스터디 수 * 100 (상위 몇 % 인지)
+  public Double getPercent(Long ranking) {
+    int total = size();
+    return total == 0 ? null : (ranking.doubleValue() / total) * 100;
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return studyTimes.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  // 랭킹이 변경될 때마다 증가 (랭킹 스냅샷 갱신 여부 판단용)
+  public long getVersion() {
+    return version.get();
+  }
+
+  public void markReady() {
+    this.ready = true;
+    log.info("스터디 누적 학습시간 랭킹 준비 완료 ({}건)", size());
+  }
+
+  public boolean isReady() {
+    return ready;
+  }
+
+  // ================================= Helper methods ================================= //
+
+  // 누적 학습시간이 클수록, 같으면 스터디 ID 가 작을수록 앞 순위
+  private int compare(long totalStudyTime, long studyId, Node node) {
+    int cmp = Long.compare(node.totalStudyTime, totalStudyTime);
+    return cmp != 0 ? cmp : Long.compare(studyId, node.studyId);
+  }
+
+  private Node insert(Node node, Node target) {
+    if (node == null) {
+      return target;
+    }
+    if (compare(target.totalStudyTime, target.studyId, node) < 0) {
+      node.left = insert(node.left, target);
+      if (node.left.priority > node.priority) {
+        node = rotateRight(node);
+      }
+    } else {
+      node.right = insert(node.right, target);
+      if (node.right.priority > node.priority) {
+        node = rotateLeft(node);
+      }
+    }
+    node.updateSize();
+    return node;
+  }
+
+  private Node delete(Node node, long totalStudyTime, long studyId) {
+    if (node == null) {
+      return null;
+    }
+    int cmp = compare(totalStudyTime, studyId, node);
+    if (cmp < 0) {
+      node.left = delete(node.left, totalStudyTime, studyId);
+    } else if (cmp > 0) {
+      node.right = delete(node.right, totalStudyTime, studyId);
+    } else {
+      if (node.left == null) {
+        return node.right;
+      }
+      if (node.right == null) {
+        return node.left;
+      }
+      if (node.left.priority > node.right.priority) {
+        node = rotateRight(node);
+        node.right = delete(node.right, totalStudyTime, studyId);
+      } else {
+        node = rotateLeft(node);
+        node.left = delete(node.left, totalStudyTime, studyId);
+      }
+    }
+    node.updateSize();
+    return node;
+  }
+
+  private Node rotateRight(Node node) {
+    Node left = node.left;
+    node.left = left.right;
+    left.right = node;
+    node.updateSize();
+    left.updateSize();
+    return left;
+  }
+
+  private Node rotateLeft(Node node) {
+    Node right = node.right;
+    node.right = right.left;
+    right.left = node;
+    node.updateSize();
+    right.updateSize();
+    return right;
+  }
+
+  private static int size(Node node) {
+    return node == null ? 0 : node.size;
+  }
+
+  private static class Node {
+
+    private final long studyId;
+    private final long totalStudyTime;
+    private final int priority = ThreadLocalRandom.current().nextInt();
+    private int size = 1;
+    private Node left;
+    private Node right;
+
+    private Node(long studyId, long totalStudyTime) {
+      this.studyId = studyId;
+      this.totalStudyTime = totalStudyTime;
+    }
+
+    private void updateSize() {
+      this.size = StudyTimeRanking.size(left) + StudyTimeRanking.size(right) + 1;
+    }
+  }
+}
@@ -0,0 +1,63 @@
+package com.devonoff.domain.totalstudytime.util;
+
+import com.devonoff.domain.totalstudytime.entity.TotalStudyTime;
+import com.devonoff.domain.totalstudytime.repository.TotalStudyTimeRepository;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudyTimeRankingInitializer {
+
+  private final TotalStudyTimeRepository totalStudyTimeRepository;
+  private final StudyTimeRanking studyTimeRanking;
+
+  // 애플리케이션 시작 시 DB 에서 누적 학습시간 랭킹 적재
+  @EventListener(ApplicationReadyEvent.class)
+  public void loadRanking() {
+    try {
+      studyTimeRanking.replaceAll(loadTotalStudyTimes());
+      studyTimeRanking.markReady();
+    } catch (Exception e) {
+      // 랭킹이 준비되지 않으면 기존 전체 조회 방식으로 동작
+      log.error("스터디 누적 학습시간 랭킹 적재 실패: {}", e.getMessage(), e);
+    }
+  }
+
+  // 다른 노드에서 저장된 누적 학습시간을 반영하기 위해 주기적으로 DB 기준으로 다시 맞춤
+  @Scheduled(fixedDelayString = "${study-time.ranking.rebuild-interval-ms:60000}",
+      initialDelayString = "${study-time.ranking.rebuild-interval-ms:60000}")
+  public void rebuildRanking() {
+    if (!studyTimeRanking.isReady()) {
+      loadRanking();
+      return;
+    }
+    try {
+      int changed = studyTimeRanking.replaceAll(loadTotalStudyTimes());
+      if (changed > 0) {
+        log.debug("스터디 누적 학습시간 랭킹 {}건 갱신", changed);
+      }
+    } catch (Exception e) {
+      log.warn("스터디 누적 학습시간 랭킹 갱신 실패: {}", e.getMessage());
+    }
+  }
+
+  // ================================= Helper methods ================================= //
+
+  private Map<Long, Long> loadTotalStudyTimes() {
+    Map<Long, Long> totalStudyTimes = new HashMap<>();
+    for (TotalStudyTime totalStudyTime : totalStudyTimeRepository.findAll()) {
+      if (totalStudyTime.getStudyId() != null && totalStudyTime.getTotalStudyTime() != null) {
+        totalStudyTimes.put(totalStudyTime.getStudyId(), totalStudyTime.getTotalStudyTime());
+      }
+    }
+    return totalStudyTimes;
+  }
+}
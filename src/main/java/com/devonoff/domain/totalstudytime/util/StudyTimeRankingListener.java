@@ -0,0 +1,37 @@
+package com.devonoff.domain.totalstudytime.util;
+
+import com.devonoff.domain.totalstudytime.entity.TotalStudyTime;
+import com.devonoff.util.TransactionUtils;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 누적 학습시간 저장/삭제 시 랭킹 반영
+ * <p>
+ * 스터디 생성(0초 등록)과 StudyTimelineService.saveStudyTimeline 의 누적 시간 갱신이 모두 반영되며, 트랜잭션 안에서는 커밋 이후에
+ * 반영한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StudyTimeRankingListener {
+
+  private final StudyTimeRanking studyTimeRanking;
+
+  @PostPersist
+  @PostUpdate
+  public void onSave(TotalStudyTime totalStudyTime) {
+    Long studyId = totalStudyTime.getStudyId();
+    Long seconds = totalStudyTime.getTotalStudyTime();
+    TransactionUtils.runAfterCommit(() -> studyTimeRanking.update(studyId, seconds));
+  }
+
+  @PostRemove
+  public void onRemove(TotalStudyTime totalStudyTime) {
+    Long studyId = totalStudyTime.getStudyId();
+    TransactionUtils.runAfterCommit(() -> studyTimeRanking.remove(studyId));
+  }
+
+}
@@ -1,5 +1,7 @@
 package com.devonoff.domain.user.service;
 
+import com.devonoff.domain.chat.util.ChatAccessCache;
+import com.devonoff.domain.chat.util.ChatSenderCache;
 import com.devonoff.domain.redis.repository.AuthRedisRepository;
 import com.devonoff.domain.student.entity.Student;
 import com.devonoff.domain.student.repository.StudentRepository;
@@ -52,6 +54,8 @@ public class AuthService {
   private final StudentService studentService;
   private final StudySignupRepository studySignupRepository;
   private final StudyPostRepository studyPostRepository;
+  private final ChatAccessCache chatAccessCache;
+  private final ChatSenderCache chatSenderCache;
   @Value("${cloud.aws.s3.default-profile-image-url}")
   private String defaultProfileImageUrl;
 
@@ -273,6 +277,7 @@ public class AuthService {
     for (Student student : userStudents) {
       studentService.removeStudent(student.getId());
     }
+    chatAccessCache.evictUser(loginUserId);
 
     // 탈퇴한 회원의 스터디 신청 내역을 삭제
     studySignupRepository.deleteAllByUser(user);
@@ -293,6 +298,7 @@ public class AuthService {
     user.setIsActive(false);
 
     userRepository.save(user);
+    chatSenderCache.evictSender(loginUserId);
   }
 
   /**
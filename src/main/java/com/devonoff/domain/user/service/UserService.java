@@ -1,5 +1,6 @@
 package com.devonoff.domain.user.service;
 
+import com.devonoff.domain.chat.util.ChatSenderCache;
 import com.devonoff.domain.photo.service.PhotoService;
 import com.devonoff.domain.user.dto.UserDto;
 import com.devonoff.domain.user.dto.UserUpdateRequest;
@@ -21,6 +22,7 @@ public class UserService {
 
   private final AuthService authService;
   private final PhotoService photoService;
+  private final ChatSenderCache chatSenderCache;
 
   private final UserRepository userRepository;
 
@@ -56,7 +58,9 @@ public class UserService {
 
     user.setNickname(userUpdateRequest.getNickname());
 
-    return UserDto.fromEntity(userRepository.save(user));
+    UserDto userDto = UserDto.fromEntity(userRepository.save(user));
+    chatSenderCache.evictSender(userId);
+    return userDto;
   }
 
   /**
@@ -79,7 +83,9 @@ public class UserService {
 
     user.setProfileImage(profileImageUrl);
 
-    return UserDto.fromEntity(userRepository.save(user));
+    UserDto userDto = UserDto.fromEntity(userRepository.save(user));
+    chatSenderCache.evictSender(userId);
+    return userDto;
   }
 
   /**
@@ -99,7 +105,9 @@ public class UserService {
 
     // 기본이미지 주소 반환
     user.setProfileImage(defaultProfileImageUrl);
-    return UserDto.fromEntity(userRepository.save(user));
+    UserDto userDto = UserDto.fromEntity(userRepository.save(user));
+    chatSenderCache.evictSender(userId);
+    return userDto;
   }
 
   /**
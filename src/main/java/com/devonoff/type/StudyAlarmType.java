@@ -0,0 +1,13 @@
+package com.devonoff.type;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum StudyAlarmType {
+  ALARM("스터디룸이 10분뒤 종료됩니다."),  // 종료 10분 전
+  END("스터디룸의 종료 시간이 되었습니다.");  // 종료
+
+  private final String message;
+}
@@ -0,0 +1,191 @@
+package com.devonoff.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+/**
+ * 목적지별 묶음 전송 공통 처리
+ * <p>
+ * 발행된 메시지를 목적지별로 batch-window 동안 모았다가 한 번에 전송한다. 묶음 분리 / 전송은 모두 단일 스레드에서 처리해 같은 목적지의
+ * 메시지 순서를 보장하고, max-batch-size 에 도달하면 주기를 기다리지 않고 바로 전송한다. batch-window 가 0 이하이면 묶지 않고
+ * 호출 스레드에서 바로 전송한다.
+ */
+@Slf4j
+public abstract class AbstractBatchingBrokerFanout implements BrokerFanout, DisposableBean {
+
+  protected final String nodeId = UUID.randomUUID().toString();
+
+  private final int maxBatchSize;
+  private final long batchWindowMs;
+  private final ScheduledExecutorService executor;
+  private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+  private final Map<BatchKey, List<byte[]>> pending = new LinkedHashMap<>();
+  private final List<Consumer<BrokerBatch>> listeners = new CopyOnWriteArrayList<>();
+
+  private final Counter publishedCounter;
+  private final Counter sentBatchCounter;
+  private final Counter receivedCounter;
+
+  protected AbstractBatchingBrokerFanout(MeterRegistry meterRegistry, long batchWindowMs,
+      int maxBatchSize) {
+    this.maxBatchSize = Math.max(maxBatchSize, 1);
+    this.batchWindowMs = batchWindowMs;
+
+    // 전송 스레드는 첫 전파 때 시작 (전파하지 않는 노드는 스레드를 만들지 않음)
+    if (batchWindowMs > 0) {
+      this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "broker-fanout");
+        thread.setDaemon(true);
+        return thread;
+      });
+    } else {
+      this.executor = null;
+    }
+
+    this.publishedCounter = Counter.builder("websocket.broker.fanout.published")
+        .description("다른 노드로 전파한 메시지 수")
+        .register(meterRegistry);
+    this.sentBatchCounter = Counter.builder("websocket.broker.fanout.batches")
+        .description("다른 노드로 전송한 메시지 묶음 수")
+        .register(meterRegistry);
+    this.receivedCounter = Counter.builder("websocket.broker.fanout.received")
+        .description("다른 노드에서 전파받은 메시지 수")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public void publish(String destination, String contentType, byte[] payload) {
+    publishedCounter.increment();
+    BatchKey key = new BatchKey(destination, contentType);
+    if (executor == null) {
+      sendSafely(key, List.of(payload));
+      return;
+    }
+    if (flushScheduled.compareAndSet(false, true)) {
+      executor.scheduleWithFixedDelay(this::flushAll, batchWindowMs, batchWindowMs,
+          TimeUnit.MILLISECONDS);
+    }
+    boolean full;
+    synchronized (pending) {
+      List<byte[]> payloads = pending.computeIfAbsent(key, k -> new ArrayList<>());
+      payloads.add(payload);
+      full = payloads.size() == maxBatchSize;
+    }
+    if (full) {
+      executor.execute(() -> flush(key));
+    }
+  }
+
+  @Override
+  public void subscribe(Consumer<BrokerBatch> listener) {
+    listeners.add(listener);
+  }
+
+  // 남은 메시지 전송 후 종료
+  @Override
+  public void destroy() {
+    if (executor == null) {
+      return;
+    }
+    executor.shutdown();
+    try {
+      executor.awaitTermination(1, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    flushAll();
+  }
+
+  /**
+   * 묶음 전송
+   *
+   * @param batch
+   */
+  protected abstract void send(BrokerBatch batch);
+
+  /**
+   * 다른 노드에서 받은 묶음 전달 (자기 자신이 보낸 묶음은 무시)
+   *
+   * @param batch
+   */
+  protected void receive(BrokerBatch batch) {
+    if (nodeId.equals(batch.getOrigin())) {
+      return;
+    }
+    receivedCounter.increment(batch.getPayloads().size());
+    for (Consumer<BrokerBatch> listener : listeners) {
+      try {
+        listener.accept(batch);
+      } catch (Exception e) {
+        log.warn("전파받은 메시지 전달 실패 ({}): {}", batch.getDestination(), e.getMessage());
+      }
+    }
+  }
+
+  // ================================= Helper methods ================================= //
+
+  private void flushAll() {
+    List<Map.Entry<BatchKey, List<byte[]>>> batches;
+    synchronized (pending) {
+      if (pending.isEmpty()) {
+        return;
+      }
+      batches = new ArrayList<>(pending.entrySet());
+      pending.clear();
+    }
+    for (Map.Entry<BatchKey, List<byte[]>> entry : batches) {
+      sendSafely(entry.getKey(), entry.getValue());
+    }
+  }
+
+  private void flush(BatchKey key) {
+    List<byte[]> payloads;
+    synchronized (pending) {
+      payloads = pending.remove(key);
+    }
+    if (payloads != null) {
+      sendSafely(key, payloads);
+    }
+  }
+
+  // 전파 실패가 로컬 전달이나 다른 목적지 전송에 영향을 주지 않도록 로그만 남김
+  private void sendSafely(BatchKey key, List<byte[]> payloads) {
+    try {
+      send(BrokerBatch.builder()
+          .origin(nodeId)
+          .destination(key.getDestination())
+          .contentType(key.getContentType())
+          .payloads(payloads)
+          .build());
+      sentBatchCounter.increment();
+    } catch (Exception e) {
+      log.error("메시지 전파 실패로 {}건 누락 ({}): {}", payloads.size(), key.getDestination(),
+          e.getMessage(), e);
+    }
+  }
+
+  @Getter
+  @EqualsAndHashCode
+  @AllArgsConstructor
+  private static class BatchKey {
+
+    private final String destination;
+    private final String contentType;
+  }
+}
@@ -0,0 +1,22 @@
+package com.devonoff.util;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 노드 간 전달되는 /topic 메시지 묶음 (목적지 단위)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BrokerBatch {
+
+  private String origin; // 발행한 노드 ID (자기 자신이 발행한 묶음은 무시)
+  private String destination;
+  private String contentType;
+  private List<byte[]> payloads;
+}
@@ -0,0 +1,30 @@
+package com.devonoff.util;
+
+import java.util.function.Consumer;
+
+/**
+ * /topic 메시지 노드 간 전파
+ * <p>
+ * 각 노드는 SimpleBroker 로 자신에게 연결된 구독자에게 메시지를 전달하고, 이 인터페이스로 같은 메시지를 다른 노드에 전파한다. 다른 노드에서
+ * 받은 메시지는 다시 전파하지 않도록 RELAYED_HEADER 를 붙여 로컬 브로커에 전달한다.
+ */
+public interface BrokerFanout {
+
+  String RELAYED_HEADER = "brokerRelayed";
+
+  /**
+   * 다른 노드로 메시지 전파 (목적지별로 모아서 전송)
+   *
+   * @param destination
+   * @param contentType
+   * @param payload
+   */
+  void publish(String destination, String contentType, byte[] payload);
+
+  /**
+   * 다른 노드에서 전파된 메시지 수신 등록
+   *
+   * @param listener
+   */
+  void subscribe(Consumer<BrokerBatch> listener);
+}
@@ -0,0 +1,40 @@
+package com.devonoff.util;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+/**
+ * 브로커 채널로 들어오는 /topic 메시지를 다른 노드로 전파
+ * <p>
+ * 로컬 구독자 전달은 그대로 진행되고, 다른 노드에서 전파받은 메시지(RELAYED_HEADER)는 다시 전파하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BrokerFanoutInterceptor implements ChannelInterceptor {
+
+  private static final String TOPIC_PREFIX = "/topic/";
+
+  private final BrokerFanout brokerFanout;
+
+  @Override
+  public Message<?> preSend(Message<?> message, MessageChannel channel) {
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+    String destination = accessor.getDestination();
+    if (accessor.getMessageType() != SimpMessageType.MESSAGE
+        || destination == null || !destination.startsWith(TOPIC_PREFIX)
+        || accessor.getHeader(BrokerFanout.RELAYED_HEADER) != null
+        || !(message.getPayload() instanceof byte[] payload)) {
+      return message;
+    }
+    MimeType contentType = accessor.getContentType();
+    brokerFanout.publish(destination, contentType == null ? null : contentType.toString(),
+        payload);
+    return message;
+  }
+}
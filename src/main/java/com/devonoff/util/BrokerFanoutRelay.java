@@ -0,0 +1,46 @@
+package com.devonoff.util;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * 다른 노드에서 전파받은 메시지를 로컬 브로커로 전달
+ */
+@Component
+public class BrokerFanoutRelay {
+
+  private final BrokerFanout brokerFanout;
+  private final MessageChannel brokerChannel;
+
+  public BrokerFanoutRelay(BrokerFanout brokerFanout,
+      @Qualifier("brokerChannel") MessageChannel brokerChannel) {
+    this.brokerFanout = brokerFanout;
+    this.brokerChannel = brokerChannel;
+  }
+
+  @PostConstruct
+  public void init() {
+    brokerFanout.subscribe(this::deliver);
+  }
+
+  // ================================= Helper methods ================================= //
+
+  private void deliver(BrokerBatch batch) {
+    for (byte[] payload : batch.getPayloads()) {
+      SimpMessageHeaderAccessor accessor =
+          SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+      accessor.setDestination(batch.getDestination());
+      if (batch.getContentType() != null) {
+        accessor.setContentType(MimeTypeUtils.parseMimeType(batch.getContentType()));
+      }
+      accessor.setHeader(BrokerFanout.RELAYED_HEADER, Boolean.TRUE);
+      brokerChannel.send(MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+    }
+  }
+}
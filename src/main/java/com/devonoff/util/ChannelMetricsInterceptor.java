@@ -0,0 +1,75 @@
+package com.devonoff.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+
+/**
+ * STOMP 채널 처리 시간 측정
+ * <p>
+ * 프레임이 채널 실행기 큐에서 대기한 시간(websocket.channel.wait)과 핸들러 처리 시간(websocket.channel.handle)을 메시지
+ * 타입별로 기록한다. 대기 시간은 헤더를 수정할 수 있는 메시지(클라이언트 인바운드 프레임 등)에 대해서만 측정된다.
+ */
+public class ChannelMetricsInterceptor implements ExecutorChannelInterceptor {
+
+  private static final String ENQUEUED_AT_HEADER = "channelEnqueuedAt";
+
+  private final String channelName;
+  private final MeterRegistry meterRegistry;
+  private final ThreadLocal<Long> handleStartedAt = new ThreadLocal<>();
+
+  public ChannelMetricsInterceptor(String channelName, MeterRegistry meterRegistry) {
+    this.channelName = channelName;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public Message<?> preSend(Message<?> message, MessageChannel channel) {
+    MessageHeaderAccessor accessor =
+        MessageHeaderAccessor.getAccessor(message, MessageHeaderAccessor.class);
+    if (accessor != null && accessor.isMutable()) {
+      accessor.setHeader(ENQUEUED_AT_HEADER, System.nanoTime());
+    }
+    return message;
+  }
+
+  @Override
+  public Message<?> beforeHandle(Message<?> message, MessageChannel channel,
+      MessageHandler handler) {
+    long now = System.nanoTime();
+    if (message.getHeaders().get(ENQUEUED_AT_HEADER) instanceof Long enqueuedAt) {
+      timer("websocket.channel.wait", message).record(now - enqueuedAt, TimeUnit.NANOSECONDS);
+    }
+    handleStartedAt.set(now);
+    return message;
+  }
+
+  @Override
+  public void afterMessageHandled(Message<?> message, MessageChannel channel,
+      MessageHandler handler, Exception ex) {
+    Long startedAt = handleStartedAt.get();
+    if (startedAt == null) {
+      return;
+    }
+    handleStartedAt.remove();
+    timer("websocket.channel.handle", message)
+        .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+  }
+
+  // ================================= Helper methods ================================= //
+
+  private Timer timer(String name, Message<?> message) {
+    SimpMessageType messageType = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+    return Timer.builder(name)
+        .tag("channel", channelName)
+        .tag("type", messageType == null ? "UNKNOWN" : messageType.name())
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,163 @@
+package com.devonoff.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 계층형 타이밍 휠
+ * <p>
+ * 가장 아래 휠은 tick 단위 버킷 wheelSize 개로 tick * wheelSize 범위를 담당하고, 범위를 넘는 작업은 tick 이 wheelSize 배인 상위
+ * 휠에 넣는다. 상위 휠 버킷의 시작 시각이 되면 버킷의 작업을 아래 휠로 내려보내므로, 등록 / 만료 처리 비용이 예약된 작업 수와 무관하다. 같은
+ * tick 에 만료되는 작업은 한 번에 반환되고, 만료 시각보다 일찍 반환되지 않는다 (최대 tick 만큼 늦을 수 있음).
+ * <p>
+ * 스레드 안전하지 않으므로 단일 스레드에서 사용한다.
+ *
+ * @param <T> 예약 작업
+ */
+public class HierarchicalTimingWheel<T> {
+
+  private final long tickMillis;
+  private final int wheelSize;
+  private final List<Level<T>> levels = new ArrayList<>();
+  private long currentTime;
+  private int size = 0;
+
+  public HierarchicalTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+    if (tickMillis <= 0 || wheelSize < 2) {
+      throw new IllegalArgumentException("tickMillis > 0, wheelSize >= 2 이어야 합니다.");
+    }
+    this.tickMillis = tickMillis;
+    this.wheelSize = wheelSize;
+    this.currentTime = startMillis - startMillis % tickMillis;
+    this.levels.add(new Level<>(tickMillis, wheelSize));
+  }
+
+  /**
+   * 작업 예약
+   *
+   * @param deadlineMillis
+   * @param task
+   * @return 이미 만료된 시각이면 false (예약하지 않으므로 호출한 쪽에서 바로 처리)
+   */
+  public boolean add(long deadlineMillis, T task) {
+    if (deadlineMillis < currentTime) {
+      return false;
+    }
+    insert(new Entry<>(deadlineMillis, task));
+    size++;
+    return true;
+  }
+
+  /**
+   * 주어진 시각까지 휠을 진행
+   *
+   * @param nowMillis
+   * @return 만료된 작업 (만료 시각 순)
+   */
+  public List<T> advance(long nowMillis) {
+    List<T> expired = new ArrayList<>();
+    while (currentTime + tickMillis <= nowMillis) {
+      List<Entry<T>> bucket = levels.get(0).drain(currentTime);
+      bucket.sort((a, b) -> Long.compare(a.getDeadline(), b.getDeadline()));
+      for (Entry<T> entry : bucket) {
+        expired.add(entry.getTask());
+      }
+      size -= bucket.size();
+      currentTime += tickMillis;
+      cascade();
+    }
+    return expired;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public long getCurrentTime() {
+    return currentTime;
+  }
+
+  // ================================= Helper methods ================================= //
+
+  private void insert(Entry<T> entry) {
+    for (int i = 0; ; i++) {
+      if (i == levels.size()) {
+        Level<T> lower = levels.get(i - 1);
+        levels.add(new Level<>(lower.getTick() * wheelSize, wheelSize));
+      }
+      Level<T> level = levels.get(i);
+      if (entry.getDeadline() < level.getStart(currentTime) + level.getInterval()) {
+        level.add(entry);
+        return;
+      }
+    }
+  }
+
+  // 상위 휠 버킷의 시작 시각이 되면 위에서부터 아래 휠로 내려보냄
+  private void cascade() {
+    for (int i = levels.size() - 1; i > 0; i--) {
+      Level<T> level = levels.get(i);
+      if (currentTime % level.getTick() == 0) {
+        for (Entry<T> entry : level.drain(currentTime)) {
+          insert(entry);
+        }
+      }
+    }
+  }
+
+  private static class Level<T> {
+
+    private final long tick;
+    private final long interval;
+    private final List<List<Entry<T>>> buckets;
+
+    private Level(long tick, int wheelSize) {
+      this.tick = tick;
+      this.interval = tick * wheelSize;
+      this.buckets = new ArrayList<>(wheelSize);
+      for (int i = 0; i < wheelSize; i++) {
+        buckets.add(new ArrayList<>());
+      }
+    }
+
+    private void add(Entry<T> entry) {
+      buckets.get(index(entry.getDeadline())).add(entry);
+    }
+
+    private List<Entry<T>> drain(long time) {
+      int index = index(time);
+      List<Entry<T>> bucket = buckets.get(index);
+      if (bucket.isEmpty()) {
+        return bucket;
+      }
+      buckets.set(index, new ArrayList<>());
+      return bucket;
+    }
+
+    private long getStart(long currentTime) {
+      return currentTime - currentTime % tick;
+    }
+
+    private long getTick() {
+      return tick;
+    }
+
+    private long getInterval() {
+      return interval;
+    }
+
+    private int index(long time) {
+      return (int) ((time / tick) % buckets.size());
+    }
+  }
+
+  @Getter
+  @AllArgsConstructor
+  private static class Entry<T> {
+
+    private final long deadline;
+    private final T task;
+  }
+}
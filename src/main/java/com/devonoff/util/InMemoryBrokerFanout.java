@@ -0,0 +1,58 @@
+package com.devonoff.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메모리 기반 메시지 전파 (단일 노드 / 테스트용)
+ * <p>
+ * 같은 JVM 안에서 connect() 로 연결된 인스턴스끼리만 메시지를 주고받는다. 기본 설정(websocket.broker.mode=local)에서는 전파
+ * 인터셉터를 등록하지 않으므로 메시지를 복사하거나 전송 스레드를 만들지 않고, 기존 SimpleBroker 단독 동작과 같다.
+ */
+@Component
+@ConditionalOnProperty(name = "websocket.broker.mode", havingValue = "local", matchIfMissing = true)
+public class InMemoryBrokerFanout extends AbstractBatchingBrokerFanout {
+
+  private final MeterRegistry meterRegistry;
+  private final long batchWindowMs;
+  private final int maxBatchSize;
+  private final List<InMemoryBrokerFanout> cluster;
+
+  @Autowired
+  public InMemoryBrokerFanout(MeterRegistry meterRegistry,
+      @Value("${websocket.broker.batch-window-ms:5}") long batchWindowMs,
+      @Value("${websocket.broker.max-batch-size:100}") int maxBatchSize) {
+    this(meterRegistry, batchWindowMs, maxBatchSize, new CopyOnWriteArrayList<>());
+  }
+
+  private InMemoryBrokerFanout(MeterRegistry meterRegistry, long batchWindowMs, int maxBatchSize,
+      List<InMemoryBrokerFanout> cluster) {
+    super(meterRegistry, batchWindowMs, maxBatchSize);
+    this.meterRegistry = meterRegistry;
+    this.batchWindowMs = batchWindowMs;
+    this.maxBatchSize = maxBatchSize;
+    this.cluster = cluster;
+    cluster.add(this);
+  }
+
+  /**
+   * 같은 클러스터에 속한 노드 추가
+   *
+   * @return 새 노드
+   */
+  public InMemoryBrokerFanout connect() {
+    return new InMemoryBrokerFanout(meterRegistry, batchWindowMs, maxBatchSize, cluster);
+  }
+
+  @Override
+  protected void send(BrokerBatch batch) {
+    for (InMemoryBrokerFanout node : cluster) {
+      node.receive(batch);
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package com.devonoff.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis pub/sub 기반 메시지 전파 (다중 노드용)
+ * <p>
+ * 모든 노드가 하나의 채널을 구독하고, 자신이 발행한 묶음은 무시한다. 수신 순서를 유지하도록 키 만료 알림용 컨테이너와 별도로 구독 스레드에서
+ * 바로 처리하는 전용 리스너 컨테이너를 사용한다. Redis pub/sub 은 전달을 보장하지 않으므로 연결이 끊긴 동안의 메시지는 다른 노드 구독자에게
+ * 전달되지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "websocket.broker.mode", havingValue = "redis")
+public class RedisBrokerFanout extends AbstractBatchingBrokerFanout implements MessageListener {
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final ObjectMapper objectMapper;
+  private final String channel;
+  private final RedisMessageListenerContainer listenerContainer;
+
+  public RedisBrokerFanout(StringRedisTemplate stringRedisTemplate,
+      RedisConnectionFactory redisConnectionFactory, ObjectMapper objectMapper,
+      MeterRegistry meterRegistry,
+      @Value("${websocket.broker.channel:stomp:topic}") String channel,
+      @Value("${websocket.broker.batch-window-ms:5}") long batchWindowMs,
+      @Value("${websocket.broker.max-batch-size:100}") int maxBatchSize) {
+    super(meterRegistry, batchWindowMs, maxBatchSize);
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.objectMapper = objectMapper;
+    this.channel = channel;
+
+    this.listenerContainer = new RedisMessageListenerContainer();
+    listenerContainer.setConnectionFactory(redisConnectionFactory);
+    listenerContainer.setTaskExecutor(new SyncTaskExecutor());
+    listenerContainer.addMessageListener(this, new ChannelTopic(channel));
+    listenerContainer.afterPropertiesSet();
+    listenerContainer.start();
+  }
+
+  @Override
+  protected void send(BrokerBatch batch) {
+    try {
+      stringRedisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(batch));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    try {
+      receive(objectMapper.readValue(message.getBody(), BrokerBatch.class));
+    } catch (IOException e) {
+      log.warn("전파받은 메시지 해석 실패: {}", e.getMessage());
+    }
+  }
+
+  @Override
+  public void destroy() {
+    super.destroy();
+    try {
+      listenerContainer.destroy();
+    } catch (Exception e) {
+      log.warn("메시지 전파 구독 종료 실패: {}", e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,25 @@
+package com.devonoff.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class TransactionUtils {
+
+  /**
+   * 트랜잭션 커밋 이후 실행 (트랜잭션 밖이면 바로 실행, 롤백되면 실행하지 않음)
+   *
+   * @param action
+   */
+  public static void runAfterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
+}
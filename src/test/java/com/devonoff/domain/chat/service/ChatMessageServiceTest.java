@@ -3,19 +3,27 @@ package com.devonoff.domain.chat.service;
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import com.devonoff.domain.chat.dto.ChatMessageCursorResponse;
 import com.devonoff.domain.chat.dto.ChatMessageDto;
 import com.devonoff.domain.chat.dto.ChatMessageRequest;
 import com.devonoff.domain.chat.entity.ChatMessage;
 import com.devonoff.domain.chat.entity.ChatRoom;
 import com.devonoff.domain.chat.repository.ChatMessageRepository;
 import com.devonoff.domain.chat.repository.ChatRoomRepository;
+import com.devonoff.domain.chat.util.ChatAccessCache;
+import com.devonoff.domain.chat.util.ChatMessageWriteBuffer;
+import com.devonoff.domain.chat.util.ChatSenderCache;
+import com.devonoff.domain.chat.util.RecentChatMessageCache;
 import com.devonoff.domain.student.repository.StudentRepository;
 import com.devonoff.domain.study.entity.Study;
+import com.devonoff.domain.user.dto.UserDto;
 import com.devonoff.domain.user.entity.User;
 import com.devonoff.domain.user.repository.UserRepository;
 import com.devonoff.domain.user.service.AuthService;
@@ -58,6 +66,18 @@ class ChatMessageServiceTest {
   @Mock
   private AuthService authService;
 
+  @Mock
+  private ChatMessageWriteBuffer chatMessageWriteBuffer;
+
+  @Mock
+  private ChatAccessCache chatAccessCache;
+
+  @Mock
+  private RecentChatMessageCache recentChatMessageCache;
+
+  @Mock
+  private ChatSenderCache chatSenderCache;
+
   @Test
   @DisplayName("채팅 메시지 저장 - 성공")
   void testCreateChatMessage_Success() {
@@ -72,19 +92,14 @@ class ChatMessageServiceTest {
     Study study = Study.builder().id(1L).studyName("Test Study").build();
     ChatRoom chatRoom = ChatRoom.builder().id(1L).studyName("Test Study").study(study).build();
     User user = User.builder().id(1L).build();
-    ChatMessage chatMessage = ChatMessage.builder()
-        .id(1L)
-        .chatRoom(chatRoom)
-        .sender(user)
-        .content("Test Message")
-        .createdAt(LocalDateTime.now())
-        .build();
 
+    // 권한 캐시에 없는 경우 (Mockito 기본값 0L 이 아닌 null 반환)
+    given(chatAccessCache.getStudyId(any())).willReturn(null);
     given(chatRoomRepository.findById(eq(chatRoomId))).willReturn(Optional.of(chatRoom));
     given(studentRepository.existsByUserIdAndStudyId(eq(senderId), eq(chatRoom.getStudy().getId())))
         .willReturn(true);
     given(userRepository.findById(eq(senderId))).willReturn(Optional.of(user));
-    given(chatMessageRepository.save(any(ChatMessage.class))).willReturn(chatMessage);
+    given(chatMessageWriteBuffer.nextId()).willReturn(1L);
 
     // when
     ChatMessageDto chatMessageDto = chatMessageService.createChatMessage(chatRoomId,
@@ -95,13 +110,71 @@ class ChatMessageServiceTest {
     verify(studentRepository, times(1))
         .existsByUserIdAndStudyId(eq(senderId), eq(chatRoom.getStudy().getId()));
     verify(userRepository, times(1)).findById(eq(senderId));
-    verify(chatMessageRepository, times(1)).save(any(ChatMessage.class));
+    verify(chatMessageWriteBuffer, times(1)).enqueue(any(ChatMessage.class));
+    verify(chatMessageRepository, never()).save(any(ChatMessage.class));
+    verify(chatAccessCache, times(1)).putChatRoom(eq(chatRoomId), eq(1L));
 
     assertThat(chatMessageDto.getId()).isEqualTo(1L);
     assertThat(chatMessageDto.getUser().getId()).isEqualTo(1L);
     assertThat(chatMessageDto.getContent()).isEqualTo("Test Message");
   }
 
+  @Test
+  @DisplayName("채팅 메시지 저장 - 성공 (권한 캐시 사용 시 채팅방 / 참가자 조회 없음)")
+  void testCreateChatMessage_Success_CachedAccess() {
+    // given
+    Long chatRoomId = 1L;
+    Long senderId = 1L;
+    Long studyId = 10L;
+    ChatMessageRequest chatMessageRequest = ChatMessageRequest.builder()
+        .senderId(senderId)
+        .content("Test Message")
+        .build();
+    User user = User.builder().id(senderId).build();
+
+    given(chatAccessCache.getStudyId(eq(chatRoomId))).willReturn(studyId);
+    given(chatAccessCache.isMember(eq(senderId), eq(studyId))).willReturn(true);
+    given(userRepository.findById(eq(senderId))).willReturn(Optional.of(user));
+    given(chatMessageWriteBuffer.nextId()).willReturn(5L);
+
+    // when
+    ChatMessageDto chatMessageDto = chatMessageService.createChatMessage(chatRoomId,
+        chatMessageRequest);
+
+    // then
+    verify(chatRoomRepository, never()).findById(any());
+    verify(studentRepository, never()).existsByUserIdAndStudyId(any(), any());
+    assertThat(chatMessageDto.getId()).isEqualTo(5L);
+  }
+
+  @Test
+  @DisplayName("채팅 메시지 저장 - 성공 (송신자 캐시 사용 시 사용자 조회 없음)")
+  void testCreateChatMessage_Success_CachedSender() {
+    // given
+    Long chatRoomId = 1L;
+    Long senderId = 1L;
+    Long studyId = 10L;
+    ChatMessageRequest chatMessageRequest = ChatMessageRequest.builder()
+        .senderId(senderId)
+        .content("Test Message")
+        .build();
+    UserDto sender = UserDto.builder().id(senderId).nickname("sender").build();
+
+    given(chatAccessCache.getStudyId(eq(chatRoomId))).willReturn(studyId);
+    given(chatAccessCache.isMember(eq(senderId), eq(studyId))).willReturn(true);
+    given(chatSenderCache.getSender(eq(senderId))).willReturn(sender);
+    given(chatMessageWriteBuffer.nextId()).willReturn(5L);
+
+    // when
+    ChatMessageDto chatMessageDto = chatMessageService.createChatMessage(chatRoomId,
+        chatMessageRequest);
+
+    // then
+    verify(userRepository, never()).findById(any());
+    verify(chatMessageWriteBuffer, times(1)).enqueue(any(ChatMessage.class));
+    assertThat(chatMessageDto.getUser().getNickname()).isEqualTo("sender");
+  }
+
   @Test
   @DisplayName("채팅 메시지 저장 - 실패 (존재하지 않는 채팅방)")
   void testCreateChatMessage_Fail_ChatRoomNotFound() {
@@ -113,6 +186,8 @@ class ChatMessageServiceTest {
         .content("Test Message")
         .build();
 
+    // 권한 캐시에 없는 경우 (Mockito 기본값 0L 이 아닌 null 반환)
+    given(chatAccessCache.getStudyId(any())).willReturn(null);
     given(chatRoomRepository.findById(eq(chatRoomId))).willReturn(Optional.empty());
 
     // when
@@ -140,6 +215,8 @@ class ChatMessageServiceTest {
     Study study = Study.builder().id(1L).studyName("Test Study").build();
     ChatRoom chatRoom = ChatRoom.builder().id(1L).studyName("Test Study").study(study).build();
 
+    // 권한 캐시에 없는 경우 (Mockito 기본값 0L 이 아닌 null 반환)
+    given(chatAccessCache.getStudyId(any())).willReturn(null);
     given(chatRoomRepository.findById(eq(chatRoomId))).willReturn(Optional.of(chatRoom));
     given(studentRepository.existsByUserIdAndStudyId(eq(senderId), eq(chatRoom.getStudy().getId())))
         .willReturn(false);
@@ -171,6 +248,8 @@ class ChatMessageServiceTest {
     Study study = Study.builder().id(1L).studyName("Test Study").build();
     ChatRoom chatRoom = ChatRoom.builder().id(1L).studyName("Test Study").study(study).build();
 
+    // 권한 캐시에 없는 경우 (Mockito 기본값 0L 이 아닌 null 반환)
+    given(chatAccessCache.getStudyId(any())).willReturn(null);
     given(chatRoomRepository.findById(eq(chatRoomId))).willReturn(Optional.of(chatRoom));
     given(studentRepository.existsByUserIdAndStudyId(eq(senderId), eq(chatRoom.getStudy().getId())))
         .willReturn(true);
@@ -250,6 +329,31 @@ class ChatMessageServiceTest {
     assertThat(responseChatMessages.getSize()).isEqualTo(3);
   }
 
+  @Test
+  @DisplayName("채팅 메시지 내역 조회 - 성공 (첫 페이지는 최근 메시지 캐시에서 응답)")
+  void testGetChatMessages_Success_RecentCache() {
+    // given
+    Long chatRoomId = 1L;
+    Long loginUserId = 1L;
+    Pageable pageable = PageRequest.of(0, 20, Sort.by("createdAt").descending());
+    Page<ChatMessageDto> cachedPage = new PageImpl<>(
+        List.of(ChatMessageDto.builder().id(1L).content("Test Message").build()), pageable, 1);
+
+    given(recentChatMessageCache.getFirstPage(eq(chatRoomId), eq(pageable)))
+        .willReturn(Optional.of(cachedPage));
+    given(authService.getLoginUserId()).willReturn(loginUserId);
+    given(chatAccessCache.getStudyId(eq(chatRoomId))).willReturn(1L);
+    given(chatAccessCache.isMember(eq(loginUserId), eq(1L))).willReturn(true);
+
+    // when
+    Page<ChatMessageDto> responseChatMessages = chatMessageService.getChatMessages(chatRoomId, 0);
+
+    // then
+    verify(chatRoomRepository, never()).findById(any());
+    verify(chatMessageRepository, never()).findAllByChatRoom(any(), any());
+    assertThat(responseChatMessages).isSameAs(cachedPage);
+  }
+
   @Test
   @DisplayName("채팅 메시지 내역 조회 - 실패 (존재하지 않는 채팅방)")
   void testGetChatMessages_Fail_ChatRoomNotFound() {
@@ -297,4 +401,56 @@ class ChatMessageServiceTest {
     assertThat(customException.getErrorCode()).isEqualTo(ErrorCode.DOES_NOT_STUDENT_OF_STUDY);
     assertThat(customException.getErrorMessage()).isEqualTo("해당 스터디 참가자가 아닙니다.");
   }
-}
\ No newline at end of file
+
+  @Test
+  @DisplayName("채팅 메시지 내역 커서 조회 - 성공 (페이지 크기 상한 적용)")
+  void testGetChatMessagesBefore_Success() {
+    // given
+    Long chatRoomId = 1L;
+    Long loginUserId = 1L;
+    ChatMessageCursorResponse cursorResponse = ChatMessageCursorResponse.builder()
+        .content(List.of(ChatMessageDto.builder().id(99L).content("Test Message").build()))
+        .size(1)
+        .hasNext(true)
+        .nextCursor(99L)
+        .build();
+
+    given(chatAccessCache.getStudyId(eq(chatRoomId))).willReturn(1L);
+    given(authService.getLoginUserId()).willReturn(loginUserId);
+    given(chatAccessCache.isMember(eq(loginUserId), eq(1L))).willReturn(true);
+    given(chatMessageRepository.findChatMessagesBefore(eq(chatRoomId), eq(100L), eq(100)))
+        .willReturn(cursorResponse);
+
+    // when
+    ChatMessageCursorResponse response =
+        chatMessageService.getChatMessagesBefore(chatRoomId, 100L, 500);
+
+    // then
+    verify(chatRoomRepository, never()).findById(any());
+    verify(chatMessageRepository, times(1)).findChatMessagesBefore(eq(chatRoomId), eq(100L),
+        eq(100));
+    assertThat(response.isHasNext()).isTrue();
+    assertThat(response.getNextCursor()).isEqualTo(99L);
+  }
+
+  @Test
+  @DisplayName("채팅 메시지 내역 커서 조회 - 실패 (해당 스터디 참여자가 아닌 경우)")
+  void testGetChatMessagesBefore_Fail_DoesNotStudentOfStudy() {
+    // given
+    Long chatRoomId = 1L;
+    Long loginUserId = 1L;
+
+    given(chatAccessCache.getStudyId(eq(chatRoomId))).willReturn(1L);
+    given(authService.getLoginUserId()).willReturn(loginUserId);
+    given(studentRepository.existsByUserIdAndStudyId(eq(loginUserId), eq(1L)))
+        .willReturn(false);
+
+    // when
+    CustomException customException = assertThrows(CustomException.class,
+        () -> chatMessageService.getChatMessagesBefore(chatRoomId, null, 20));
+
+    // then
+    verify(chatMessageRepository, never()).findChatMessagesBefore(any(), any(), anyInt());
+    assertThat(customException.getErrorCode()).isEqualTo(ErrorCode.DOES_NOT_STUDENT_OF_STUDY);
+  }
+}
@@ -10,6 +10,7 @@ import static org.mockito.Mockito.verify;
 
 import com.devonoff.domain.chat.dto.ChatRoomDto;
 import com.devonoff.domain.chat.entity.ChatRoom;
+import com.devonoff.domain.chat.util.ChatAccessCache;
 import com.devonoff.domain.chat.repository.ChatRoomRepository;
 import com.devonoff.domain.student.repository.StudentRepository;
 import com.devonoff.domain.study.entity.Study;
@@ -44,6 +45,9 @@ class ChatRoomServiceTest {
   @Mock
   private AuthService authService;
 
+  @Mock
+  private ChatAccessCache chatAccessCache;
+
   @Test
   @DisplayName("채팅방 생성 및 조회 - 성공 (해당 스터디에 채팅방이 존재하지 않는 경우)")
   void testGetOrCreateChatRoom_Success() {
@@ -0,0 +1,58 @@
+package com.devonoff.domain.chat.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ChatAccessCacheTest {
+
+  @Test
+  @DisplayName("권한 캐시 - TTL 동안 재사용하고, 제거 후에는 참가자가 아님")
+  void isMember_CachesUntilEvicted() {
+    // Given
+    ChatAccessCache chatAccessCache = new ChatAccessCache(60);
+    chatAccessCache.putChatRoom(1L, 10L);
+    chatAccessCache.putMembership(2L, 10L, chatAccessCache.getInvalidationVersion());
+
+    // When
+    boolean cached = chatAccessCache.isMember(2L, 10L);
+    chatAccessCache.evictUser(2L);
+
+    // Then
+    assertThat(cached).isTrue();
+    assertThat(chatAccessCache.getStudyId(1L)).isEqualTo(10L);
+    assertThat(chatAccessCache.isMember(2L, 10L)).isFalse();
+  }
+
+  @Test
+  @DisplayName("권한 캐시 - TTL 이 지나면 다시 조회 (다른 노드의 제거 반영)")
+  void isMember_ExpiresAfterTtl() {
+    // Given
+    ChatAccessCache chatAccessCache = new ChatAccessCache(0);
+    chatAccessCache.putChatRoom(1L, 10L);
+    chatAccessCache.putMembership(2L, 10L, chatAccessCache.getInvalidationVersion());
+
+    // When
+    chatAccessCache.purgeExpired();
+
+    // Then
+    assertThat(chatAccessCache.isMember(2L, 10L)).isFalse();
+    assertThat(chatAccessCache.getStudyId(1L)).isNull();
+  }
+
+  @Test
+  @DisplayName("권한 캐시 - 조회 중 무효화되면 결과를 저장하지 않음")
+  void putMembership_IgnoresStaleVersion() {
+    // Given
+    ChatAccessCache chatAccessCache = new ChatAccessCache(60);
+    long version = chatAccessCache.getInvalidationVersion();
+    chatAccessCache.evictMembership(2L, 10L);
+
+    // When
+    chatAccessCache.putMembership(2L, 10L, version);
+
+    // Then
+    assertThat(chatAccessCache.isMember(2L, 10L)).isFalse();
+  }
+}
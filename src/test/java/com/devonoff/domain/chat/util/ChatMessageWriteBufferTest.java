@@ -0,0 +1,176 @@
+package com.devonoff.domain.chat.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.devonoff.domain.chat.entity.ChatMessage;
+import com.devonoff.domain.chat.entity.ChatRoom;
+import com.devonoff.domain.user.entity.User;
+import com.devonoff.exception.CustomException;
+import com.devonoff.type.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMessageWriteBufferTest {
+
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  @Mock
+  private StringRedisTemplate redisTemplate;
+
+  @Mock
+  private ValueOperations<String, String> valueOperations;
+
+  private ChatMessageWriteBuffer createBuffer(int capacity) {
+    return createBuffer(capacity, 1);
+  }
+
+  private ChatMessageWriteBuffer createBuffer(int capacity, int idBlockSize) {
+    return new ChatMessageWriteBuffer(jdbcTemplate, transactionManager, redisTemplate,
+        new SimpleMeterRegistry(), capacity, 500, 10, 10, idBlockSize, 1000);
+  }
+
+  @Test
+  @DisplayName("메시지 ID 발급 - 시퀀스가 없으면 DB 최대 ID + 여유 값으로 만든 뒤 발급")
+  @SuppressWarnings("unchecked")
+  void testNextId_SeedsFromDatabase() {
+    // given
+    given(redisTemplate.execute(any(RedisScript.class), anyList(), any()))
+        .willReturn(null, 1042L, 1043L);
+    given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    given(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).willReturn(41L);
+    ChatMessageWriteBuffer buffer = createBuffer(10);
+
+    // when & then
+    assertThat(buffer.nextId()).isEqualTo(1042L);
+    assertThat(buffer.nextId()).isEqualTo(1043L);
+    verify(valueOperations).setIfAbsent("ChatMessage:id", "1041");
+  }
+
+  @Test
+  @DisplayName("메시지 ID 발급 - block 단위로 받아 두고 소진되면 다시 할당")
+  @SuppressWarnings("unchecked")
+  void testNextId_AllocatesBlocks() {
+    // given
+    given(redisTemplate.execute(any(RedisScript.class), anyList(), any()))
+        .willReturn(10L, 20L);
+    ChatMessageWriteBuffer buffer = createBuffer(10, 10);
+
+    // when
+    for (long expected = 1; expected <= 10; expected++) {
+      assertThat(buffer.nextId()).isEqualTo(expected);
+    }
+    long next = buffer.nextId();
+
+    // then
+    assertThat(next).isEqualTo(11L);
+    verify(redisTemplate, times(2)).execute(any(RedisScript.class), anyList(), any());
+  }
+
+  @Test
+  @DisplayName("메시지 ID 발급 - Redis 오류 시 송신 실패")
+  @SuppressWarnings("unchecked")
+  void testNextId_Fail_RedisError() {
+    // given
+    given(redisTemplate.execute(any(RedisScript.class), anyList(), any()))
+        .willThrow(new IllegalStateException("connection refused"));
+    ChatMessageWriteBuffer buffer = createBuffer(10);
+
+    // when
+    CustomException customException = assertThrows(CustomException.class, buffer::nextId);
+
+    // then
+    assertThat(customException.getErrorCode()).isEqualTo(ErrorCode.CHAT_MESSAGE_SEND_FAILED);
+  }
+
+  @Test
+  @DisplayName("메시지 저장 - 종료 시 남은 메시지 모두 배치 저장")
+  void testStop_DrainsBuffer() {
+    // given
+    ChatMessageWriteBuffer buffer = createBuffer(10);
+    buffer.start();
+
+    // when
+    for (long id = 1; id <= 3; id++) {
+      buffer.enqueue(chatMessage(id));
+    }
+    buffer.stop();
+
+    // then
+    ArgumentCaptor<BatchPreparedStatementSetter> captor =
+        ArgumentCaptor.forClass(BatchPreparedStatementSetter.class);
+    verify(jdbcTemplate, atLeastOnce()).batchUpdate(anyString(), captor.capture());
+    int saved = captor.getAllValues().stream()
+        .mapToInt(BatchPreparedStatementSetter::getBatchSize)
+        .sum();
+    assertThat(saved).isEqualTo(3);
+    assertThat(buffer.size()).isZero();
+    assertThat(buffer.isRunning()).isFalse();
+  }
+
+  @Test
+  @DisplayName("메시지 저장 - 버퍼가 가득 차면 거절")
+  void testEnqueue_Fail_BufferFull() throws InterruptedException {
+    // given
+    CountDownLatch flushing = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    given(jdbcTemplate.batchUpdate(anyString(), any(BatchPreparedStatementSetter.class)))
+        .willAnswer(invocation -> {
+          flushing.countDown();
+          release.await(5, TimeUnit.SECONDS);
+          return new int[0];
+        });
+    ChatMessageWriteBuffer buffer = createBuffer(1);
+    buffer.start();
+
+    buffer.enqueue(chatMessage(1L)); // 플러시 스레드가 가져가 저장 중 대기
+    assertThat(flushing.await(5, TimeUnit.SECONDS)).isTrue();
+    buffer.enqueue(chatMessage(2L)); // 버퍼 1칸 사용
+
+    // when
+    CustomException customException = assertThrows(CustomException.class,
+        () -> buffer.enqueue(chatMessage(3L)));
+
+    // then
+    assertThat(customException.getErrorCode()).isEqualTo(ErrorCode.CHAT_MESSAGE_BUFFER_FULL);
+    release.countDown();
+    buffer.stop();
+  }
+
+  private ChatMessage chatMessage(Long id) {
+    return ChatMessage.builder()
+        .id(id)
+        .chatRoom(ChatRoom.builder().id(1L).build())
+        .sender(User.builder().id(1L).build())
+        .content("message " + id)
+        .createdAt(LocalDateTime.now())
+        .build();
+  }
+}
@@ -0,0 +1,57 @@
+package com.devonoff.domain.chat.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.devonoff.domain.user.dto.UserDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ChatSenderCacheTest {
+
+  @Test
+  @DisplayName("송신자 캐시 - TTL 동안 재사용하고, 제거 후에는 다시 조회")
+  void getSender_CachesUntilEvicted() {
+    // Given
+    ChatSenderCache chatSenderCache = new ChatSenderCache(60);
+    UserDto sender = UserDto.builder().id(2L).nickname("user").build();
+    chatSenderCache.putSender(2L, sender, chatSenderCache.getInvalidationVersion());
+
+    // When
+    UserDto cached = chatSenderCache.getSender(2L);
+    chatSenderCache.evictSender(2L);
+
+    // Then
+    assertThat(cached).isSameAs(sender);
+    assertThat(chatSenderCache.getSender(2L)).isNull();
+  }
+
+  @Test
+  @DisplayName("송신자 캐시 - TTL 이 지나면 다시 조회 (다른 노드의 변경 반영)")
+  void getSender_ExpiresAfterTtl() {
+    // Given
+    ChatSenderCache chatSenderCache = new ChatSenderCache(0);
+    chatSenderCache.putSender(2L, UserDto.builder().id(2L).build(),
+        chatSenderCache.getInvalidationVersion());
+
+    // When
+    chatSenderCache.purgeExpired();
+
+    // Then
+    assertThat(chatSenderCache.getSender(2L)).isNull();
+  }
+
+  @Test
+  @DisplayName("송신자 캐시 - 조회 중 무효화되면 결과를 저장하지 않음")
+  void putSender_IgnoresStaleVersion() {
+    // Given
+    ChatSenderCache chatSenderCache = new ChatSenderCache(60);
+    long version = chatSenderCache.getInvalidationVersion();
+    chatSenderCache.evictSender(2L);
+
+    // When
+    chatSenderCache.putSender(2L, UserDto.builder().id(2L).build(), version);
+
+    // Then
+    assertThat(chatSenderCache.getSender(2L)).isNull();
+  }
+}
@@ -0,0 +1,92 @@
+package com.devonoff.domain.chat.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.devonoff.domain.chat.dto.ChatMessageDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+class RecentChatMessageCacheTest {
+
+  private final Pageable pageable = PageRequest.of(0, 2);
+
+  @Test
+  @DisplayName("첫 페이지 조회 - 적재 전에는 캐시에서 응답하지 않음")
+  void getFirstPage_NotLoaded() {
+    // Given
+    RecentChatMessageCache cache = new RecentChatMessageCache(new SimpleMeterRegistry(), 3,
+        Long.MAX_VALUE, 0, "local");
+    cache.append(1L, message(1L));
+
+    // When & Then
+    assertThat(cache.getFirstPage(1L, pageable)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("첫 페이지 조회 - 적재 후 송신 메시지 반영, 링 버퍼 크기 유지")
+  void getFirstPage_AfterLoad() {
+    // Given
+    RecentChatMessageCache cache = new RecentChatMessageCache(new SimpleMeterRegistry(), 3,
+        Long.MAX_VALUE, 0, "local");
+    cache.append(1L, message(5L)); // 아직 DB 에 저장되지 않은 메시지
+    cache.load(1L, List.of(message(4L), message(3L)), 10);
+
+    // When
+    cache.append(1L, message(6L));
+    Optional<Page<ChatMessageDto>> firstPage = cache.getFirstPage(1L, pageable);
+
+    // Then
+    assertThat(firstPage).isPresent();
+    assertThat(firstPage.get().getContent()).extracting(ChatMessageDto::getId)
+        .containsExactly(6L, 5L);
+    assertThat(firstPage.get().getTotalElements()).isEqualTo(12);
+    assertThat(cache.getFirstPage(1L, PageRequest.of(0, 5))).isEmpty();
+  }
+
+  @Test
+  @DisplayName("메모리 예산 초과 - 가장 오래 사용하지 않은 채팅방부터 제거")
+  void evict_LeastRecentlyUsed() {
+    // Given
+    RecentChatMessageCache cache = new RecentChatMessageCache(new SimpleMeterRegistry(), 3,
+        1000, 0, "local");
+    cache.load(1L, List.of(message(1L)), 1);
+    cache.load(2L, List.of(message(2L)), 1);
+    cache.getFirstPage(1L, pageable);
+
+    // When
+    cache.load(3L, List.of(message(3L), message(4L), message(5L)), 3);
+
+    // Then
+    assertThat(cache.getTotalBytes()).isLessThanOrEqualTo(1000);
+    assertThat(cache.getFirstPage(2L, pageable)).isEmpty();
+    assertThat(cache.getFirstPage(3L, pageable)).isPresent();
+  }
+
+  @Test
+  @DisplayName("첫 페이지 조회 - 여러 노드로 동작하면 적재 후 ttl 이 지난 채팅방은 다시 적재")
+  void getFirstPage_ExpiredOnMultiNode() throws InterruptedException {
+    // Given
+    RecentChatMessageCache cache = new RecentChatMessageCache(new SimpleMeterRegistry(), 3,
+        Long.MAX_VALUE, 10, "redis");
+    cache.load(1L, List.of(message(2L), message(1L)), 2);
+    assertThat(cache.getFirstPage(1L, pageable)).isPresent();
+
+    // When
+    Thread.sleep(30);
+
+    // Then
+    assertThat(cache.getFirstPage(1L, pageable)).isEmpty();
+    cache.load(1L, List.of(message(3L), message(2L)), 3);
+    assertThat(cache.getFirstPage(1L, pageable)).isPresent();
+  }
+
+  private ChatMessageDto message(Long id) {
+    return ChatMessageDto.builder().id(id).content("메시지" + id).build();
+  }
+}
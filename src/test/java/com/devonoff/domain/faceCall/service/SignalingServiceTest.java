@@ -0,0 +1,92 @@
+package com.devonoff.domain.faceCall.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.devonoff.domain.faceCall.util.IceCandidateCoalescer;
+import com.devonoff.domain.faceCall.util.StudySessionRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class SignalingServiceTest {
+
+  @InjectMocks
+  private SignalingService signalingService;
+
+  @Mock
+  private SimpMessagingTemplate messagingTemplate;
+
+  @Mock
+  private StudySessionRegistry studySessionRegistry;
+
+  @Mock
+  private IceCandidateCoalescer iceCandidateCoalescer;
+
+  @Test
+  @DisplayName("camKey 전달 - 송신 세션의 스터디룸 토픽으로만 전달")
+  void testSendToRoom_Success() {
+    // given
+    given(studySessionRegistry.getStudyId(eq("session-1"))).willReturn("1");
+
+    // when
+    signalingService.sendToRoom("session-1", SignalingService.SEND_KEY_TOPIC, "key");
+
+    // then
+    verify(messagingTemplate).convertAndSend(eq("/topic/send/key/1"), eq((Object) "key"));
+  }
+
+  @Test
+  @DisplayName("camKey 전달 - 스터디룸에 접속하지 않은 세션은 무시")
+  void testSendToRoom_UnknownSession() {
+    // given
+    given(studySessionRegistry.getStudyId(eq("session-1"))).willReturn(null);
+
+    // when
+    signalingService.sendToRoom("session-1", SignalingService.CALL_KEY_TOPIC, "key");
+
+    // then
+    verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+  }
+
+  @Test
+  @DisplayName("offer 전달 - 다른 스터디룸으로 향하는 메시지는 무시")
+  void testSendToPeer_OtherRoom() {
+    // given
+    given(studySessionRegistry.getStudyId(eq("session-1"))).willReturn("1");
+
+    // when
+    signalingService.sendToPeer("session-1", "/topic/peer/offer/user/2", "2", "offer");
+    signalingService.sendToPeer("session-1", "/topic/peer/offer/user/1", "1", "offer");
+
+    // then
+    verify(messagingTemplate, never()).convertAndSend(eq("/topic/peer/offer/user/2"),
+        any(Object.class));
+    verify(messagingTemplate).convertAndSend(eq("/topic/peer/offer/user/1"),
+        eq((Object) "offer"));
+  }
+
+  @Test
+  @DisplayName("iceCandidate 전달 - 같은 스터디룸이면 묶음 전송 단계로 전달")
+  void testSendIceCandidate_Success() {
+    // given
+    given(studySessionRegistry.getStudyId(eq("session-1"))).willReturn("1");
+
+    // when
+    signalingService.sendIceCandidate("session-1", "1", "user", "candidate");
+    signalingService.sendIceCandidate("session-1", "2", "user", "candidate");
+
+    // then
+    verify(iceCandidateCoalescer).submit(eq("user"), eq("1"), eq("candidate"));
+    verify(iceCandidateCoalescer, never()).submit(anyString(), eq("2"), anyString());
+  }
+}
@@ -0,0 +1,55 @@
+package com.devonoff.domain.faceCall.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+class AlarmSubscriptionInterceptorTest {
+
+  @Test
+  @DisplayName("알림 구독 - 참가자별 토픽은 스터디룸 토픽으로 변경")
+  void preSend_RewritesNicknameTopic() {
+    // Given
+    AlarmSubscriptionInterceptor interceptor = new AlarmSubscriptionInterceptor("room");
+
+    // When
+    Message<?> nickname = interceptor.preSend(subscribe("/topic/alarm/1/user"), null);
+    Message<?> room = interceptor.preSend(subscribe("/topic/alarm/1"), null);
+    Message<?> other = interceptor.preSend(subscribe("/topic/chat/1"), null);
+
+    // Then
+    assertThat(getDestination(nickname)).isEqualTo("/topic/alarm/1");
+    assertThat(getDestination(room)).isEqualTo("/topic/alarm/1");
+    assertThat(getDestination(other)).isEqualTo("/topic/chat/1");
+  }
+
+  @Test
+  @DisplayName("알림 구독 - 참가자별 전송(호환 모드)이면 변경하지 않음")
+  void preSend_NicknameMode() {
+    // Given
+    AlarmSubscriptionInterceptor interceptor = new AlarmSubscriptionInterceptor("nickname");
+
+    // When
+    Message<?> message = interceptor.preSend(subscribe("/topic/alarm/1/user"), null);
+
+    // Then
+    assertThat(getDestination(message)).isEqualTo("/topic/alarm/1/user");
+  }
+
+  private Message<?> subscribe(String destination) {
+    StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+    accessor.setSessionId("session-1");
+    accessor.setSubscriptionId("sub-1");
+    accessor.setDestination(destination);
+    return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+  }
+
+  private String getDestination(Message<?> message) {
+    return StompHeaderAccessor.wrap(message).getDestination();
+  }
+}
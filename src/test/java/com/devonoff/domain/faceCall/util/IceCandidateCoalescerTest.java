@@ -0,0 +1,155 @@
+package com.devonoff.domain.faceCall.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+@ExtendWith(MockitoExtension.class)
+class IceCandidateCoalescerTest {
+
+  @Mock
+  private SimpMessagingTemplate messagingTemplate;
+
+  @Mock
+  private TaskScheduler taskScheduler;
+
+  @Mock
+  private StringRedisTemplate redisTemplate;
+
+  @Mock
+  private ZSetOperations<String, String> zSetOperations;
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private IceCandidateCoalescer iceCandidateCoalescer;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    iceCandidateCoalescer = new IceCandidateCoalescer(messagingTemplate, redisTemplate,
+        taskScheduler, new ObjectMapper(), meterRegistry, true, 30, "local", 30000, 1000);
+  }
+
+  @Test
+  @DisplayName("iceCandidate 전달 - v2 구독자가 없으면 candidate 마다 바로 전달")
+  void testSubmit_WithoutV2Subscriber() {
+    // when
+    iceCandidateCoalescer.submit("user", "1", "c1");
+    iceCandidateCoalescer.submit("user", "1", "c2");
+
+    // then
+    verify(messagingTemplate, times(2)).convertAndSend(eq("/topic/peer/iceCandidate/user/1"),
+        any(Object.class));
+    verify(taskScheduler, never()).schedule(any(Runnable.class), any(Instant.class));
+  }
+
+  @Test
+  @DisplayName("iceCandidate 전달 - v2 구독자에게는 묶어서 한 프레임으로 전달")
+  void testSubmit_CoalescesForV2Subscriber() {
+    // given
+    iceCandidateCoalescer.handleSubscribe(subscribeEvent("/topic/peer/iceCandidate/v2/user/1"));
+
+    // when
+    iceCandidateCoalescer.submit("user", "1", "c1");
+    iceCandidateCoalescer.submit("user", "1", "c2");
+    iceCandidateCoalescer.submit("user", "1", "c3");
+
+    // then
+    ArgumentCaptor<Runnable> flush = ArgumentCaptor.forClass(Runnable.class);
+    verify(taskScheduler, times(1)).schedule(flush.capture(), any(Instant.class));
+    flush.getValue().run();
+
+    verify(messagingTemplate, never()).convertAndSend(eq("/topic/peer/iceCandidate/user/1"),
+        any(Object.class));
+    verify(messagingTemplate).convertAndSend(eq("/topic/peer/iceCandidate/v2/user/1"),
+        eq((Object) "{\"version\":2,\"candidates\":[\"c1\",\"c2\",\"c3\"]}"));
+    assertThat(meterRegistry.counter("signaling.ice.frames.saved").count()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("iceCandidate 전달 - local 브로커가 아니면 전체 노드 기준 v2 구독자에게만 묶어서 전달")
+  void testSubmit_NonLocalBrokerUsesClusterSubscribers() {
+    // given
+    iceCandidateCoalescer = new IceCandidateCoalescer(messagingTemplate, redisTemplate,
+        taskScheduler, new ObjectMapper(), meterRegistry, true, 30, "redis", 30000, 1000);
+    given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+    given(zSetOperations.count(eq("IceCandidate:subscribers:/topic/peer/iceCandidate/v2/user/1"),
+        anyDouble(), anyDouble())).willReturn(1L);
+    given(zSetOperations.count(eq("IceCandidate:subscribers:/topic/peer/iceCandidate/user/1"),
+        anyDouble(), anyDouble())).willReturn(0L);
+
+    // when
+    iceCandidateCoalescer.submit("user", "1", "c1");
+    iceCandidateCoalescer.submit("user", "1", "c2");
+
+    // then
+    ArgumentCaptor<Runnable> flush = ArgumentCaptor.forClass(Runnable.class);
+    verify(taskScheduler, times(1)).schedule(flush.capture(), any(Instant.class));
+    flush.getValue().run();
+
+    verify(messagingTemplate, never()).convertAndSend(eq("/topic/peer/iceCandidate/user/1"),
+        any(Object.class));
+    verify(messagingTemplate).convertAndSend(eq("/topic/peer/iceCandidate/v2/user/1"),
+        eq((Object) "{\"version\":2,\"candidates\":[\"c1\",\"c2\"]}"));
+    // 조회 결과는 보관 시간 동안 다시 조회하지 않음
+    verify(zSetOperations, times(1)).count(
+        eq("IceCandidate:subscribers:/topic/peer/iceCandidate/v2/user/1"), anyDouble(),
+        anyDouble());
+    assertThat(meterRegistry.counter("signaling.ice.frames.saved").count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("구독 - local 브로커가 아니면 이 노드의 첫 구독자일 때 Redis 에 기록")
+  void testHandleSubscribe_NonLocalBrokerPublishes() {
+    // given
+    iceCandidateCoalescer = new IceCandidateCoalescer(messagingTemplate, redisTemplate,
+        taskScheduler, new ObjectMapper(), meterRegistry, true, 30, "redis", 30000, 1000);
+    given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+
+    // when
+    iceCandidateCoalescer.handleSubscribe(subscribeEvent("/topic/peer/iceCandidate/v2/user/1"));
+    iceCandidateCoalescer.handleSubscribe(subscribeEvent("/topic/peer/iceCandidate/v2/user/1"));
+
+    // then
+    verify(zSetOperations, times(1)).add(
+        eq("IceCandidate:subscribers:/topic/peer/iceCandidate/v2/user/1"), anyString(),
+        anyDouble());
+    verify(redisTemplate, times(1)).expire(
+        eq("IceCandidate:subscribers:/topic/peer/iceCandidate/v2/user/1"), any(Duration.class));
+  }
+
+  private SessionSubscribeEvent subscribeEvent(String destination) {
+    StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+    accessor.setSessionId("session-1");
+    accessor.setSubscriptionId("sub-1");
+    accessor.setDestination(destination);
+    return new SessionSubscribeEvent(this,
+        MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+  }
+}
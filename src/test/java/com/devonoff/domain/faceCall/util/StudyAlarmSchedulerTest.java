@@ -0,0 +1,175 @@
+package com.devonoff.domain.faceCall.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class StudyAlarmSchedulerTest {
+
+  private static final String SCHEDULE_KEY = "StudyAlarm:schedule";
+
+  @Mock
+  private StringRedisTemplate redisTemplate;
+
+  @Mock
+  private ZSetOperations<String, String> zSetOperations;
+
+  @Mock
+  private StudyManager studyManager;
+
+  @Mock
+  private SimpMessagingTemplate messagingTemplate;
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private StudyAlarmScheduler studyAlarmScheduler;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (studyAlarmScheduler != null) {
+      studyAlarmScheduler.stop();
+    }
+  }
+
+  @Test
+  @DisplayName("알림 전송 - 선점한 예약만 전송 (다른 노드에서 더 늦은 시각으로 다시 예약된 예약은 제외)")
+  void testFire_SkipsNotClaimed() throws Exception {
+    // given
+    long now = System.currentTimeMillis();
+    givenSchedule(Set.of(new DefaultTypedTuple<>("END:1", (double) now - 1000),
+        new DefaultTypedTuple<>("END:2", (double) now - 1000)));
+    // END:2 는 다른 노드에서 다시 예약되어 선점되지 않음
+    given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+        .willAnswer(invocation -> Arrays.asList(invocation.getArguments()).contains("END:1")
+            ? List.of("END:1") : List.of());
+    studyAlarmScheduler = createScheduler(60000, "room");
+
+    // when
+    studyAlarmScheduler.start();
+
+    // then
+    verify(messagingTemplate, timeout(2000)).send(eq("/topic/alarm/1"), any(Message.class));
+    verify(messagingTemplate, after(200).never()).send(eq("/topic/alarm/2"),
+        any(Message.class));
+    assertThat(meterRegistry.counter("study.alarm.fired", "type", "END").count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("알림 전송 - max-lateness 보다 늦어진 알림은 선점 후 전송하지 않음")
+  void testFire_DropsTooLate() throws Exception {
+    // given
+    long now = System.currentTimeMillis();
+    givenSchedule(Set.of(new DefaultTypedTuple<>("END:1", (double) now - 120_000)));
+    given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+        .willReturn(List.of("END:1"));
+    studyAlarmScheduler = createScheduler(60000, "room");
+
+    // when
+    studyAlarmScheduler.start();
+
+    // then
+    verify(redisTemplate, timeout(2000)).execute(any(RedisScript.class),
+        eq(List.of(SCHEDULE_KEY)), anyString(), eq("END:1"));
+    verify(messagingTemplate, after(200).never()).send(anyString(), any(Message.class));
+    assertThat(meterRegistry.counter("study.alarm.dropped").count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("휠 등록 - 같은 시각으로 여러 번 동기화된 예약은 한 번만 선점 / 전송")
+  void testAddToWheel_Deduplicates() throws Exception {
+    // given
+    long fireAt = System.currentTimeMillis() + 300;
+    AtomicBoolean claimed = new AtomicBoolean(false);
+    given(zSetOperations.rangeByScoreWithScores(eq(SCHEDULE_KEY), anyDouble(), anyDouble()))
+        .willAnswer(invocation -> claimed.get() ? Set.of()
+            : Set.of(new DefaultTypedTuple<>("END:1", (double) fireAt)));
+    given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+        .willAnswer(invocation -> {
+          claimed.set(true);
+          return List.of("END:1");
+        });
+    // 알림 시각 전까지 여러 번 동기화
+    studyAlarmScheduler = createScheduler(50, "room");
+
+    // when
+    studyAlarmScheduler.start();
+
+    // then
+    verify(messagingTemplate, timeout(2000)).send(eq("/topic/alarm/1"), any(Message.class));
+    verify(redisTemplate, after(200).times(1)).execute(any(RedisScript.class),
+        eq(List.of(SCHEDULE_KEY)), anyString(), eq("END:1"));
+    verify(messagingTemplate, times(1)).send(anyString(), any(Message.class));
+  }
+
+  @Test
+  @DisplayName("알림 전송 - nickname 모드면 전체 노드 기준 참가자별 토픽으로 전송")
+  void testFire_NicknameDestinations() throws Exception {
+    // given
+    long now = System.currentTimeMillis();
+    givenSchedule(Set.of(new DefaultTypedTuple<>("ALARM:1", (double) now - 1000)));
+    given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+        .willReturn(List.of("ALARM:1"));
+    given(studyManager.getStudyMembers("1")).willReturn(List.of("user1", "user2"));
+    studyAlarmScheduler = createScheduler(60000, "nickname");
+
+    // when
+    studyAlarmScheduler.start();
+
+    // then
+    verify(messagingTemplate, timeout(2000)).send(eq("/topic/alarm/1/user1"),
+        any(Message.class));
+    verify(messagingTemplate, timeout(2000)).send(eq("/topic/alarm/1/user2"),
+        any(Message.class));
+    verify(messagingTemplate, never()).send(eq("/topic/alarm/1"), any(Message.class));
+    assertThat(meterRegistry.counter("study.alarm.fired", "type", "ALARM").count())
+        .isEqualTo(1);
+  }
+
+  private void givenSchedule(Set<DefaultTypedTuple<String>> entries) {
+    given(zSetOperations.rangeByScoreWithScores(eq(SCHEDULE_KEY), anyDouble(), anyDouble()))
+        .willAnswer(invocation -> entries);
+  }
+
+  private StudyAlarmScheduler createScheduler(long syncIntervalMillis, String destination)
+      throws Exception {
+    return new StudyAlarmScheduler(redisTemplate, studyManager, messagingTemplate,
+        new ObjectMapper(), meterRegistry, 10, 64, syncIntervalMillis, 60000, destination);
+  }
+}
@@ -0,0 +1,68 @@
+package com.devonoff.domain.faceCall.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+import com.devonoff.domain.faceCall.util.StudySessionRegistry.Membership;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+class StudyRoomPresenceTest {
+
+  @Mock
+  private StringRedisTemplate redisTemplate;
+
+  @Mock
+  private StudySessionRegistry studySessionRegistry;
+
+  private StudyRoomPresence studyRoomPresence;
+
+  @BeforeEach
+  void setUp() {
+    studyRoomPresence = new StudyRoomPresence(redisTemplate, studySessionRegistry, 30000, 3);
+  }
+
+  @Test
+  @DisplayName("스터디룸 입장 - 전체 노드 기준 참가자 수 반환")
+  void testJoin_ReturnsClusterWideCount() {
+    // given
+    given(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), eq("user"),
+        anyString(), anyString(), anyString()))
+        .willReturn(List.of(1L, 3L));
+
+    // when
+    Membership membership = studyRoomPresence.join("1", "user");
+
+    // then
+    assertThat(membership.isMemberChanged()).isTrue();
+    assertThat(membership.getMemberCount()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("스터디룸 퇴장 - 다른 노드에 같은 참가자가 남아 있으면 참가자 변경 없음")
+  void testLeave_MemberStillOnOtherNode() {
+    // given
+    given(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), eq("user"),
+        anyString(), anyString()))
+        .willReturn(List.of(0L, 2L));
+
+    // when
+    Membership membership = studyRoomPresence.leave("1", "user");
+
+    // then
+    assertThat(membership.isMemberChanged()).isFalse();
+    assertThat(membership.getMemberCount()).isEqualTo(2);
+  }
+}
@@ -0,0 +1,80 @@
+package com.devonoff.domain.faceCall.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.devonoff.domain.faceCall.util.StudySessionRegistry.Membership;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StudySessionRegistryTest {
+
+  private final StudySessionRegistry studySessionRegistry = new StudySessionRegistry();
+
+  @Test
+  @DisplayName("입장 / 퇴장 - 같은 참가자의 여러 세션은 참가자 한 명으로 계산")
+  void joinAndLeave_MultipleSessions() {
+    // When
+    Membership first = studySessionRegistry.join("s1", "1", "user");
+    Membership second = studySessionRegistry.join("s2", "1", "user");
+    Membership other = studySessionRegistry.join("s3", "1", "other");
+
+    // Then
+    assertThat(first.isMemberChanged()).isTrue();
+    assertThat(second.isMemberChanged()).isFalse();
+    assertThat(other.getMemberCount()).isEqualTo(2);
+    assertThat(studySessionRegistry.getStudyId("s2")).isEqualTo("1");
+    assertThat(studySessionRegistry.getNickname("s3")).isEqualTo("other");
+    assertThat(studySessionRegistry.getMembers("1")).containsExactlyInAnyOrder("user", "other");
+
+    Membership leftSession = studySessionRegistry.leave("s1");
+    assertThat(leftSession.isMemberChanged()).isFalse();
+    Membership leftMember = studySessionRegistry.leave("s2");
+    assertThat(leftMember.isMemberChanged()).isTrue();
+    assertThat(leftMember.getMemberCount()).isEqualTo(2);
+    assertThat(studySessionRegistry.getMemberCount("1")).isEqualTo(1);
+    assertThat(studySessionRegistry.leave("s2")).isNull();
+  }
+
+  @Test
+  @DisplayName("동시 입장 / 퇴장 - 모두 나가면 세션 / 스터디룸이 남지 않음")
+  void concurrentJoinAndLeave_NoLeak() throws Exception {
+    // Given
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    AtomicInteger joinedMembers = new AtomicInteger();
+    AtomicInteger leftMembers = new AtomicInteger();
+    List<Future<?>> futures = new ArrayList<>();
+
+    // When
+    for (int t = 0; t < 8; t++) {
+      int thread = t;
+      futures.add(executor.submit(() -> {
+        for (int i = 0; i < 2000; i++) {
+          String sessionId = thread + "-" + i;
+          String studyId = String.valueOf(i % 5);
+          String nickname = "user" + (i % 3);
+          if (studySessionRegistry.join(sessionId, studyId, nickname).isMemberChanged()) {
+            joinedMembers.incrementAndGet();
+          }
+          if (studySessionRegistry.leave(sessionId).isMemberChanged()) {
+            leftMembers.incrementAndGet();
+          }
+        }
+      }));
+    }
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    executor.shutdown();
+
+    // Then
+    assertThat(joinedMembers.get()).isEqualTo(leftMembers.get());
+    assertThat(studySessionRegistry.getSessionCount()).isZero();
+    assertThat(studySessionRegistry.getRoomCount()).isZero();
+  }
+}
@@ -0,0 +1,102 @@
+package com.devonoff.domain.faceCall.util;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.devonoff.domain.studyTimeline.service.StudyTimelineService;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+class TimeManagerTest {
+
+  @Mock
+  private StudyTimelineService studyTimelineService;
+
+  @Mock
+  private StudySessionRegistry studySessionRegistry;
+
+  @Mock
+  private StringRedisTemplate redisTemplate;
+
+  @Mock
+  private SetOperations<String, String> setOperations;
+
+  private TimeManager timeManager;
+
+  @BeforeEach
+  void setUp() {
+    timeManager = new TimeManager(studyTimelineService, studySessionRegistry, redisTemplate,
+        30000, 3);
+  }
+
+  @Test
+  @DisplayName("타이머 종료 - Redis 에 저장된 시작 시각으로 타임라인 기록")
+  void testEndTimer_Success() {
+    // given
+    long startedAt = System.currentTimeMillis() - 60_000;
+    given(redisTemplate.execute(any(RedisScript.class), anyList(), eq("1"), eq("")))
+        .willReturn(startedAt + ":" + startedAt);
+
+    // when
+    timeManager.endTimer("1");
+
+    // then
+    verify(studyTimelineService).saveStudyTimeline(eq(1L), eq(toLocalDateTime(startedAt)),
+        any(LocalDateTime.class));
+  }
+
+  @Test
+  @DisplayName("타이머 종료 - 다른 노드가 먼저 종료했으면 기록하지 않음")
+  void testEndTimer_AlreadyEnded() {
+    // given
+    given(redisTemplate.execute(any(RedisScript.class), anyList(), eq("1"), eq("")))
+        .willReturn(null);
+
+    // when
+    timeManager.endTimer("1");
+
+    // then
+    verify(studyTimelineService, never()).saveStudyTimeline(anyLong(), any(), any());
+  }
+
+  @Test
+  @DisplayName("타이머 복구 - 오래된 타이머는 마지막 체크포인트까지 기록")
+  void testRecover_StaleTimer() {
+    // given
+    long startedAt = System.currentTimeMillis() - 600_000;
+    long checkpointAt = startedAt + 300_000;
+    given(redisTemplate.opsForSet()).willReturn(setOperations);
+    given(setOperations.members("StudyTimer:active")).willReturn(Set.of("1"));
+    given(redisTemplate.execute(any(RedisScript.class), anyList(), eq("1"), anyString()))
+        .willReturn(startedAt + ":" + checkpointAt);
+
+    // when
+    timeManager.recover();
+
+    // then
+    verify(studyTimelineService).saveStudyTimeline(1L, toLocalDateTime(startedAt),
+        toLocalDateTime(checkpointAt));
+  }
+
+  private LocalDateTime toLocalDateTime(long epochMillis) {
+    return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+  }
+}
@@ -27,6 +27,7 @@ import com.devonoff.domain.infosharepost.dto.InfoShareReplyRequest;
 import com.devonoff.domain.infosharepost.entity.InfoShareComment;
 import com.devonoff.domain.infosharepost.entity.InfoSharePost;
 import com.devonoff.domain.infosharepost.entity.InfoShareReply;
+import com.devonoff.domain.search.service.TitleSearchService;
 import com.devonoff.domain.user.dto.UserDto;
 import com.devonoff.domain.user.entity.User;
 import com.devonoff.domain.user.repository.UserRepository;
@@ -73,6 +74,9 @@ class InfoSharePostServiceTest {
   @Mock
   private AuthService authService;
 
+  @Mock
+  private TitleSearchService titleSearchService;
+
   @BeforeEach
   void setUp() {
     MockitoAnnotations.openMocks(this);
@@ -0,0 +1,209 @@
+package com.devonoff.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.devonoff.domain.notification.dto.NotificationContentResponse;
+import com.devonoff.domain.notification.dto.NotificationCountResponse;
+import com.devonoff.domain.notification.dto.NotificationDto;
+import com.devonoff.domain.notification.dto.NotificationSummaryDto;
+import com.devonoff.domain.notification.entity.Notification;
+import com.devonoff.domain.notification.repository.NotificationRepository;
+import com.devonoff.domain.notification.util.NotificationDispatcher;
+import com.devonoff.domain.notification.util.UnreadNotificationCounter;
+import com.devonoff.domain.studyPost.entity.StudyPost;
+import com.devonoff.domain.studyPost.repository.StudyPostRepository;
+import com.devonoff.domain.user.dto.UserDto;
+import com.devonoff.domain.user.entity.User;
+import com.devonoff.domain.user.service.AuthService;
+import com.devonoff.exception.CustomException;
+import com.devonoff.type.ErrorCode;
+import com.devonoff.type.NotificationType;
+import com.devonoff.type.PostType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationServiceTest {
+
+  @InjectMocks
+  private NotificationService notificationService;
+
+  @Mock
+  private NotificationRepository notificationRepository;
+
+  @Mock
+  private NotificationDispatcher notificationDispatcher;
+
+  @Mock
+  private AuthService authService;
+
+  @Mock
+  private UnreadNotificationCounter unreadNotificationCounter;
+
+  @Mock
+  private StudyPostRepository studyPostRepository;
+
+  @Test
+  @DisplayName("여러 사용자 알림 전송 - 발신자 / 중복 수신자를 제외하고 한 번에 전송 요청")
+  @SuppressWarnings("unchecked")
+  void testSendNotificationToUsers_Success() {
+    // given
+    NotificationDto notificationDto = NotificationDto.builder()
+        .sender(UserDto.builder().id(1L).build())
+        .type(NotificationType.STUDY_CREATED)
+        .targetId(5L)
+        .build();
+
+    // when
+    notificationService.sendNotificationToUsers(List.of(1L, 2L, 3L, 2L), notificationDto);
+
+    // then
+    ArgumentCaptor<List<NotificationDto>> captor = ArgumentCaptor.forClass(List.class);
+    verify(notificationDispatcher).dispatchAll(captor.capture());
+    assertThat(captor.getValue()).extracting(NotificationDto::getUserId)
+        .containsExactly(2L, 3L);
+    assertThat(captor.getValue()).extracting(NotificationDto::getTargetId)
+        .containsOnly(5L);
+    verify(notificationDispatcher, never()).dispatch(notificationDto);
+  }
+
+  @Test
+  @DisplayName("알림 모두 읽음 - 한 번의 UPDATE 로 처리하고 처리 건수 반환")
+  void testReadNotifications_Success() {
+    // given
+    given(notificationRepository.markAllAsReadByUserId(1L)).willReturn(3000L);
+
+    // when
+    NotificationCountResponse response = notificationService.readNotifications(1L);
+
+    // then
+    assertThat(response.getCount()).isEqualTo(3000L);
+    verify(notificationRepository).markAllAsReadByUserId(1L);
+    verify(unreadNotificationCounter).reset(1L);
+  }
+
+  @Test
+  @DisplayName("알림 읽음 - 읽지 않은 알림 수 감소")
+  void testReadNotification_DecrementsUnreadCount() {
+    // given
+    Notification notification = Notification.builder()
+        .id(10L)
+        .userId(1L)
+        .sender(User.builder().id(2L).build())
+        .isRead(false)
+        .build();
+    notification.setCreatedAt(LocalDateTime.now().minusDays(1));
+    given(notificationRepository.findById(10L)).willReturn(Optional.of(notification));
+
+    // when
+    NotificationSummaryDto summary = notificationService.readNotification(10L);
+
+    // then
+    assertThat(summary.isRead()).isTrue();
+    verify(unreadNotificationCounter).decrement(1L);
+  }
+
+  @Test
+  @DisplayName("알림 읽음 - 목록 조회 기간이 지난 알림은 읽지 않은 알림 수에 반영하지 않음")
+  void testReadNotification_OldNotificationKeepsUnreadCount() {
+    // given
+    Notification notification = Notification.builder()
+        .id(10L)
+        .userId(1L)
+        .sender(User.builder().id(2L).build())
+        .isRead(false)
+        .build();
+    notification.setCreatedAt(
+        LocalDateTime.now().minusDays(NotificationService.VISIBLE_DAYS + 1));
+    given(notificationRepository.findById(10L)).willReturn(Optional.of(notification));
+
+    // when
+    notificationService.readNotification(10L);
+
+    // then
+    verify(unreadNotificationCounter, never()).decrement(any());
+  }
+
+  @Test
+  @DisplayName("읽지 않은 알림 수 조회 - 로그인 사용자의 카운터 조회")
+  void testGetUnreadCount_Success() {
+    // given
+    given(authService.getLoginUserId()).willReturn(1L);
+    given(unreadNotificationCounter.get(1L)).willReturn(5L);
+
+    // when
+    NotificationCountResponse response = notificationService.getUnreadCount();
+
+    // then
+    assertThat(response.getCount()).isEqualTo(5L);
+  }
+
+  @Test
+  @DisplayName("알림 모두 삭제 - 한 번의 DELETE 로 처리하고 삭제 건수 반환")
+  void testDeleteNotifications_Success() {
+    // given
+    given(notificationRepository.deleteAllInBulkByUserId(1L)).willReturn(42L);
+
+    // when
+    NotificationCountResponse response = notificationService.deleteNotifications(1L);
+
+    // then
+    assertThat(response.getCount()).isEqualTo(42L);
+  }
+
+  @Test
+  @DisplayName("알림 전체 내용 조회 - 게시글 본문은 원글에서 조회")
+  void testGetNotificationContent_Success() {
+    // given
+    Notification notification = Notification.builder()
+        .id(10L)
+        .userId(1L)
+        .type(NotificationType.COMMENT_ADDED)
+        .postType(PostType.STUDY)
+        .postContent("미리보기...")
+        .commentContent("댓글 내용")
+        .targetId(5L)
+        .build();
+    given(notificationRepository.findById(10L)).willReturn(Optional.of(notification));
+    given(authService.getLoginUserId()).willReturn(1L);
+    given(studyPostRepository.findById(5L))
+        .willReturn(Optional.of(StudyPost.builder().id(5L).description("전체 본문").build()));
+
+    // when
+    NotificationContentResponse response = notificationService.getNotificationContent(10L);
+
+    // then
+    assertThat(response.getPostContent()).isEqualTo("전체 본문");
+    assertThat(response.getCommentContent()).isEqualTo("댓글 내용");
+  }
+
+  @Test
+  @DisplayName("알림 전체 내용 조회 - 다른 사용자의 알림이면 예외")
+  void testGetNotificationContent_Unauthorized() {
+    // given
+    Notification notification = Notification.builder().id(10L).userId(1L).build();
+    given(notificationRepository.findById(10L)).willReturn(Optional.of(notification));
+    given(authService.getLoginUserId()).willReturn(2L);
+
+    // when
+    CustomException exception = assertThrows(CustomException.class,
+        () -> notificationService.getNotificationContent(10L));
+
+    // then
+    assertEquals(ErrorCode.UNAUTHORIZED_ACCESS, exception.getErrorCode());
+  }
+}
@@ -0,0 +1,179 @@
+package com.devonoff.domain.notification.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.devonoff.domain.notification.dto.NotificationDto;
+import com.devonoff.domain.notification.dto.NotificationSummaryDto;
+import com.devonoff.domain.user.dto.UserDto;
+import com.devonoff.type.NotificationType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationDispatcherTest {
+
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  @Mock
+  private SimpMessagingTemplate messagingTemplate;
+
+  @Mock
+  private UnreadNotificationCounter unreadNotificationCounter;
+
+  private NotificationDispatcher createDispatcher() {
+    return new NotificationDispatcher(jdbcTemplate, transactionManager, messagingTemplate,
+        unreadNotificationCounter, new SimpleMeterRegistry(), 10, 200, 10);
+  }
+
+  @Test
+  @DisplayName("알림 전송 - 배치 저장 후 생성된 ID 로 사용자 토픽에 전송")
+  void testDispatch_PersistsAndDelivers() {
+    // given
+    given(jdbcTemplate.execute(any(ConnectionCallback.class))).willReturn(List.of(10L, 11L));
+    NotificationDispatcher dispatcher = createDispatcher();
+    dispatcher.start();
+    NotificationDto first = notification(2L);
+    NotificationDto second = notification(3L);
+
+    // when
+    dispatcher.dispatch(first);
+    dispatcher.dispatch(second);
+    dispatcher.stop();
+
+    // then
+    verify(messagingTemplate).convertAndSend(eq("/topic/notifications/2"),
+        any(NotificationSummaryDto.class));
+    verify(messagingTemplate).convertAndSend(eq("/topic/notifications/3"),
+        any(NotificationSummaryDto.class));
+    assertThat(first.getId()).isNotNull();
+    assertThat(first.getCreatedAt()).isNotNull();
+    assertThat(dispatcher.size()).isZero();
+    verify(unreadNotificationCounter).increment(2L, 1L);
+    verify(unreadNotificationCounter).increment(3L, 1L);
+  }
+
+  @Test
+  @DisplayName("여러 알림 전송 - 한 번의 배치 저장 후 수신자별로 전송")
+  void testDispatchAll_PersistsOnce() {
+    // given
+    given(jdbcTemplate.execute(any(ConnectionCallback.class)))
+        .willReturn(List.of(10L, 11L, 12L));
+    NotificationDispatcher dispatcher = createDispatcher();
+
+    // when
+    dispatcher.dispatchAll(List.of(notification(2L), notification(3L), notification(4L)));
+
+    // then
+    verify(jdbcTemplate, times(1)).execute(any(ConnectionCallback.class));
+    verify(messagingTemplate).convertAndSend(eq("/topic/notifications/2"),
+        any(NotificationSummaryDto.class));
+    verify(messagingTemplate).convertAndSend(eq("/topic/notifications/3"),
+        any(NotificationSummaryDto.class));
+    verify(messagingTemplate).convertAndSend(eq("/topic/notifications/4"),
+        any(NotificationSummaryDto.class));
+    verify(unreadNotificationCounter).increment(4L, 1L);
+  }
+
+  @Test
+  @DisplayName("알림 전송 - 트랜잭션 안에서는 커밋 이후에 처리")
+  void testDispatch_AfterCommit() {
+    // given
+    given(jdbcTemplate.execute(any(ConnectionCallback.class))).willReturn(List.of(10L));
+    NotificationDispatcher dispatcher = createDispatcher();
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      // when
+      dispatcher.dispatch(notification(2L));
+
+      // then
+      verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(TransactionSynchronization::afterCommit);
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+    verify(messagingTemplate).convertAndSend(eq("/topic/notifications/2"), any(Object.class));
+  }
+
+  @Test
+  @DisplayName("알림 전송 - 전체 내용 대신 미리보기와 발신자 요약만 전송")
+  void testDispatch_SendsSummary() {
+    // given
+    given(jdbcTemplate.execute(any(ConnectionCallback.class))).willReturn(List.of(10L));
+    NotificationDispatcher dispatcher = createDispatcher();
+    NotificationDto notificationDto = notification(2L);
+    notificationDto.setPostContent("본문".repeat(1000));
+    notificationDto.setCommentContent("댓글".repeat(100));
+
+    // when
+    dispatcher.dispatch(notificationDto);
+
+    // then
+    ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+    verify(messagingTemplate).convertAndSend(eq("/topic/notifications/2"), captor.capture());
+    NotificationSummaryDto summary = (NotificationSummaryDto) captor.getValue();
+    assertThat(summary.getId()).isEqualTo(10L);
+    assertThat(summary.getPreview())
+        .isEqualTo("댓글".repeat(50) + "...");
+    assertThat(summary.getSender().getNickname()).isEqualTo("sender");
+    assertThat(summary.getTargetId()).isEqualTo(1L);
+  }
+
+  @Test
+  @DisplayName("알림 전송 - 데이터 문제로 배치 저장에 실패하면 건별로 저장하고 실패한 알림만 제외")
+  void testDispatchAll_FallsBackToPerRowWrites() {
+    // given
+    given(jdbcTemplate.execute(any(ConnectionCallback.class)))
+        .willThrow(new DataIntegrityViolationException("bad row"))
+        .willReturn(List.of(10L))
+        .willThrow(new DataIntegrityViolationException("bad row"))
+        .willReturn(List.of(12L));
+    NotificationDispatcher dispatcher = createDispatcher();
+
+    // when
+    dispatcher.dispatchAll(List.of(notification(2L), notification(3L), notification(4L)));
+
+    // then
+    verify(jdbcTemplate, times(4)).execute(any(ConnectionCallback.class));
+    verify(messagingTemplate).convertAndSend(eq("/topic/notifications/2"),
+        any(NotificationSummaryDto.class));
+    verify(messagingTemplate, never()).convertAndSend(eq("/topic/notifications/3"),
+        any(Object.class));
+    verify(messagingTemplate).convertAndSend(eq("/topic/notifications/4"),
+        any(NotificationSummaryDto.class));
+    verify(unreadNotificationCounter, never()).increment(eq(3L), any(Long.class));
+  }
+
+  private NotificationDto notification(Long userId) {
+    return NotificationDto.builder()
+        .userId(userId)
+        .sender(UserDto.builder().id(1L).nickname("sender").email("sender@test.com").build())
+        .type(NotificationType.COMMENT_ADDED)
+        .targetId(1L)
+        .build();
+  }
+}
@@ -0,0 +1,86 @@
+package com.devonoff.domain.notification.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.devonoff.domain.notification.repository.NotificationRepository;
+import com.devonoff.util.TimeProvider;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.repeat.RepeatStatus;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationRetentionTaskletTest {
+
+  @Mock
+  private NotificationRepository notificationRepository;
+
+  @Mock
+  private TimeProvider timeProvider;
+
+  private NotificationRetentionTasklet createTasklet() {
+    return new NotificationRetentionTasklet(notificationRepository, timeProvider, 30, 1000, 0,
+        2, 6);
+  }
+
+  @Test
+  @DisplayName("알림 정리 - PK 범위 단위로 삭제하고 남은 대상이 없으면 종료")
+  void execute_DeletesInIdRanges() throws Exception {
+    // Given
+    LocalDateTime now = LocalDateTime.of(2024, 12, 12, 3, 0);
+    LocalDateTime cutoff = now.minusDays(30);
+    given(timeProvider.now()).willReturn(now);
+    given(notificationRepository.findNextExpiredId(0L, cutoff)).willReturn(500L);
+    given(notificationRepository.deleteExpiredInIdRange(500L, 1500L, cutoff)).willReturn(1000L);
+    given(notificationRepository.findNextExpiredId(1500L, cutoff)).willReturn(null);
+    NotificationRetentionTasklet tasklet = createTasklet();
+    StepExecution stepExecution = new StepExecution("deleteOldNotificationsStep",
+        new JobExecution(1L));
+    StepContribution contribution = stepExecution.createStepContribution();
+    ChunkContext chunkContext = new ChunkContext(new StepContext(stepExecution));
+
+    // When
+    RepeatStatus first = tasklet.execute(contribution, chunkContext);
+    RepeatStatus second = tasklet.execute(contribution, chunkContext);
+
+    // Then
+    assertThat(first).isEqualTo(RepeatStatus.CONTINUABLE);
+    assertThat(second).isEqualTo(RepeatStatus.FINISHED);
+    assertThat(contribution.getWriteCount()).isEqualTo(1000L);
+    assertThat(stepExecution.getExecutionContext()
+        .getLong(NotificationRetentionTasklet.CURSOR_KEY)).isEqualTo(1500L);
+  }
+
+  @Test
+  @DisplayName("알림 정리 - 허용 시간대가 아니면 삭제하지 않고 종료")
+  void execute_StopsDuringPeakHours() throws Exception {
+    // Given
+    given(timeProvider.now()).willReturn(LocalDateTime.of(2024, 12, 12, 20, 0));
+    NotificationRetentionTasklet tasklet = createTasklet();
+    StepExecution stepExecution = new StepExecution("deleteOldNotificationsStep",
+        new JobExecution(1L));
+
+    // When
+    RepeatStatus status = tasklet.execute(stepExecution.createStepContribution(),
+        new ChunkContext(new StepContext(stepExecution)));
+
+    // Then
+    assertThat(status).isEqualTo(RepeatStatus.FINISHED);
+    verify(notificationRepository, never()).deleteExpiredInIdRange(anyLong(), anyLong(),
+        any(LocalDateTime.class));
+    verify(notificationRepository, never()).findNextExpiredId(anyLong(), any());
+  }
+}
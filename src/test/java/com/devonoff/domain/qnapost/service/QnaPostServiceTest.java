@@ -29,6 +29,7 @@ import com.devonoff.domain.qnapost.entity.QnaReply;
 import com.devonoff.domain.qnapost.repository.QnaCommentRepository;
 import com.devonoff.domain.qnapost.repository.QnaPostRepository;
 import com.devonoff.domain.qnapost.repository.QnaReplyRepository;
+import com.devonoff.domain.search.service.TitleSearchService;
 import com.devonoff.domain.user.entity.User;
 import com.devonoff.domain.user.repository.UserRepository;
 import com.devonoff.domain.user.service.AuthService;
@@ -71,6 +72,9 @@ class QnaPostServiceTest {
   @Mock
   private AuthService authService;
 
+  @Mock
+  private TitleSearchService titleSearchService;
+
   @InjectMocks
   private QnaPostService qnaPostService;
 
@@ -0,0 +1,120 @@
+package com.devonoff.domain.search.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.devonoff.type.PostType;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TitleSearchIndexTest {
+
+  private TitleSearchIndex titleSearchIndex;
+
+  @BeforeEach
+  void setUp() {
+    titleSearchIndex = new TitleSearchIndex();
+  }
+
+  @DisplayName("제목 검색 - 검색어를 포함하는 게시글만 반환")
+  @Test
+  void search_Success() {
+    // Given
+    titleSearchIndex.index(PostType.QNA, 1L, "스프링 부트 질문입니다");
+    titleSearchIndex.index(PostType.QNA, 2L, "자바 스프링 트랜잭션");
+    titleSearchIndex.index(PostType.QNA, 3L, "리액트 상태 관리");
+    titleSearchIndex.index(PostType.QNA, 4L, "부스트 캠프 후기");
+
+    // When
+    List<Long> result = titleSearchIndex.search(PostType.QNA, "스프링");
+
+    // Then
+    assertEquals(List.of(1L, 2L), result);
+  }
+
+  @DisplayName("제목 검색 - 한 글자, 대소문자 구분 없이 검색")
+  @Test
+  void search_Success_SingleCharAndCaseInsensitive() {
+    // Given
+    titleSearchIndex.index(PostType.INFO, 1L, "JPA N+1 문제 정리");
+    titleSearchIndex.index(PostType.INFO, 2L, "Spring Security 설정");
+
+    // When
+    List<Long> singleChar = titleSearchIndex.search(PostType.INFO, "문");
+    List<Long> caseInsensitive = titleSearchIndex.search(PostType.INFO, "spring security");
+
+    // Then
+    assertEquals(List.of(1L), singleChar);
+    assertEquals(List.of(2L), caseInsensitive);
+  }
+
+  @DisplayName("제목 검색 - 제목 일치 > 접두어 일치 > 최신순 정렬")
+  @Test
+  void search_Success_Ranking() {
+    // Given
+    titleSearchIndex.index(PostType.STUDY, 1L, "알고리즘 스터디 모집");
+    titleSearchIndex.index(PostType.STUDY, 2L, "코딩테스트 알고리즘 스터디");
+    titleSearchIndex.index(PostType.STUDY, 3L, "알고리즘");
+    titleSearchIndex.index(PostType.STUDY, 4L, "주말 알고리즘 스터디 구해요");
+
+    // When
+    List<Long> result = titleSearchIndex.search(PostType.STUDY, "알고리즘");
+
+    // Then
+    assertEquals(List.of(3L, 1L, 2L, 4L), result);
+  }
+
+  @DisplayName("제목 검색 - 게시글 수정 / 삭제 반영")
+  @Test
+  void search_Success_UpdateAndRemove() {
+    // Given
+    titleSearchIndex.index(PostType.QNA, 1L, "도커 질문");
+    titleSearchIndex.index(PostType.QNA, 2L, "도커 컴포즈 질문");
+    titleSearchIndex.index(PostType.QNA, 1L, "쿠버네티스 질문");
+    titleSearchIndex.remove(PostType.QNA, 2L);
+
+    // When
+    List<Long> docker = titleSearchIndex.search(PostType.QNA, "도커");
+    List<Long> kubernetes = titleSearchIndex.search(PostType.QNA, "쿠버");
+
+    // Then
+    assertTrue(docker.isEmpty());
+    assertEquals(List.of(1L), kubernetes);
+    assertEquals(1, titleSearchIndex.size(PostType.QNA));
+  }
+
+  @DisplayName("제목 검색 - 게시판별로 색인 분리")
+  @Test
+  void search_Success_SeparatedByPostType() {
+    // Given
+    titleSearchIndex.index(PostType.QNA, 1L, "자바 질문");
+    titleSearchIndex.index(PostType.INFO, 1L, "파이썬 정리");
+
+    // When
+    List<Long> result = titleSearchIndex.search(PostType.INFO, "자바");
+
+    // Then
+    assertTrue(result.isEmpty());
+  }
+
+  @DisplayName("인덱스 재적재 - 다른 노드의 변경은 반영하고 이후에 저장된 게시글은 유지")
+  @Test
+  void replaceAll_Success() {
+    // Given
+    titleSearchIndex.index(PostType.QNA, 1L, "자바 질문");
+    titleSearchIndex.index(PostType.QNA, 2L, "삭제된 글");
+    titleSearchIndex.index(PostType.QNA, 5L, "방금 저장한 자바 글");
+
+    // When
+    int changed = titleSearchIndex.replaceAll(PostType.QNA,
+        Map.of(1L, "자바 질문", 3L, "다른 노드의 자바 글"));
+
+    // Then
+    assertEquals(2, changed);
+    assertEquals(List.of(1L, 5L, 3L), titleSearchIndex.search(PostType.QNA, "자바"));
+    assertTrue(titleSearchIndex.search(PostType.QNA, "삭제").isEmpty());
+  }
+}
@@ -6,10 +6,12 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.devonoff.domain.chat.util.ChatAccessCache;
 import com.devonoff.domain.student.entity.Student;
 import com.devonoff.domain.student.repository.StudentRepository;
 import com.devonoff.domain.study.entity.Study;
 import com.devonoff.domain.study.repository.StudyRepository;
+import com.devonoff.domain.study.util.StudyMetadataCache;
 import com.devonoff.domain.user.entity.User;
 import com.devonoff.exception.CustomException;
 import com.devonoff.type.ErrorCode;
@@ -33,6 +35,12 @@ class StudentServiceTest {
   @Mock
   private StudyRepository studyRepository;
 
+  @Mock
+  private ChatAccessCache chatAccessCache;
+
+  @Mock
+  private StudyMetadataCache studyMetadataCache;
+
   @Test
   @DisplayName("스터디에서 특정 참가자 삭제 성공")
   void removeStudent_Success() {
@@ -64,6 +72,8 @@ class StudentServiceTest {
     verify(studentRepository).delete(student);
     verify(studentRepository).countParticipantsByStudy(study);
     verify(studyRepository).save(study);
+    verify(chatAccessCache).evictMembership(100L, studyId);
+    verify(studyMetadataCache).evict(studyId);
   }
 
   @Test
@@ -0,0 +1,95 @@
+package com.devonoff.domain.study.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.devonoff.domain.study.dto.StudyMetadata;
+import com.devonoff.domain.study.entity.Study;
+import com.devonoff.domain.study.repository.StudyRepository;
+import java.time.LocalTime;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+@ExtendWith(MockitoExtension.class)
+class StudyMetadataCacheTest {
+
+  @Mock
+  private StudyRepository studyRepository;
+
+  @Test
+  @DisplayName("스터디 정보 조회 - TTL 동안 재사용하고, 제거 후에는 다시 조회")
+  void get_CachesUntilEvicted() {
+    // Given
+    StudyMetadataCache studyMetadataCache = new StudyMetadataCache(studyRepository, null, null,
+        60, "study:metadata:evict", "local");
+    when(studyRepository.findById(1L))
+        .thenReturn(Optional.of(study(3)))
+        .thenReturn(Optional.of(study(2)));
+
+    // When
+    studyMetadataCache.get(1L);
+    Optional<StudyMetadata> cached = studyMetadataCache.get(1L);
+    studyMetadataCache.evict(1L);
+    Optional<StudyMetadata> reloaded = studyMetadataCache.get(1L);
+
+    // Then
+    verify(studyRepository, times(2)).findById(1L);
+    assertThat(cached.get().getTotalParticipants()).isEqualTo(3);
+    assertThat(reloaded.get().getTotalParticipants()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("스터디 정보 조회 - TTL 이 지나면 다시 조회, 없는 스터디는 캐시하지 않음")
+  void get_ReloadsAfterTtl() {
+    // Given
+    StudyMetadataCache studyMetadataCache = new StudyMetadataCache(studyRepository, null, null,
+        0, "study:metadata:evict", "local");
+    when(studyRepository.findById(1L)).thenReturn(Optional.of(study(3)));
+    when(studyRepository.findById(2L)).thenReturn(Optional.empty());
+
+    // When
+    studyMetadataCache.get(1L);
+    studyMetadataCache.get(1L);
+    Optional<StudyMetadata> missing = studyMetadataCache.get(2L);
+
+    // Then
+    verify(studyRepository, times(2)).findById(1L);
+    assertThat(missing).isEmpty();
+  }
+
+  @Test
+  @DisplayName("스터디 정보 조회 - 다른 노드에서 발행한 제거를 받으면 다시 조회")
+  void onMessage_EvictsPublishedStudy() {
+    // Given
+    StudyMetadataCache studyMetadataCache = new StudyMetadataCache(studyRepository, null, null,
+        60, "study:metadata:evict", "local");
+    when(studyRepository.findById(1L))
+        .thenReturn(Optional.of(study(3)))
+        .thenReturn(Optional.of(study(4)));
+    studyMetadataCache.get(1L);
+
+    // When
+    studyMetadataCache.onMessage(new DefaultMessage("study:metadata:evict".getBytes(),
+        "1".getBytes()), null);
+    Optional<StudyMetadata> reloaded = studyMetadataCache.get(1L);
+
+    // Then
+    verify(studyRepository, times(2)).findById(1L);
+    assertThat(reloaded.get().getTotalParticipants()).isEqualTo(4);
+  }
+
+  private Study study(int totalParticipants) {
+    return Study.builder()
+        .id(1L)
+        .totalParticipants(totalParticipants)
+        .endTime(LocalTime.of(22, 0))
+        .build();
+  }
+}
@@ -15,6 +15,8 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import com.devonoff.domain.notification.dto.NotificationDto;
+import com.devonoff.domain.notification.service.NotificationService;
 import com.devonoff.domain.photo.service.PhotoService;
 import com.devonoff.domain.student.repository.StudentRepository;
 import com.devonoff.domain.study.entity.Study;
@@ -23,6 +25,8 @@ import com.devonoff.domain.studyPost.dto.StudyCommentDto;
 import com.devonoff.domain.studyPost.dto.StudyCommentRequest;
 import com.devonoff.domain.studyPost.dto.StudyCommentResponse;
 import com.devonoff.domain.studyPost.dto.StudyPostCreateRequest;
+import com.devonoff.domain.studyPost.dto.StudyPostCursor;
+import com.devonoff.domain.studyPost.dto.StudyPostCursorResponse;
 import com.devonoff.domain.studyPost.dto.StudyPostDto;
 import com.devonoff.domain.studyPost.dto.StudyPostUpdateRequest;
 import com.devonoff.domain.studyPost.dto.StudyReplyDto;
@@ -33,6 +37,7 @@ import com.devonoff.domain.studyPost.entity.StudyReply;
 import com.devonoff.domain.studyPost.repository.StudyCommentRepository;
 import com.devonoff.domain.studyPost.repository.StudyPostRepository;
 import com.devonoff.domain.studyPost.repository.StudyReplyRepository;
+import com.devonoff.domain.studyPost.util.StudyPostGeoIndex;
 import com.devonoff.domain.studySignup.entity.StudySignup;
 import com.devonoff.domain.studySignup.repository.StudySignupRepository;
 import com.devonoff.domain.user.entity.User;
@@ -47,6 +52,7 @@ import com.devonoff.type.StudySignupStatus;
 import com.devonoff.type.StudySubject;
 import com.devonoff.util.DayTypeUtils;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.Collections;
 import java.util.List;
@@ -96,6 +102,12 @@ class StudyPostServiceTest {
   @Mock
   private StudyService studyService;
 
+  @Mock
+  private StudyPostGeoIndex studyPostGeoIndex;
+
+  @Mock
+  private NotificationService notificationService;
+
   @InjectMocks
   private StudyPostService studyPostService;
 
@@ -277,6 +289,48 @@ class StudyPostServiceTest {
         "Difficulty should match");
   }
 
+  @DisplayName("스터디 모집글 커서 기반 검색 성공")
+  @Test
+  void searchStudyPostsByCursor_Success() {
+    // Given
+    LocalDateTime createdAt = LocalDateTime.of(2024, 12, 1, 10, 0);
+    String cursor = StudyPostCursor.ofCreatedAt(createdAt, 10L).encode();
+
+    StudyPostDto studyPostDto = new StudyPostDto();
+    studyPostDto.setId(9L);
+    studyPostDto.setTitle("코딩 테스트 준비");
+
+    StudyPostCursorResponse mockResponse = StudyPostCursorResponse.builder()
+        .content(List.of(studyPostDto))
+        .size(1)
+        .hasNext(false)
+        .build();
+
+    when(studyPostRepository.findStudyPostsByFiltersWithCursor(any(), any(), any(), any(),
+        eq(0), any(), any(), any(), any(StudyPostCursor.class), eq(12)))
+        .thenReturn(mockResponse);
+
+    // When
+    StudyPostCursorResponse result = studyPostService.searchStudyPostsByCursor(null, null, null,
+        null, 0, null, null, null, cursor, 12);
+
+    // Then
+    assertEquals(1, result.getContent().size());
+    assertEquals(9L, result.getContent().get(0).getId());
+    assertEquals(false, result.isHasNext());
+  }
+
+  @DisplayName("스터디 모집글 커서 기반 검색 실패 - 잘못된 커서")
+  @Test
+  void searchStudyPostsByCursor_Fail_InvalidCursor() {
+    // When & Then
+    CustomException exception = assertThrows(CustomException.class,
+        () -> studyPostService.searchStudyPostsByCursor(null, null, null, null, 0, null, null,
+            null, "invalid-cursor", 12));
+
+    assertEquals(ErrorCode.INVALID_CURSOR, exception.getErrorCode());
+  }
+
   @DisplayName("스터디 모집글 생성 성공")
   @Test
   void createStudyPost_Success() {
@@ -537,6 +591,8 @@ class StudyPostServiceTest {
 
     verify(studentRepository, times(1)).saveAll(anyList());
     verify(studyService, times(1)).createStudyFromClosedPost(studyPostId);
+    verify(notificationService, times(1)).sendNotificationToUsers(eq(List.of(2L)),
+        any(NotificationDto.class));
   }
 
   @DisplayName("스터디 모집글 모집 마감 실패 - 모집글 없음")
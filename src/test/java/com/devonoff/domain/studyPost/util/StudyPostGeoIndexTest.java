@@ -0,0 +1,121 @@
+package com.devonoff.domain.studyPost.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.devonoff.domain.studyPost.entity.StudyPost;
+import com.devonoff.type.StudyMeetingType;
+import com.devonoff.type.StudyPostStatus;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StudyPostGeoIndexTest {
+
+  private StudyPostGeoIndex studyPostGeoIndex;
+
+  @BeforeEach
+  void setUp() {
+    studyPostGeoIndex = new StudyPostGeoIndex();
+  }
+
+  @DisplayName("반경 검색 - 반경 내 모집글만 거리순으로 반환")
+  @Test
+  void findWithinRadius_Success() {
+    // Given
+    studyPostGeoIndex.put(1L, 37.5665, 126.9780); // 서울시청
+    studyPostGeoIndex.put(2L, 37.5700, 126.9830); // 약 0.6km
+    studyPostGeoIndex.put(3L, 35.1796, 129.0756); // 부산
+
+    // When
+    List<GeoCandidate> result = studyPostGeoIndex.findWithinRadius(37.5665, 126.9780, 5);
+
+    // Then
+    assertEquals(List.of(1L, 2L),
+        result.stream().map(GeoCandidate::getStudyPostId).toList());
+  }
+
+  @DisplayName("최근접 K 검색 - 전체 탐색 결과와 동일")
+  @Test
+  void findNearest_MatchesBruteForce() {
+    // Given
+    Random random = new Random(42);
+    double[][] points = new double[2000][];
+    for (int i = 0; i < points.length; i++) {
+      points[i] = new double[]{37.0 + random.nextDouble(), 126.5 + random.nextDouble()};
+      studyPostGeoIndex.put((long) i, points[i][0], points[i][1]);
+    }
+
+    // When
+    List<GeoCandidate> result = studyPostGeoIndex.findNearest(37.5, 127.0, 20);
+
+    // Then
+    List<Long> expected = IntStream.range(0, points.length).boxed()
+        .sorted(Comparator.comparingDouble(i -> StudyPostGeoIndex.distanceKm(
+            37.5, 127.0, points[i][0], points[i][1])))
+        .limit(20)
+        .map(Integer::longValue)
+        .collect(Collectors.toList());
+    assertEquals(expected, result.stream().map(GeoCandidate::getStudyPostId).toList());
+  }
+
+  @DisplayName("모집글 취소 시 인덱스에서 제거")
+  @Test
+  void sync_RemovesCanceledPost() {
+    // Given
+    StudyPost studyPost = StudyPost.builder().id(1L).meetingType(StudyMeetingType.HYBRID)
+        .status(StudyPostStatus.RECRUITING).latitude(37.5665).longitude(126.9780).build();
+    studyPostGeoIndex.sync(studyPost);
+    assertEquals(1, studyPostGeoIndex.size());
+
+    // When
+    studyPost.setStatus(StudyPostStatus.CANCELED);
+    studyPostGeoIndex.sync(studyPost);
+
+    // Then
+    assertEquals(0, studyPostGeoIndex.size());
+    assertTrue(studyPostGeoIndex.findNearest(37.5665, 126.9780, 5).isEmpty());
+  }
+
+  @DisplayName("위치 수정 시 새로운 위치 기준으로 검색")
+  @Test
+  void put_MovesPost() {
+    // Given
+    studyPostGeoIndex.put(1L, 37.5665, 126.9780);
+
+    // When
+    studyPostGeoIndex.put(1L, 35.1796, 129.0756);
+
+    // Then
+    assertTrue(studyPostGeoIndex.findWithinRadius(37.5665, 126.9780, 5).isEmpty());
+    assertEquals(1, studyPostGeoIndex.findWithinRadius(35.1796, 129.0756, 5).size());
+  }
+
+  @DisplayName("인덱스 재적재 - 다른 노드의 변경은 반영하고 이후에 저장된 모집글은 유지")
+  @Test
+  void replaceAll_Success() {
+    // Given
+    studyPostGeoIndex.put(1L, 37.5665, 126.9780);
+    studyPostGeoIndex.put(2L, 37.5700, 126.9830);
+    studyPostGeoIndex.put(5L, 37.5670, 126.9790);
+
+    // When
+    int changed = studyPostGeoIndex.replaceAll(Map.of(
+        1L, new double[]{37.5665, 126.9780},
+        3L, new double[]{37.5680, 126.9800}));
+
+    // Then
+    assertEquals(2, changed);
+    List<Long> ids = studyPostGeoIndex.findWithinRadius(37.5665, 126.9780, 5).stream()
+        .map(GeoCandidate::getStudyPostId)
+        .sorted()
+        .toList();
+    assertEquals(List.of(1L, 3L, 5L), ids);
+  }
+}
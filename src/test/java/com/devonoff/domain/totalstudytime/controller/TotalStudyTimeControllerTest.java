@@ -1,17 +1,22 @@
 package com.devonoff.domain.totalstudytime.controller;
 
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.devonoff.config.SecurityConfig;
 import com.devonoff.domain.totalstudytime.controller.TotalStudyTimeController;
+import com.devonoff.domain.totalstudytime.dto.StudyTimeRankingSnapshot;
 import com.devonoff.domain.totalstudytime.dto.TotalStudyTimeDto;
+import com.devonoff.domain.totalstudytime.service.StudyTimeRankingSnapshotService;
 import com.devonoff.domain.totalstudytime.service.TotalStudyTimeService;
 import com.devonoff.util.JwtProvider;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
@@ -21,6 +26,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -35,6 +41,9 @@ class TotalStudyTimeControllerTest {
   @MockBean
   private TotalStudyTimeService totalStudyTimeService;
 
+  @MockBean
+  private StudyTimeRankingSnapshotService studyTimeRankingSnapshotService;
+
   @MockBean
   private JwtProvider jwtProvider;
 
@@ -89,13 +98,17 @@ class TotalStudyTimeControllerTest {
             .build()
     );
 
-    when(totalStudyTimeService.getTotalStudyTimeRanking()).thenReturn(mockRanking);
+    when(studyTimeRankingSnapshotService.getSnapshot()).thenReturn(
+        new StudyTimeRankingSnapshot(mockRanking, "\"ranking-v1\"", LocalDateTime.now()));
+    when(studyTimeRankingSnapshotService.getRefreshIntervalSeconds()).thenReturn(30L);
 
     // When & Then
     mockMvc.perform(get("/api/total-study-time/ranking")
             .contentType(MediaType.APPLICATION_JSON))
         .andExpect(status().isOk())
         .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(header().string(HttpHeaders.ETAG, "\"ranking-v1\""))
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=30, public"))
         .andExpect(jsonPath("$.length()").value(2))
         .andExpect(jsonPath("$[0].studyId").value(1L))
         .andExpect(jsonPath("$[0].studyName").value("Java Study Group"))
@@ -108,4 +121,22 @@ class TotalStudyTimeControllerTest {
         .andExpect(jsonPath("$[1].ranking").value(2L))
         .andExpect(jsonPath("$[1].percent").value(100.0));
   }
-}
\ No newline at end of file
+
+  @Test
+  @DisplayName("누적 학습시간 기준 랭킹 조회 - ETag 일치 시 304")
+  void testGetTotalStudyTimeRanking_NotModified() throws Exception {
+    // Given
+    when(studyTimeRankingSnapshotService.getSnapshot()).thenReturn(
+        new StudyTimeRankingSnapshot(List.of(), "\"ranking-v1\"", LocalDateTime.now()));
+    when(studyTimeRankingSnapshotService.getRefreshIntervalSeconds()).thenReturn(30L);
+
+    // When & Then
+    mockMvc.perform(get("/api/total-study-time/ranking")
+            .header(HttpHeaders.IF_NONE_MATCH, "\"ranking-v1\""))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"ranking-v1\""))
+        .andExpect(content().string(""));
+
+    verify(studyTimeRankingSnapshotService).recordNotModified();
+  }
+}
@@ -0,0 +1,110 @@
+package com.devonoff.domain.totalstudytime.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.devonoff.domain.totalstudytime.dto.StudyTimeRankingSnapshot;
+import com.devonoff.domain.totalstudytime.dto.TotalStudyTimeDto;
+import com.devonoff.domain.totalstudytime.util.StudyTimeRanking;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+class StudyTimeRankingSnapshotServiceTest {
+
+  @Mock
+  private TotalStudyTimeService totalStudyTimeService;
+
+  @Mock
+  private StudyTimeRanking studyTimeRanking;
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private StudyTimeRankingSnapshotService studyTimeRankingSnapshotService;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    meterRegistry = new SimpleMeterRegistry();
+    studyTimeRankingSnapshotService = new StudyTimeRankingSnapshotService(totalStudyTimeService,
+        studyTimeRanking, new ObjectMapper(), meterRegistry, 30);
+  }
+
+  @Test
+  @DisplayName("랭킹 스냅샷 조회 - 스냅샷 재사용")
+  void testGetSnapshot_ReusesSnapshot() {
+    // Given
+    when(totalStudyTimeService.getTotalStudyTimeRanking()).thenReturn(List.of(ranking(1L, 1L)));
+
+    // When
+    StudyTimeRankingSnapshot first = studyTimeRankingSnapshotService.getSnapshot();
+    StudyTimeRankingSnapshot second = studyTimeRankingSnapshotService.getSnapshot();
+
+    // Then
+    assertSame(first, second);
+    verify(totalStudyTimeService, times(1)).getTotalStudyTimeRanking();
+    assertEquals(1.0, meterRegistry.counter("study_time.ranking.snapshot.requests",
+        "result", "miss").count());
+    assertEquals(1.0, meterRegistry.counter("study_time.ranking.snapshot.requests",
+        "result", "hit").count());
+    assertEquals(1, meterRegistry.timer("study_time.ranking.snapshot.rebuild").count());
+  }
+
+  @Test
+  @DisplayName("랭킹 스냅샷 갱신 - 랭킹 변경 시에만 재생성, 내용이 바뀌면 ETag 변경")
+  void testRefreshIfChanged() {
+    // Given
+    when(studyTimeRanking.getVersion()).thenReturn(1L);
+    when(totalStudyTimeService.getTotalStudyTimeRanking())
+        .thenReturn(List.of(ranking(1L, 1L)))
+        .thenReturn(List.of(ranking(2L, 1L)));
+    String firstETag = studyTimeRankingSnapshotService.getSnapshot().getETag();
+
+    // When
+    studyTimeRankingSnapshotService.refreshIfChanged();
+    when(studyTimeRanking.getVersion()).thenReturn(2L);
+    studyTimeRankingSnapshotService.refreshIfChanged();
+
+    // Then
+    verify(totalStudyTimeService, times(2)).getTotalStudyTimeRanking();
+    String secondETag = studyTimeRankingSnapshotService.getSnapshot().getETag();
+    assertNotEquals(firstETag, secondETag);
+    assertEquals(2L, studyTimeRankingSnapshotService.getSnapshot().getRanking().get(0)
+        .getStudyId());
+  }
+
+  @Test
+  @DisplayName("랭킹 스냅샷 갱신 - 실패 시 기존 스냅샷 유지")
+  void testRefresh_KeepsSnapshotOnFailure() {
+    // Given
+    when(totalStudyTimeService.getTotalStudyTimeRanking())
+        .thenReturn(List.of(ranking(1L, 1L)))
+        .thenThrow(new RuntimeException("DB 오류"));
+    StudyTimeRankingSnapshot first = studyTimeRankingSnapshotService.getSnapshot();
+
+    // When
+    studyTimeRankingSnapshotService.refresh();
+
+    // Then
+    assertSame(first, studyTimeRankingSnapshotService.getSnapshot());
+  }
+
+  private TotalStudyTimeDto ranking(Long studyId, Long rank) {
+    return TotalStudyTimeDto.builder()
+        .studyId(studyId)
+        .studyName("스터디" + studyId)
+        .totalStudyTime("1시간 ")
+        .ranking(rank)
+        .percent(100.0)
+        .build();
+  }
+}
@@ -5,16 +5,21 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.devonoff.domain.study.dto.StudyName;
 import com.devonoff.domain.study.entity.Study;
 import com.devonoff.domain.study.repository.StudyRepository;
+import com.devonoff.domain.totalstudytime.dto.StudyTimeRankingRow;
 import com.devonoff.domain.totalstudytime.dto.TotalStudyTimeDto;
 import com.devonoff.domain.totalstudytime.entity.TotalStudyTime;
 import com.devonoff.domain.totalstudytime.repository.TotalStudyTimeRepository;
 import com.devonoff.domain.totalstudytime.service.TotalStudyTimeService;
+import com.devonoff.domain.totalstudytime.util.RankedStudyTime;
+import com.devonoff.domain.totalstudytime.util.StudyTimeRanking;
 import com.devonoff.exception.CustomException;
 import com.devonoff.type.ErrorCode;
 import java.util.List;
@@ -37,6 +42,9 @@ class TotalStudyTimeServiceTest {
   @Mock
   private StudyRepository studyRepository;
 
+  @Mock
+  private StudyTimeRanking studyTimeRanking;
+
   @BeforeEach
   void setUp() {
     MockitoAnnotations.openMocks(this);
@@ -97,19 +105,12 @@ class TotalStudyTimeServiceTest {
   @DisplayName("전체 스터디 누적 학습시간 랭킹 조회 - 성공")
   void testGetTotalStudyTimeRanking_Success() {
     // Given
-    List<TotalStudyTime> mockTotalStudyTimes = List.of(
-        TotalStudyTime.builder().studyId(1L).totalStudyTime(7200L).build(),
-        TotalStudyTime.builder().studyId(2L).totalStudyTime(5400L).build()
+    List<StudyTimeRankingRow> mockRows = List.of(
+        new StudyTimeRankingRow(1L, "Java Study Group", 7200L, 4L),
+        new StudyTimeRankingRow(2L, "Python Study Group", 5400L, 4L)
     );
 
-    Study mockStudy1 = Study.builder().id(1L).studyName("Java Study Group").build();
-    Study mockStudy2 = Study.builder().id(2L).studyName("Python Study Group").build();
-
-    // Mocking repository calls
-    when(totalStudyTimeRepository.findTop10ByOrderByTotalStudyTimeDesc()).thenReturn(
-        mockTotalStudyTimes);
-    when(studyRepository.findById(1L)).thenReturn(Optional.of(mockStudy1));
-    when(studyRepository.findById(2L)).thenReturn(Optional.of(mockStudy2));
+    when(totalStudyTimeRepository.findRanking(10)).thenReturn(mockRows);
 
     // When
     List<TotalStudyTimeDto> result = totalStudyTimeService.getTotalStudyTimeRanking();
@@ -119,20 +120,23 @@ class TotalStudyTimeServiceTest {
     assertEquals(2, result.size());
     assertEquals("Java Study Group", result.get(0).getStudyName());
     assertEquals("2시간 ", result.get(0).getTotalStudyTime());
+    assertEquals(1L, result.get(0).getRanking());
+    assertEquals(25.0, result.get(0).getPercent());
     assertEquals("Python Study Group", result.get(1).getStudyName());
     assertEquals("1시간 30분 ", result.get(1).getTotalStudyTime());
+    assertEquals(2L, result.get(1).getRanking());
+    assertEquals(50.0, result.get(1).getPercent());
 
-    // Verify that the mock methods were called as expected
-    verify(totalStudyTimeRepository).findTop10ByOrderByTotalStudyTimeDesc();
-    verify(studyRepository).findById(1L);  // Check if the repository was called correctly
-    verify(studyRepository).findById(2L);
+    // 스터디 이름은 랭킹 쿼리에서 함께 조회
+    verify(totalStudyTimeRepository).findRanking(10);
+    verify(studyRepository, never()).findById(any());
   }
 
   @Test
   @DisplayName("전체 스터디 누적 학습시간 랭킹 조회 - 실패 (데이터 없음)")
   void testGetTotalStudyTimeRanking_NoData() {
     // Given
-    when(totalStudyTimeRepository.findTop10ByOrderByTotalStudyTimeDesc()).thenReturn(List.of());
+    when(totalStudyTimeRepository.findRanking(10)).thenReturn(List.of());
 
     // When
     List<TotalStudyTimeDto> result = totalStudyTimeService.getTotalStudyTimeRanking();
@@ -140,7 +144,71 @@ class TotalStudyTimeServiceTest {
     // Then
     assertNotNull(result);
     assertTrue(result.isEmpty());
-    verify(totalStudyTimeRepository).findTop10ByOrderByTotalStudyTimeDesc();
+    verify(totalStudyTimeRepository).findRanking(10);
+    verify(studyRepository, never()).findById(any());
+  }
+
+  @Test
+  @DisplayName("특정 스터디 누적 학습시간 조회 - 성공 (메모리 랭킹)")
+  void testGetTotalStudyTime_Success_FromRanking() {
+    // Given
+    Long studyId = 2L;
+    Study mockStudy = Study.builder().id(studyId).studyName("Python Study Group").build();
+
+    when(studyRepository.findById(studyId)).thenReturn(Optional.of(mockStudy));
+    when(studyTimeRanking.isReady()).thenReturn(true);
+    when(studyTimeRanking.getRank(studyId)).thenReturn(new RankedStudyTime(studyId, 5400L, 2L));
+    when(studyTimeRanking.getPercent(2L)).thenReturn(50.0);
+
+    // When
+    TotalStudyTimeDto result = totalStudyTimeService.getTotalStudyTime(studyId);
+
+    // Then
+    assertEquals(studyId, result.getStudyId());
+    assertEquals(2L, result.getRanking());
+    assertEquals(50.0, result.getPercent());
+    assertEquals("1시간 30분 ", result.getTotalStudyTime());
+    verify(totalStudyTimeRepository, never()).findAllByOrderByTotalStudyTimeDesc();
+    verify(totalStudyTimeRepository, never()).findById(any());
+  }
+
+  @Test
+  @DisplayName("전체 스터디 누적 학습시간 랭킹 조회 - 성공 (메모리 랭킹)")
+  void testGetTotalStudyTimeRanking_Success_FromRanking() {
+    // Given
+    when(studyTimeRanking.isReady()).thenReturn(true);
+    when(studyTimeRanking.getTop(10)).thenReturn(List.of(
+        new RankedStudyTime(1L, 7200L, 1L),
+        new RankedStudyTime(2L, 5400L, 2L)));
+    when(studyTimeRanking.getPercent(1L)).thenReturn(50.0);
+    when(studyTimeRanking.getPercent(2L)).thenReturn(100.0);
+    when(studyRepository.findAllByIdIn(List.of(1L, 2L))).thenReturn(
+        List.of(studyName(1L, "Java Study Group"), studyName(2L, "Python Study Group")));
+
+    // When
+    List<TotalStudyTimeDto> result = totalStudyTimeService.getTotalStudyTimeRanking();
+
+    // Then
+    assertEquals(2, result.size());
+    assertEquals("Java Study Group", result.get(0).getStudyName());
+    assertEquals(1L, result.get(0).getRanking());
+    assertEquals("Python Study Group", result.get(1).getStudyName());
+    assertEquals(100.0, result.get(1).getPercent());
+    verify(totalStudyTimeRepository, never()).findRanking(anyInt());
     verify(studyRepository, never()).findById(any());
   }
-}
\ No newline at end of file
+
+  private StudyName studyName(Long id, String name) {
+    return new StudyName() {
+      @Override
+      public Long getId() {
+        return id;
+      }
+
+      @Override
+      public String getStudyName() {
+        return name;
+      }
+    };
+  }
+}
@@ -0,0 +1,109 @@
+package com.devonoff.domain.totalstudytime.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StudyTimeRankingTest {
+
+  private StudyTimeRanking studyTimeRanking;
+
+  @BeforeEach
+  void setUp() {
+    studyTimeRanking = new StudyTimeRanking();
+  }
+
+  @DisplayName("순위 조회 - 누적 학습시간 내림차순, 동점이면 스터디 ID 오름차순")
+  @Test
+  void getRank_Success() {
+    // Given
+    studyTimeRanking.update(1L, 3600L);
+    studyTimeRanking.update(2L, 7200L);
+    studyTimeRanking.update(3L, 3600L);
+    studyTimeRanking.update(4L, 0L);
+
+    // When & Then
+    assertEquals(1L, studyTimeRanking.getRank(2L).getRanking());
+    assertEquals(2L, studyTimeRanking.getRank(1L).getRanking());
+    assertEquals(3L, studyTimeRanking.getRank(3L).getRanking());
+    assertEquals(4L, studyTimeRanking.getRank(4L).getRanking());
+    assertEquals(75.0, studyTimeRanking.getPercent(3L));
+    assertNull(studyTimeRanking.getRank(5L));
+  }
+
+  @DisplayName("순위 조회 - 누적 학습시간 갱신 / 삭제 반영")
+  @Test
+  void update_Success() {
+    // Given
+    studyTimeRanking.update(1L, 100L);
+    studyTimeRanking.update(2L, 200L);
+    studyTimeRanking.update(3L, 300L);
+
+    // When
+    studyTimeRanking.update(1L, 1000L);
+    studyTimeRanking.remove(3L);
+
+    // Then
+    assertEquals(1L, studyTimeRanking.getRank(1L).getRanking());
+    assertEquals(1000L, studyTimeRanking.getRank(1L).getTotalStudyTime());
+    assertEquals(2L, studyTimeRanking.getRank(2L).getRanking());
+    assertNull(studyTimeRanking.getRank(3L));
+    assertEquals(2, studyTimeRanking.size());
+  }
+
+  @DisplayName("전체 교체 - DB 기준으로 달라진 스터디만 갱신 / 삭제")
+  @Test
+  void replaceAll_Success() {
+    // Given
+    studyTimeRanking.update(1L, 100L);
+    studyTimeRanking.update(2L, 200L);
+    studyTimeRanking.update(3L, 300L);
+
+    // When
+    int changed = studyTimeRanking.replaceAll(Map.of(1L, 100L, 2L, 500L, 4L, 50L));
+
+    // Then
+    assertEquals(3, changed);
+    assertEquals(1L, studyTimeRanking.getRank(2L).getRanking());
+    assertEquals(2L, studyTimeRanking.getRank(1L).getRanking());
+    assertEquals(3L, studyTimeRanking.getRank(4L).getRanking());
+    assertNull(studyTimeRanking.getRank(3L));
+    assertEquals(0, studyTimeRanking.replaceAll(Map.of(1L, 100L, 2L, 500L, 4L, 50L)));
+  }
+
+  @DisplayName("상위 K 개 조회 - 전체 정렬 결과와 일치")
+  @Test
+  void getTop_Success_MatchesSort() {
+    // Given
+    Random random = new Random(42);
+    Map<Long, Long> studyTimes = new HashMap<>();
+    for (int i = 0; i < 2000; i++) {
+      long studyId = random.nextInt(500) + 1;
+      long seconds = random.nextInt(100) * 60L;
+      studyTimes.put(studyId, seconds);
+      studyTimeRanking.update(studyId, seconds);
+    }
+    List<Long> expected = new ArrayList<>(studyTimes.keySet());
+    expected.sort(Comparator.comparing((Long id) -> studyTimes.get(id)).reversed()
+        .thenComparing(Comparator.naturalOrder()));
+
+    // When
+    List<RankedStudyTime> top = studyTimeRanking.getTop(10);
+
+    // Then
+    assertEquals(expected.subList(0, 10),
+        top.stream().map(RankedStudyTime::getStudyId).toList());
+    for (int i = 0; i < expected.size(); i++) {
+      assertEquals(i + 1L, studyTimeRanking.getRank(expected.get(i)).getRanking());
+    }
+  }
+}
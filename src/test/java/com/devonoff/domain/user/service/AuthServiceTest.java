@@ -12,6 +12,8 @@ import static org.mockito.BDDMockito.willDoNothing;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import com.devonoff.domain.chat.util.ChatAccessCache;
+import com.devonoff.domain.chat.util.ChatSenderCache;
 import com.devonoff.domain.redis.repository.AuthRedisRepository;
 import com.devonoff.domain.student.entity.Student;
 import com.devonoff.domain.student.repository.StudentRepository;
@@ -76,6 +78,12 @@ class AuthServiceTest {
   @Mock
   private StudyPostRepository studyPostRepository;
 
+  @Mock
+  private ChatAccessCache chatAccessCache;
+
+  @Mock
+  private ChatSenderCache chatSenderCache;
+
   @Mock
   private EmailProvider emailProvider;
 
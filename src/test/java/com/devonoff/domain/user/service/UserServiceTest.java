@@ -10,6 +10,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import com.devonoff.domain.chat.util.ChatSenderCache;
 import com.devonoff.domain.photo.service.PhotoService;
 import com.devonoff.domain.user.dto.UserDto;
 import com.devonoff.domain.user.dto.UserUpdateRequest;
@@ -41,6 +42,9 @@ class UserServiceTest {
   @Mock
   private PhotoService photoService;
 
+  @Mock
+  private ChatSenderCache chatSenderCache;
+
   @Mock
   private UserRepository userRepository;
 
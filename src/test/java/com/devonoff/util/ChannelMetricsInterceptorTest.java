@@ -0,0 +1,38 @@
+package com.devonoff.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+
+class ChannelMetricsInterceptorTest {
+
+  @Test
+  @DisplayName("채널 처리 시간 측정 - 대기 시간 / 처리 시간을 메시지 타입별로 기록")
+  void recordsWaitAndHandleTime() {
+    // Given
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    ChannelMetricsInterceptor interceptor = new ChannelMetricsInterceptor("inbound",
+        meterRegistry);
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+    accessor.setLeaveMutable(true);
+    Message<byte[]> message = MessageBuilder.createMessage(new byte[0],
+        accessor.getMessageHeaders());
+
+    // When
+    Message<?> sent = interceptor.preSend(message, null);
+    interceptor.beforeHandle(sent, null, null);
+    interceptor.afterMessageHandled(sent, null, null, null);
+
+    // Then
+    assertThat(meterRegistry.timer("websocket.channel.wait", "channel", "inbound",
+        "type", "MESSAGE").count()).isEqualTo(1);
+    assertThat(meterRegistry.timer("websocket.channel.handle", "channel", "inbound",
+        "type", "MESSAGE").count()).isEqualTo(1);
+  }
+}
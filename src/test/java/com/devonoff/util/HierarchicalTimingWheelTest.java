@@ -0,0 +1,54 @@
+package com.devonoff.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HierarchicalTimingWheelTest {
+
+  @Test
+  @DisplayName("만료 - 상위 휠에 들어간 작업도 만료 시각 전에는 반환하지 않음")
+  void advance_NeverFiresEarly() {
+    // Given
+    HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(100, 8, 0);
+    long[] deadlines = {50, 150, 799, 800, 5_000, 123_456, 3_600_000};
+    for (long deadline : deadlines) {
+      wheel.add(deadline, deadline);
+    }
+
+    // When
+    List<Long> fired = new ArrayList<>();
+    for (long now = 0; now <= 3_700_000; now += 100) {
+      for (Long deadline : wheel.advance(now)) {
+        // Then
+        assertThat(deadline).isLessThan(now);
+        assertThat(now - deadline).isLessThanOrEqualTo(100);
+        fired.add(deadline);
+      }
+    }
+
+    assertThat(fired).containsExactly(50L, 150L, 799L, 800L, 5_000L, 123_456L, 3_600_000L);
+    assertThat(wheel.size()).isZero();
+  }
+
+  @Test
+  @DisplayName("만료 - 같은 tick 의 작업은 한 번에 반환, 지난 시각은 예약하지 않음")
+  void advance_SameTickInBulk() {
+    // Given
+    HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(100, 8, 1_000);
+
+    // When
+    boolean past = wheel.add(900, "past");
+    wheel.add(60_010, "room-2");
+    wheel.add(60_000, "room-1");
+    wheel.add(60_050, "room-3");
+
+    // Then
+    assertThat(past).isFalse();
+    assertThat(wheel.advance(60_000)).isEmpty();
+    assertThat(wheel.advance(60_100)).containsExactly("room-1", "room-2", "room-3");
+  }
+}
@@ -0,0 +1,96 @@
+package com.devonoff.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+
+class InMemoryBrokerFanoutTest {
+
+  @Test
+  @DisplayName("메시지 전파 - 연결된 다른 노드에만 전달")
+  void publish_DeliversToOtherNodes() {
+    // Given
+    InMemoryBrokerFanout node1 = new InMemoryBrokerFanout(new SimpleMeterRegistry(), 0, 100);
+    InMemoryBrokerFanout node2 = node1.connect();
+    List<BrokerBatch> received1 = new CopyOnWriteArrayList<>();
+    List<BrokerBatch> received2 = new CopyOnWriteArrayList<>();
+    node1.subscribe(received1::add);
+    node2.subscribe(received2::add);
+
+    // When
+    node1.publish("/topic/chat/1", "application/json", bytes("hello"));
+
+    // Then
+    assertThat(received1).isEmpty();
+    assertThat(received2).hasSize(1);
+    assertThat(received2.get(0).getDestination()).isEqualTo("/topic/chat/1");
+    assertThat(new String(received2.get(0).getPayloads().get(0), StandardCharsets.UTF_8))
+        .isEqualTo("hello");
+  }
+
+  @Test
+  @DisplayName("메시지 전파 - 목적지별로 순서를 유지해 묶어서 전송")
+  void publish_BatchesPerDestination() {
+    // Given
+    InMemoryBrokerFanout node1 = new InMemoryBrokerFanout(new SimpleMeterRegistry(), 60_000, 100);
+    InMemoryBrokerFanout node2 = node1.connect();
+    List<BrokerBatch> received = new CopyOnWriteArrayList<>();
+    node2.subscribe(received::add);
+
+    // When
+    node1.publish("/topic/chat/1", "application/json", bytes("1"));
+    node1.publish("/topic/chat/2", "application/json", bytes("a"));
+    node1.publish("/topic/chat/1", "application/json", bytes("2"));
+    node1.publish("/topic/chat/1", "application/json", bytes("3"));
+    assertThat(received).isEmpty();
+    node1.destroy(); // 종료 시 남은 묶음 전송
+
+    // Then
+    assertThat(received).hasSize(2);
+    assertThat(received.get(0).getDestination()).isEqualTo("/topic/chat/1");
+    assertThat(received.get(0).getPayloads()).extracting(payload -> new String(payload,
+        StandardCharsets.UTF_8)).containsExactly("1", "2", "3");
+    node2.destroy();
+  }
+
+  @Test
+  @DisplayName("인터셉터 - 다른 노드에서 전파받은 메시지는 다시 전파하지 않음")
+  void interceptor_SkipsRelayedMessages() {
+    // Given
+    InMemoryBrokerFanout node1 = new InMemoryBrokerFanout(new SimpleMeterRegistry(), 0, 100);
+    InMemoryBrokerFanout node2 = node1.connect();
+    List<BrokerBatch> received = new CopyOnWriteArrayList<>();
+    node2.subscribe(received::add);
+    BrokerFanoutInterceptor interceptor = new BrokerFanoutInterceptor(node1);
+
+    // When
+    interceptor.preSend(topicMessage("/topic/chat/1", false), null);
+    interceptor.preSend(topicMessage("/topic/chat/1", true), null);
+    interceptor.preSend(topicMessage("/app/chat/1/send-messages", false), null);
+
+    // Then
+    assertThat(received).hasSize(1);
+  }
+
+  private Message<byte[]> topicMessage(String destination, boolean relayed) {
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+    accessor.setDestination(destination);
+    if (relayed) {
+      accessor.setHeader(BrokerFanout.RELAYED_HEADER, Boolean.TRUE);
+    }
+    return MessageBuilder.createMessage(bytes("payload"), accessor.getMessageHeaders());
+  }
+
+  private byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+}